@@ -0,0 +1,108 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gerador de carga HTTP em arquivo único (java CargaHttp.java), usado por benchmark-threads.sh.
+ *
+ * Cada cliente é uma thread virtual em laço fechado: envia a requisição, aguarda a resposta e
+ * envia a próxima. Os caminhos recebidos são sorteados por requisição e podem conter {n}, trocado
+ * por um número aleatório (para evitar caches). Ao final imprime vazão e p50/p99 por caminho.
+ *
+ * Uso: java CargaHttp.java URL_BASE CLIENTES SEGUNDOS CAMINHO [CAMINHO...]
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class CargaHttp {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Uso: java CargaHttp.java URL_BASE CLIENTES SEGUNDOS CAMINHO [CAMINHO...]");
+            System.exit(1);
+        }
+        String base = args[0];
+        int clientes = Integer.parseInt(args[1]);
+        Duration duracao = Duration.ofSeconds(Long.parseLong(args[2]));
+        List<String> caminhos = Arrays.asList(args).subList(3, args.length);
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Map<String, List<Long>> latencias = new ConcurrentHashMap<>();
+        Map<Integer, Long> status = new ConcurrentHashMap<>();
+        AtomicBoolean executando = new AtomicBoolean(true);
+
+        long inicio = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clientes; i++) {
+                executor.submit(() -> {
+                    Map<String, List<Long>> locais = new TreeMap<>();
+                    while (executando.get()) {
+                        String caminho = caminhos.get(ThreadLocalRandom.current().nextInt(caminhos.size()));
+                        String uri = base + caminho.replace("{n}",
+                                String.valueOf(ThreadLocalRandom.current().nextInt(1_000_000)));
+                        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(uri))
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long antes = System.nanoTime();
+                        int codigo;
+                        try {
+                            codigo = http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            codigo = -1;
+                        }
+                        if (executando.get()) {
+                            locais.computeIfAbsent(caminho, c -> new ArrayList<>()).add(System.nanoTime() - antes);
+                            status.merge(codigo, 1L, Long::sum);
+                        }
+                    }
+                    locais.forEach((caminho, valores) -> latencias
+                            .computeIfAbsent(caminho, c -> Collections.synchronizedList(new ArrayList<>()))
+                            .addAll(valores));
+                    return null;
+                });
+            }
+            Thread.sleep(duracao);
+            executando.set(false);
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        List<Long> todas = new ArrayList<>();
+        System.out.printf("%-45s %10s %10s %10s %10s%n", "caminho", "req/s", "p50 ms", "p99 ms", "máx ms");
+        new TreeMap<>(latencias).forEach((caminho, valores) -> {
+            todas.addAll(valores);
+            imprimir(caminho, valores, segundos);
+        });
+        imprimir("total", todas, segundos);
+        System.out.println("status: " + new TreeMap<>(status));
+    }
+
+    private static void imprimir(String rotulo, List<Long> valores, double segundos) {
+        long[] ordenadas = valores.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (ordenadas.length == 0) {
+            System.out.printf("%-45s %10s%n", rotulo, "sem respostas");
+            return;
+        }
+        System.out.printf("%-45s %10.0f %10.1f %10.1f %10.1f%n", rotulo, ordenadas.length / segundos,
+                percentil(ordenadas, 0.50), percentil(ordenadas, 0.99), ordenadas[ordenadas.length - 1] / 1e6);
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1e6;
+    }
+}
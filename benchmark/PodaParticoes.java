@@ -0,0 +1,217 @@
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compara as consultas por tipo de documento na tabela de cooperados sem partição e particionada
+ * por tipo_documento (V12), em arquivo único (java PodaParticoes.java), usado por
+ * benchmark-particoes.sh.
+ *
+ * Cria o schema benchmark_particoes com as duas versões da tabela, carregadas com as mesmas
+ * linhas (1 a cada 5 pessoa jurídica, 1 a cada 10 inativo) e os índices usados pelas consultas.
+ * Para cada consulta mostra o plano com EXPLAIN (ANALYZE, BUFFERS), onde aparecem as partições
+ * lidas e as descartadas ("Subplans Removed"), e a latência p50/p99 das execuções repetidas pelo
+ * mesmo PreparedStatement, como faz a aplicação (após algumas execuções o PostgreSQL pode usar
+ * o plano genérico, em que a poda acontece no início da execução). O schema é removido ao final.
+ *
+ * Uso: java -cp postgresql.jar PodaParticoes.java URL_JDBC USUARIO SENHA [LINHAS] [REPETICOES]
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class PodaParticoes {
+
+    private static final String SCHEMA = "benchmark_particoes";
+
+    private static final String COLUNAS = """
+            id BIGINT NOT NULL,
+            nome VARCHAR(255) NOT NULL,
+            documento_cpf VARCHAR(11),
+            documento_cnpj VARCHAR(14),
+            tipo_documento VARCHAR(4) NOT NULL,
+            data_nascimento_constituicao DATE NOT NULL,
+            renda_faturamento DECIMAL(15,2) NOT NULL,
+            telefone VARCHAR(11) NOT NULL,
+            email VARCHAR(255),
+            ativo BOOLEAN NOT NULL,
+            data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            data_atualizacao TIMESTAMP,
+            versao BIGINT NOT NULL,
+            documento_numero VARCHAR(14) GENERATED ALWAYS AS (COALESCE(documento_cpf, documento_cnpj)) STORED
+            """;
+
+    /**
+     * Consultas geradas pelo Hibernate para countByTipoDocumento, findByTipoDocumento e
+     * existsByDocumento; %s é a tabela
+     */
+    private static final List<Consulta> CONSULTAS = List.of(
+            new Consulta("countByTipoDocumento(CNPJ)",
+                    "SELECT count(*) FROM %s WHERE tipo_documento = ? AND ativo = true", "CNPJ"),
+            new Consulta("countByTipoDocumento(CPF)",
+                    "SELECT count(*) FROM %s WHERE tipo_documento = ? AND ativo = true", "CPF"),
+            new Consulta("findByTipoDocumento(CNPJ)",
+                    "SELECT * FROM %s WHERE tipo_documento = ? AND ativo = true", "CNPJ"),
+            new Consulta("existsByDocumento(CPF)",
+                    "SELECT count(*) > 0 FROM %s WHERE documento_numero = ? AND ativo = true " +
+                    "AND tipo_documento = CASE WHEN length(?) = 11 THEN 'CPF' ELSE 'CNPJ' END",
+                    "00000000001", "00000000001"));
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Uso: java -cp postgresql.jar PodaParticoes.java URL_JDBC USUARIO SENHA [LINHAS] [REPETICOES]");
+            System.exit(1);
+        }
+        int linhas = args.length > 3 ? Integer.parseInt(args[3]) : 500_000;
+        int repeticoes = args.length > 4 ? Integer.parseInt(args[4]) : 50;
+
+        try (Connection conexao = DriverManager.getConnection(args[0], args[1], args[2])) {
+            try {
+                criarTabelas(conexao, linhas);
+                for (Consulta consulta : CONSULTAS) {
+                    System.out.println("=== " + consulta.rotulo());
+                    for (String tabela : List.of("sem_particao", "particionada")) {
+                        medir(conexao, consulta, SCHEMA + "." + tabela, tabela, repeticoes);
+                    }
+                    System.out.println();
+                }
+            } finally {
+                executar(conexao, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private static void criarTabelas(Connection conexao, int linhas) throws SQLException, InterruptedException {
+        System.out.printf("Carregando %d cooperados em %s.sem_particao e %s.particionada...%n%n",
+                linhas, SCHEMA, SCHEMA);
+        executar(conexao, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        executar(conexao, "CREATE SCHEMA " + SCHEMA);
+
+        // Tabela e índices como antes de V12
+        executar(conexao, "CREATE TABLE " + SCHEMA + ".sem_particao (" + COLUNAS + ", PRIMARY KEY (id))");
+        executar(conexao, "INSERT INTO " + SCHEMA + ".sem_particao (id, nome, tipo_documento, documento_cpf, " +
+                "documento_cnpj, data_nascimento_constituicao, renda_faturamento, telefone, ativo, versao) " +
+                "SELECT g, 'Cooperado ' || g, " +
+                "CASE WHEN g % 5 = 0 THEN 'CNPJ' ELSE 'CPF' END, " +
+                "CASE WHEN g % 5 = 0 THEN NULL ELSE lpad(g::text, 11, '0') END, " +
+                "CASE WHEN g % 5 = 0 THEN lpad(g::text, 14, '0') END, " +
+                "DATE '1950-01-01' + g % 20000, (g % 5000) + 1, '11987654321', g % 10 <> 0, 0 " +
+                "FROM generate_series(1, " + linhas + ") g");
+        executar(conexao, "CREATE INDEX ON " + SCHEMA + ".sem_particao (tipo_documento) WHERE ativo = true");
+        executar(conexao, "CREATE UNIQUE INDEX ON " + SCHEMA + ".sem_particao (documento_numero) WHERE ativo = true");
+
+        // Tabela e índices como em V12
+        executar(conexao, "CREATE TABLE " + SCHEMA + ".particionada (" + COLUNAS + ", PRIMARY KEY (id, tipo_documento)) " +
+                "PARTITION BY LIST (tipo_documento)");
+        executar(conexao, "CREATE TABLE " + SCHEMA + ".particionada_pessoa_fisica PARTITION OF " + SCHEMA +
+                ".particionada FOR VALUES IN ('CPF')");
+        executar(conexao, "CREATE TABLE " + SCHEMA + ".particionada_pessoa_juridica PARTITION OF " + SCHEMA +
+                ".particionada FOR VALUES IN ('CNPJ')");
+        executar(conexao, "INSERT INTO " + SCHEMA + ".particionada (id, nome, tipo_documento, documento_cpf, " +
+                "documento_cnpj, data_nascimento_constituicao, renda_faturamento, telefone, ativo, versao) " +
+                "SELECT id, nome, tipo_documento, documento_cpf, documento_cnpj, data_nascimento_constituicao, " +
+                "renda_faturamento, telefone, ativo, versao FROM " + SCHEMA + ".sem_particao");
+        executar(conexao, "CREATE INDEX ON " + SCHEMA + ".particionada (tipo_documento) WHERE ativo = true");
+        executar(conexao, "CREATE UNIQUE INDEX ON " + SCHEMA + ".particionada (documento_numero, tipo_documento) " +
+                "WHERE ativo = true");
+
+        vacuumAteTodasPaginasVisiveis(conexao);
+
+        try (Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT c.relname, pg_size_pretty(pg_table_size(c.oid)) " +
+                     "FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                     "WHERE n.nspname = '" + SCHEMA + "' AND c.relkind = 'r' ORDER BY c.relname")) {
+            while (rs.next()) {
+                System.out.printf("%-30s %10s%n", rs.getString(1), rs.getString(2));
+            }
+        }
+        System.out.println();
+    }
+
+    /**
+     * VACUUM até o visibility map cobrir todas as tabelas, para que as duas versões tenham
+     * index-only scans nas mesmas condições (snapshots de outras sessões podem atrasar a marcação)
+     */
+    private static void vacuumAteTodasPaginasVisiveis(Connection conexao) throws SQLException, InterruptedException {
+        for (int tentativa = 0; tentativa < 50; tentativa++) {
+            executar(conexao, "VACUUM ANALYZE " + SCHEMA + ".sem_particao");
+            executar(conexao, "VACUUM ANALYZE " + SCHEMA + ".particionada");
+            try (Statement statement = conexao.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT bool_and(c.relallvisible >= c.relpages) " +
+                         "FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                         "WHERE n.nspname = '" + SCHEMA + "' AND c.relkind = 'r'")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    return;
+                }
+            }
+            Thread.sleep(100);
+        }
+        System.out.println("Aviso: VACUUM não marcou todas as páginas como visíveis; index-only scans podem ler o heap");
+    }
+
+    private static void medir(Connection conexao, Consulta consulta, String tabela, String rotulo, int repeticoes)
+            throws SQLException {
+        String sql = consulta.sql().formatted(tabela);
+
+        List<String> plano = new ArrayList<>();
+        try (PreparedStatement explain = conexao.prepareStatement(
+                "EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY OFF) " + sql)) {
+            vincular(explain, consulta.parametros());
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    plano.add(rs.getString(1));
+                }
+            }
+        }
+
+        long[] latencias = new long[repeticoes];
+        try (PreparedStatement statement = conexao.prepareStatement(sql)) {
+            vincular(statement, consulta.parametros());
+            for (int i = -10; i < repeticoes; i++) {
+                long antes = System.nanoTime();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        // Lê todas as linhas, como o repositório
+                    }
+                }
+                if (i >= 0) {
+                    latencias[i] = System.nanoTime() - antes;
+                }
+            }
+        }
+        java.util.Arrays.sort(latencias);
+
+        System.out.printf("-- %-13s p50 %8.2f ms   p99 %8.2f ms%n", rotulo,
+                percentil(latencias, 0.50), percentil(latencias, 0.99));
+        plano.forEach(linha -> System.out.println("   " + linha));
+    }
+
+    private static void vincular(PreparedStatement statement, List<String> parametros) throws SQLException {
+        for (int i = 0; i < parametros.size(); i++) {
+            statement.setString(i + 1, parametros.get(i));
+        }
+    }
+
+    private static void executar(Connection conexao, String sql) throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1e6;
+    }
+
+    private record Consulta(String rotulo, String sql, List<String> parametros) {
+
+        Consulta(String rotulo, String sql, String... parametros) {
+            this(rotulo, sql, List.of(parametros));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+#!/bin/bash
+
+# Compara as consultas por tipo de documento com e sem particionamento da tabela de cooperados
+# Uso: ./benchmark/benchmark-particoes.sh [linhas] [repeticoes]
+#
+# Requer o PostgreSQL da aplicação em execução (make postgres). As tabelas de comparação são
+# criadas no schema benchmark_particoes, removido ao final, sem alterar os dados da aplicação.
+# Conexão configurável por DB_URL, DB_USUARIO e DB_SENHA (padrão: a de application.yml).
+
+set -e
+
+LINHAS=${1:-500000}
+REPETICOES=${2:-50}
+DB_URL=${DB_URL:-jdbc:postgresql://localhost:5432/cooperados_db}
+DB_USUARIO=${DB_USUARIO:-cooperados_user}
+DB_SENHA=${DB_SENHA:-cooperados_pass}
+DIRETORIO=$(cd "$(dirname "$0")/.." && pwd)
+
+DRIVER=$(cd "$DIRETORIO" && mvn -B -q dependency:build-classpath \
+    -Dmdep.includeArtifactIds=postgresql -Dmdep.outputFile=/dev/stdout)
+
+java -cp "$DRIVER" "${DIRETORIO}/benchmark/PodaParticoes.java" "$DB_URL" "$DB_USUARIO" "$DB_SENHA" "$LINHAS" "$REPETICOES"
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# Compara vazão e p50/p99 da API com threads de plataforma e com threads virtuais
+# Uso: ./benchmark/benchmark-threads.sh [clientes] [segundos]
+#
+# Requer o PostgreSQL da aplicação em execução (make postgres). O jar é gerado se não existir
+# e cada modo sobe em uma porta separada (PORTA, padrão 8090), sem afetar a instância local.
+# A carga mistura buscas por nome, que dependem do banco, com leituras por ID servidas do cache.
+
+set -e
+
+CLIENTES=${1:-400}
+SEGUNDOS=${2:-30}
+AQUECIMENTO=${AQUECIMENTO:-10}
+PORTA=${PORTA:-8090}
+URL="http://localhost:${PORTA}"
+DIRETORIO=$(cd "$(dirname "$0")/.." && pwd)
+JAR="${DIRETORIO}/target/cooperados-api-1.0.0.jar"
+CAMINHOS=(
+    "/api/v1/cooperados/busca?nome=silva{n}"
+    "/api/v1/cooperados/busca?nome=oliveira"
+    "/api/v1/cooperados/1"
+    "/api/v1/cooperados/2"
+)
+
+if [ ! -f "$JAR" ]; then
+    (cd "$DIRETORIO" && mvn -B -q package -DskipTests)
+fi
+
+metrica() {
+    curl -s "${URL}/actuator/metrics/$1" | sed -n 's/.*"value":\([0-9.E]*\).*/\1/p'
+}
+
+executar() {
+    local modo=$1
+    local virtuais=$2
+
+    echo "=== Threads ${modo} (spring.threads.virtual.enabled=${virtuais}) ==="
+    java -jar "$JAR" --server.port="$PORTA" --spring.threads.virtual.enabled="$virtuais" \
+        > "/tmp/benchmark-threads-${modo}.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null" EXIT
+
+    for _ in $(seq 1 60); do
+        curl -sf "${URL}/actuator/health" > /dev/null && break
+        sleep 1
+    done
+
+    java "${DIRETORIO}/benchmark/CargaHttp.java" "$URL" "$CLIENTES" "$AQUECIMENTO" "${CAMINHOS[@]}" > /dev/null
+    java "${DIRETORIO}/benchmark/CargaHttp.java" "$URL" "$CLIENTES" "$SEGUNDOS" "${CAMINHOS[@]}"
+
+    echo "threads da JVM (pico): $(metrica jvm.threads.peak)"
+    if [ "$virtuais" = "true" ]; then
+        echo "conexões rejeitadas pelo limitador: $(metrica cooperados.conexoes.rejeitadas)"
+        echo "fixações de threads virtuais: $(metrica cooperados.threads.virtuais.fixacoes)"
+    fi
+    echo
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+executar plataforma false
+executar virtuais true
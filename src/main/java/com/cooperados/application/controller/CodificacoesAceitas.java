@@ -0,0 +1,60 @@
+package com.cooperados.application.controller;
+
+import java.util.Locale;
+
+/**
+ * Interpretação do cabeçalho Accept-Encoding (RFC 9110 12.5.3), com os pesos q de cada
+ * codificação
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+final class CodificacoesAceitas {
+
+    private CodificacoesAceitas() {
+    }
+
+    /**
+     * Se o cliente aceita gzip: listado (gzip ou x-gzip) com q maior que zero, ou coberto por
+     * {@code *} com q maior que zero quando não listado. Sem o cabeçalho, responde sem compactar.
+     */
+    static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double pesoGzip = null;
+        Double pesoQualquer = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim().toLowerCase(Locale.ROOT);
+            double peso = peso(partes);
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                pesoGzip = pesoGzip == null ? peso : Math.max(pesoGzip, peso);
+            } else if (codificacao.equals("*")) {
+                pesoQualquer = peso;
+            }
+        }
+        if (pesoGzip != null) {
+            return pesoGzip > 0;
+        }
+        return pesoQualquer != null && pesoQualquer > 0;
+    }
+
+    /**
+     * Peso q da codificação (1 se ausente); valores inválidos valem 0, não aceitando a codificação
+     */
+    private static double peso(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim();
+            if (parametro.length() > 2 && Character.toLowerCase(parametro.charAt(0)) == 'q' && parametro.charAt(1) == '=') {
+                try {
+                    double peso = Double.parseDouble(parametro.substring(2).trim());
+                    return peso >= 0 && peso <= 1 ? peso : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -2,18 +2,31 @@ package com.cooperados.application.controller;
 
 import com.cooperados.application.dto.*;
 import com.cooperados.application.service.CooperadoApplicationService;
+import com.cooperados.application.service.CooperadoExportService;
+import com.cooperados.application.service.CooperadoExportService.FormatoExportacao;
+import com.cooperados.application.service.RespostasSerializadas;
+import com.cooperados.domain.repository.ContagemPorDdd;
+import com.cooperados.domain.repository.VersaoCooperado;
 import com.cooperados.domain.valueobject.Documento;
 import com.cooperados.infrastructure.exception.CooperadoNaoEncontradoException;
 import com.cooperados.infrastructure.exception.DocumentoJaExisteException;
+import com.cooperados.infrastructure.exception.PrecondicaoFalhouException;
+import com.cooperados.infrastructure.exception.VersaoDesatualizadaException;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controller REST para operações de cooperado
@@ -27,9 +40,15 @@ import java.util.List;
 public class CooperadoController {
 
     private final CooperadoApplicationService cooperadoApplicationService;
+    private final CooperadoExportService cooperadoExportService;
+    private final RespostasSerializadas respostasSerializadas;
 
-    public CooperadoController(CooperadoApplicationService cooperadoApplicationService) {
+    public CooperadoController(CooperadoApplicationService cooperadoApplicationService,
+                               CooperadoExportService cooperadoExportService,
+                               RespostasSerializadas respostasSerializadas) {
         this.cooperadoApplicationService = cooperadoApplicationService;
+        this.cooperadoExportService = cooperadoExportService;
+        this.respostasSerializadas = respostasSerializadas;
     }
 
     /**
@@ -46,29 +65,67 @@ public class CooperadoController {
         }
     }
 
+    /**
+     * POST /api/v1/cooperados/lote
+     * Cria vários cooperados em uma única transação
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<List<CooperadoResponse>> criarCooperadosEmLote(
+            @Valid @RequestBody CriarCooperadosEmLoteRequest request) {
+        try {
+            List<CooperadoResponse> response = cooperadoApplicationService.criarCooperadosEmLote(request.getCooperados());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (DocumentoJaExisteException e) {
+            throw e; // Será tratado pelo GlobalExceptionHandler
+        }
+    }
+
     /**
      * GET /api/v1/cooperados/{id}
-     * Busca cooperado por ID
+     * Busca cooperado por ID, com ETag forte derivada da versão. Com If-None-Match, só a versão
+     * é consultada e, se não mudou, responde 304 sem carregar o cooperado. O corpo é escrito a
+     * partir do JSON já serializado em cache para a versão.
      */
-    @GetMapping("/{id}")
-    public ResponseEntity<CooperadoResponse> buscarPorId(@PathVariable Long id) {
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> buscarPorId(@PathVariable Long id, WebRequest webRequest) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && naoModificado(cooperadoApplicationService.buscarVersaoPorId(id), ifNoneMatch, webRequest)) {
+            return null;
+        }
         try {
             CooperadoResponse response = cooperadoApplicationService.buscarPorId(id);
-            return ResponseEntity.ok(response);
+            return corpoSerializado(response, webRequest);
         } catch (CooperadoNaoEncontradoException e) {
             throw e; // Será tratado pelo GlobalExceptionHandler
         }
     }
 
+    /**
+     * POST /api/v1/cooperados/lookup
+     * Busca vários cooperados por ID e/ou documento em uma única requisição
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ConsultaLoteResponse> buscarEmLote(@Valid @RequestBody ConsultaLoteRequest request) {
+        ConsultaLoteResponse response = cooperadoApplicationService.buscarEmLote(
+                request.getIds(), request.getDocumentos());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/v1/cooperados/documento/{documento}
-     * Busca cooperado por documento (CPF/CNPJ)
+     * Busca cooperado por documento (CPF/CNPJ), com a mesma revalidação por ETag da busca por ID
      */
-    @GetMapping("/documento/{documento}")
-    public ResponseEntity<CooperadoResponse> buscarPorDocumento(@PathVariable String documento) {
+    @GetMapping(value = "/documento/{documento}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> buscarPorDocumento(@PathVariable String documento,
+                                                                WebRequest webRequest) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null
+                && naoModificado(cooperadoApplicationService.buscarVersaoPorDocumento(documento), ifNoneMatch, webRequest)) {
+            return null;
+        }
         try {
             CooperadoResponse response = cooperadoApplicationService.buscarPorDocumento(documento);
-            return ResponseEntity.ok(response);
+            return corpoSerializado(response, webRequest);
         } catch (CooperadoNaoEncontradoException e) {
             throw e; // Será tratado pelo GlobalExceptionHandler
         }
@@ -77,21 +134,49 @@ public class CooperadoController {
     /**
      * GET /api/v1/cooperados
      * Lista todos os cooperados com paginação
+     *
+     * Com {@code cursor=true} ou {@code after=<token>} usa paginação por cursor (keyset),
+     * que não degrada em páginas profundas e não calcula totais.
      */
     @GetMapping
     public ResponseEntity<PaginatedResponse<CooperadoListResponse>> listarCooperados(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "id") String sort,
-            @RequestParam(defaultValue = "asc") String direction) {
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(required = false) String after) {
 
         Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
+
+        if (cursor || after != null) {
+            return ResponseEntity.ok(
+                    cooperadoApplicationService.listarCooperadosPorCursor(sort, sortDirection, size, after));
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
         PaginatedResponse<CooperadoListResponse> response = cooperadoApplicationService.listarCooperados(pageable);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/v1/cooperados/busca?nome=
+     * Busca cooperados ativos por nome, sem distinção de acentos e maiúsculas
+     */
+    @GetMapping("/busca")
+    public ResponseEntity<PaginatedResponse<CooperadoListResponse>> buscarPorNome(
+            @RequestParam String nome,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        // A ordenação por similaridade é definida na própria consulta
+        Pageable pageable = PageRequest.of(page, size);
+
+        PaginatedResponse<CooperadoListResponse> response = cooperadoApplicationService.buscarPorNome(nome, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/v1/cooperados/tipo/{tipo}
      * Lista cooperados por tipo de documento
@@ -108,6 +193,22 @@ public class CooperadoController {
         }
     }
 
+    /**
+     * GET /api/v1/cooperados/ddd/{ddd}
+     * Lista cooperados ativos por DDD do telefone com paginação
+     */
+    @GetMapping("/ddd/{ddd}")
+    public ResponseEntity<PaginatedResponse<CooperadoListResponse>> listarPorDdd(
+            @PathVariable String ddd,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+
+        PaginatedResponse<CooperadoListResponse> response = cooperadoApplicationService.listarPorDdd(ddd, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/v1/cooperados/ativos
      * Lista apenas cooperados ativos
@@ -118,19 +219,57 @@ public class CooperadoController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/v1/cooperados/exportar?formato=ndjson|csv
+     * Exporta todos os cooperados ativos em streaming, com uso de memória constante
+     */
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarCooperados(
+            @RequestParam(defaultValue = "ndjson") String formato) {
+        try {
+            FormatoExportacao formatoExportacao = FormatoExportacao.valueOf(formato.toUpperCase());
+
+            MediaType mediaType = formatoExportacao == FormatoExportacao.CSV
+                    ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                    : MediaType.parseMediaType("application/x-ndjson");
+            String arquivo = "cooperados." + formatoExportacao.name().toLowerCase();
+
+            StreamingResponseBody body = saida -> cooperadoExportService.exportar(formatoExportacao, saida);
+            return ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + arquivo + "\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * PUT /api/v1/cooperados/{id}
-     * Atualiza um cooperado existente
+     * Atualiza um cooperado existente. Com If-Match, a versão da ETag tem precedência sobre a do
+     * corpo e a gravação só ocorre se ainda for a atual; caso contrário responde 412.
      */
     @PutMapping("/{id}")
     public ResponseEntity<CooperadoResponse> atualizarCooperado(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody AtualizarCooperadoRequest request) {
+        if (ifMatch != null) {
+            Long versaoExigida = EtagCooperado.versaoExigida(id, ifMatch);
+            if (versaoExigida != null) {
+                request.setVersao(versaoExigida);
+            }
+        }
         try {
             CooperadoResponse response = cooperadoApplicationService.atualizarCooperado(id, request);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(EtagCooperado.de(response)).body(response);
         } catch (CooperadoNaoEncontradoException e) {
             throw e; // Será tratado pelo GlobalExceptionHandler
+        } catch (VersaoDesatualizadaException e) {
+            if (ifMatch != null) {
+                throw new PrecondicaoFalhouException(e.getMessage(), e);
+            }
+            throw e;
         }
     }
 
@@ -187,6 +326,15 @@ public class CooperadoController {
         }
     }
 
+    /**
+     * GET /api/v1/cooperados/contar/ddd
+     * Conta cooperados ativos por DDD do telefone
+     */
+    @GetMapping("/contar/ddd")
+    public ResponseEntity<List<ContagemPorDdd>> contarPorDdd() {
+        return ResponseEntity.ok(cooperadoApplicationService.contarPorDdd());
+    }
+
     /**
      * GET /api/v1/cooperados/health
      * Endpoint de saúde da API
@@ -195,4 +343,32 @@ public class CooperadoController {
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Cooperados API está funcionando!");
     }
+
+    /**
+     * Responde 304 se o If-None-Match contém a ETag da versão atual, do corpo em gzip ou não
+     */
+    private static boolean naoModificado(Optional<VersaoCooperado> versao, String ifNoneMatch, WebRequest webRequest) {
+        String etag = versao.map(atual -> EtagCooperado.correspondente(ifNoneMatch, atual)).orElse(null);
+        return etag != null && webRequest.checkNotModified(etag);
+    }
+
+    /**
+     * Resposta com o corpo JSON pré-serializado do cooperado, em gzip se disponível e aceito
+     * (com q maior que zero), cada codificação com sua ETag
+     */
+    private ResponseEntity<byte[]> corpoSerializado(CooperadoResponse cooperado, WebRequest webRequest) {
+        RespostasSerializadas.Resposta resposta = respostasSerializadas.obter(cooperado);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (resposta.gzip() != null) {
+            builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (CodificacoesAceitas.aceitaGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                return builder.eTag(EtagCooperado.deGzip(cooperado))
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .body(resposta.gzip());
+            }
+        }
+        return builder.eTag(EtagCooperado.de(cooperado)).body(resposta.json());
+    }
 }
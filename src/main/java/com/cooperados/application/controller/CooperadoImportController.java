@@ -0,0 +1,50 @@
+package com.cooperados.application.controller;
+
+import com.cooperados.application.dto.ImportacaoResponse;
+import com.cooperados.application.service.CooperadoImportService;
+import com.cooperados.application.service.CooperadoImportService.FormatoImportacao;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * Controller REST para a importação em massa de cooperados, registrado apenas com
+ * app.importacao.enabled (padrão)
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/cooperados")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(prefix = "app.importacao", name = "enabled", matchIfMissing = true)
+public class CooperadoImportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final CooperadoImportService cooperadoImportService;
+
+    public CooperadoImportController(CooperadoImportService cooperadoImportService) {
+        this.cooperadoImportService = cooperadoImportService;
+    }
+
+    /**
+     * POST /api/v1/cooperados/importar
+     * Importa cooperados em massa a partir de um CSV (text/csv) ou NDJSON (application/x-ndjson)
+     */
+    @PostMapping(value = "/importar", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportacaoResponse> importarCooperados(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream corpo) {
+        FormatoImportacao formato = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                ? FormatoImportacao.CSV
+                : FormatoImportacao.NDJSON;
+
+        ImportacaoResponse response = cooperadoImportService.importar(formato, corpo);
+        return ResponseEntity.ok(response);
+    }
+}
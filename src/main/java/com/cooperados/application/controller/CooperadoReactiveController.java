@@ -0,0 +1,73 @@
+package com.cooperados.application.controller;
+
+import com.cooperados.application.dto.CooperadoListResponse;
+import com.cooperados.application.dto.CooperadoResponse;
+import com.cooperados.application.service.CooperadoReativoService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller WebFlux com as consultas de cooperado, servido pelo Reactor Netty na porta
+ * app.reativo.porta (ver {@link com.cooperados.infrastructure.config.ServidorReativo})
+ *
+ * Mesmos caminhos e formatos de resposta das consultas de {@link CooperadoController}, mas sem
+ * ocupar thread por requisição: o banco é acessado via R2DBC.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/cooperados")
+@CrossOrigin(origins = "*")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CooperadoReactiveController {
+
+    private final CooperadoReativoService cooperadoReativoService;
+
+    public CooperadoReactiveController(CooperadoReativoService cooperadoReativoService) {
+        this.cooperadoReativoService = cooperadoReativoService;
+    }
+
+    /**
+     * GET /api/v1/cooperados
+     * Lista todos os cooperados em ordem de ID, em fluxo: como NDJSON (uma linha por cooperado)
+     * ou como array JSON, escrito conforme as linhas chegam do banco
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CooperadoListResponse> listarCooperados() {
+        return cooperadoReativoService.listarCooperados();
+    }
+
+    /**
+     * GET /api/v1/cooperados/{id}
+     * Busca cooperado por ID
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CooperadoResponse>> buscarPorId(@PathVariable Long id) {
+        return cooperadoReativoService.buscarPorId(id)
+                .map(cooperado -> ResponseEntity.ok().eTag(EtagCooperado.de(cooperado)).body(cooperado));
+    }
+
+    /**
+     * GET /api/v1/cooperados/documento/{documento}
+     * Busca cooperado por documento (CPF/CNPJ)
+     */
+    @GetMapping("/documento/{documento}")
+    public Mono<ResponseEntity<CooperadoResponse>> buscarPorDocumento(@PathVariable String documento) {
+        return cooperadoReativoService.buscarPorDocumento(documento)
+                .map(cooperado -> ResponseEntity.ok().eTag(EtagCooperado.de(cooperado)).body(cooperado));
+    }
+
+    /**
+     * GET /api/v1/cooperados/existe/{documento}
+     * Verifica se existe cooperado com o documento
+     */
+    @GetMapping("/existe/{documento}")
+    public Mono<Boolean> existePorDocumento(@PathVariable String documento) {
+        return cooperadoReativoService.existePorDocumento(documento);
+    }
+}
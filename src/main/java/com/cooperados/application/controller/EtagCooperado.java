@@ -0,0 +1,95 @@
+package com.cooperados.application.controller;
+
+import com.cooperados.application.dto.CooperadoResponse;
+import com.cooperados.domain.repository.VersaoCooperado;
+import com.cooperados.infrastructure.exception.PrecondicaoFalhouException;
+
+/**
+ * ETags fortes de cooperado no formato {@code "<id>-<versao>"}: mudam a cada alteração
+ * gravada, pois a versão é incrementada em todo UPDATE. O corpo em gzip tem ETag própria,
+ * {@code "<id>-<versao>-gz"}, pois validadores fortes diferem entre codificações (RFC 9110
+ * 8.8.3); If-Match e If-None-Match aceitam as duas.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+final class EtagCooperado {
+
+    private static final String QUALQUER = "*";
+    private static final String PREFIXO_FRACO = "W/";
+    private static final String SUFIXO_GZIP = "-gz";
+
+    private EtagCooperado() {
+    }
+
+    static String de(CooperadoResponse cooperado) {
+        return de(cooperado.getId(), cooperado.getVersao());
+    }
+
+    static String de(VersaoCooperado versao) {
+        return de(versao.id(), versao.versao());
+    }
+
+    static String de(Long id, Long versao) {
+        return "\"" + id + "-" + versao + "\"";
+    }
+
+    static String deGzip(CooperadoResponse cooperado) {
+        return deGzip(cooperado.getId(), cooperado.getVersao());
+    }
+
+    static String deGzip(Long id, Long versao) {
+        return "\"" + id + "-" + versao + SUFIXO_GZIP + "\"";
+    }
+
+    /**
+     * ETag do If-None-Match que corresponde à versão atual, em qualquer codificação (comparação
+     * fraca), para a resposta 304; nulo se nenhuma corresponde
+     */
+    static String correspondente(String ifNoneMatch, VersaoCooperado versao) {
+        String identidade = de(versao);
+        String gzip = deGzip(versao.id(), versao.versao());
+        for (String etag : ifNoneMatch.split(",")) {
+            etag = etag.trim();
+            if (QUALQUER.equals(etag)) {
+                return identidade;
+            }
+            if (etag.startsWith(PREFIXO_FRACO)) {
+                etag = etag.substring(PREFIXO_FRACO.length());
+            }
+            if (etag.equals(identidade) || etag.equals(gzip)) {
+                return etag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Versão exigida pelo cabeçalho If-Match para gravar o cooperado, ou nulo para {@code *}
+     * (qualquer versão). ETags fracas ou de outro cooperado nunca atendem a pré-condição.
+     */
+    static Long versaoExigida(Long id, String ifMatch) {
+        String prefixo = id + "-";
+        for (String etag : ifMatch.split(",")) {
+            etag = etag.trim();
+            if (QUALQUER.equals(etag)) {
+                return null;
+            }
+            if (etag.startsWith(PREFIXO_FRACO) || etag.length() < 2 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+                continue;
+            }
+            String valor = etag.substring(1, etag.length() - 1);
+            if (valor.endsWith(SUFIXO_GZIP)) {
+                valor = valor.substring(0, valor.length() - SUFIXO_GZIP.length());
+            }
+            if (valor.startsWith(prefixo)) {
+                try {
+                    return Long.valueOf(valor.substring(prefixo.length()));
+                } catch (NumberFormatException e) {
+                    // ETag que não foi emitida por esta API; segue para as demais
+                }
+            }
+        }
+        throw new PrecondicaoFalhouException("If-Match não corresponde a nenhuma versão do cooperado " + id);
+    }
+}
@@ -32,6 +32,13 @@ public class AtualizarCooperadoRequest {
     @Size(max = 255, message = "E-mail deve ter no máximo 255 caracteres")
     private String email;
 
+    /**
+     * Versão conhecida pelo cliente; quando informada, a atualização só é aplicada se o
+     * cooperado ainda estiver nessa versão (controle de concorrência otimista)
+     */
+    @PositiveOrZero(message = "Versão não pode ser negativa")
+    private Long versao;
+
     // Construtores
     public AtualizarCooperadoRequest() {
         // Construtor padrão para deserialização JSON
@@ -87,6 +94,14 @@ public class AtualizarCooperadoRequest {
         this.email = email;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
     // Métodos de validação
     public boolean hasNome() {
         return nome != null && !nome.trim().isEmpty();
@@ -121,6 +136,7 @@ public class AtualizarCooperadoRequest {
                 ", rendaFaturamento=" + rendaFaturamento +
                 ", telefone='" + telefone + '\'' +
                 ", email='" + email + '\'' +
+                ", versao=" + versao +
                 '}';
     }
 }
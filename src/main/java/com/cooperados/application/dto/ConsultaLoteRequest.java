@@ -0,0 +1,60 @@
+package com.cooperados.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO para consulta de vários cooperados por ID e/ou documento em uma única requisição
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class ConsultaLoteRequest {
+
+    /**
+     * Quantidade máxima de IDs e de documentos por requisição
+     */
+    public static final int TAMANHO_MAXIMO = 5000;
+
+    @Size(max = TAMANHO_MAXIMO, message = "Consulta deve ter no máximo " + TAMANHO_MAXIMO + " IDs")
+    private List<@NotNull(message = "ID não pode ser nulo") Long> ids;
+
+    @Size(max = TAMANHO_MAXIMO, message = "Consulta deve ter no máximo " + TAMANHO_MAXIMO + " documentos")
+    private List<@NotNull(message = "Documento não pode ser nulo") String> documentos;
+
+    // Construtores
+    public ConsultaLoteRequest() {
+        // Construtor padrão para deserialização JSON
+    }
+
+    public ConsultaLoteRequest(List<Long> ids, List<String> documentos) {
+        this.ids = ids;
+        this.documentos = documentos;
+    }
+
+    // Getters e Setters
+    public List<Long> getIds() {
+        return ids != null ? ids : List.of();
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getDocumentos() {
+        return documentos != null ? documentos : List.of();
+    }
+
+    public void setDocumentos(List<String> documentos) {
+        this.documentos = documentos;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsultaLoteRequest{" +
+                "ids=" + getIds().size() +
+                ", documentos=" + getDocumentos().size() +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.cooperados.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da consulta em lote: cooperados encontrados (sem repetição, mesmo que
+ * pedidos por ID e por documento) e os IDs e documentos sem cooperado, como foram enviados
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class ConsultaLoteResponse {
+
+    private List<CooperadoResponse> encontrados;
+    private List<Long> idsNaoEncontrados;
+    private List<String> documentosNaoEncontrados;
+
+    // Construtores
+    public ConsultaLoteResponse() {
+        // Construtor padrão para serialização JSON
+    }
+
+    public ConsultaLoteResponse(List<CooperadoResponse> encontrados, List<Long> idsNaoEncontrados,
+                                List<String> documentosNaoEncontrados) {
+        this.encontrados = encontrados;
+        this.idsNaoEncontrados = idsNaoEncontrados;
+        this.documentosNaoEncontrados = documentosNaoEncontrados;
+    }
+
+    // Getters e Setters
+    public List<CooperadoResponse> getEncontrados() {
+        return encontrados;
+    }
+
+    public void setEncontrados(List<CooperadoResponse> encontrados) {
+        this.encontrados = encontrados;
+    }
+
+    public List<Long> getIdsNaoEncontrados() {
+        return idsNaoEncontrados;
+    }
+
+    public void setIdsNaoEncontrados(List<Long> idsNaoEncontrados) {
+        this.idsNaoEncontrados = idsNaoEncontrados;
+    }
+
+    public List<String> getDocumentosNaoEncontrados() {
+        return documentosNaoEncontrados;
+    }
+
+    public void setDocumentosNaoEncontrados(List<String> documentosNaoEncontrados) {
+        this.documentosNaoEncontrados = documentosNaoEncontrados;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsultaLoteResponse{" +
+                "encontrados=" + (encontrados != null ? encontrados.size() : 0) +
+                ", idsNaoEncontrados=" + (idsNaoEncontrados != null ? idsNaoEncontrados.size() : 0) +
+                ", documentosNaoEncontrados=" + (documentosNaoEncontrados != null ? documentosNaoEncontrados.size() : 0) +
+                '}';
+    }
+}
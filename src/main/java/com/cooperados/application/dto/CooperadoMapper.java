@@ -1,6 +1,8 @@
 package com.cooperados.application.dto;
 
 import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.CooperadoDetalhe;
+import com.cooperados.domain.repository.CooperadoResumo;
 import com.cooperados.domain.valueobject.Documento;
 import com.cooperados.domain.valueobject.Email;
 import com.cooperados.domain.valueobject.Telefone;
@@ -31,6 +33,13 @@ public interface CooperadoMapper {
     @Mapping(source = "email", target = "email", qualifiedByName = "emailToValor")
     CooperadoResponse toResponse(Cooperado cooperado);
 
+    /**
+     * Converte projeção completa para DTO de resposta, no mesmo formato da entidade
+     */
+    @Mapping(source = "documento", target = "documentoFormatado", qualifiedByName = "documentoNumeroToFormatado")
+    @Mapping(source = "telefone", target = "telefoneFormatado", qualifiedByName = "telefoneNumeroToFormatado")
+    CooperadoResponse toResponse(CooperadoDetalhe detalhe);
+
     /**
      * Converte entidade para DTO de listagem
      */
@@ -57,8 +66,36 @@ public interface CooperadoMapper {
     @Mapping(source = "last", target = "last")
     @Mapping(target = "hasNext", expression = "java(!cooperadoPage.isLast())")
     @Mapping(target = "hasPrevious", expression = "java(!cooperadoPage.isFirst())")
+    @Mapping(target = "nextCursor", ignore = true)
     PaginatedResponse<CooperadoListResponse> toPaginatedResponse(Page<Cooperado> cooperadoPage);
 
+    /**
+     * Converte projeção de listagem para DTO de listagem
+     */
+    @Mapping(source = "documento", target = "documentoFormatado", qualifiedByName = "documentoNumeroToFormatado")
+    @Mapping(source = "telefone", target = "telefoneFormatado", qualifiedByName = "telefoneNumeroToFormatado")
+    CooperadoListResponse toListResponse(CooperadoResumo resumo);
+
+    /**
+     * Converte lista de projeções para lista de DTOs de listagem
+     */
+    List<CooperadoListResponse> resumosToListResponseList(List<CooperadoResumo> resumos);
+
+    /**
+     * Converte página de projeções para página de DTOs de listagem
+     */
+    @Mapping(source = "content", target = "content")
+    @Mapping(source = "number", target = "pageNumber")
+    @Mapping(source = "size", target = "pageSize")
+    @Mapping(source = "totalElements", target = "totalElements")
+    @Mapping(source = "totalPages", target = "totalPages")
+    @Mapping(source = "first", target = "first")
+    @Mapping(source = "last", target = "last")
+    @Mapping(target = "hasNext", expression = "java(!resumoPage.isLast())")
+    @Mapping(target = "hasPrevious", expression = "java(!resumoPage.isFirst())")
+    @Mapping(target = "nextCursor", ignore = true)
+    PaginatedResponse<CooperadoListResponse> resumosToPaginatedResponse(Page<CooperadoResumo> resumoPage);
+
     // Métodos auxiliares para mapeamento de Value Objects
 
     @Named("documentoToValor")
@@ -85,6 +122,16 @@ public interface CooperadoMapper {
         return telefone.getValorFormatado();
     }
 
+    @Named("documentoNumeroToFormatado")
+    default String documentoNumeroToFormatado(String numero) {
+        return Documento.formatar(numero);
+    }
+
+    @Named("telefoneNumeroToFormatado")
+    default String telefoneNumeroToFormatado(String numero) {
+        return Telefone.formatar(numero);
+    }
+
     @Named("emailToValor")
     default String emailToValor(Email email) {
         if (email == null) return null;
@@ -0,0 +1,50 @@
+package com.cooperados.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO para criação de cooperados em lote
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class CriarCooperadosEmLoteRequest {
+
+    /**
+     * Quantidade máxima de cooperados por requisição
+     */
+    public static final int TAMANHO_MAXIMO = 1000;
+
+    @NotEmpty(message = "Lista de cooperados é obrigatória")
+    @Size(max = TAMANHO_MAXIMO, message = "Lote deve ter no máximo " + TAMANHO_MAXIMO + " cooperados")
+    @Valid
+    private List<CriarCooperadoRequest> cooperados;
+
+    // Construtores
+    public CriarCooperadosEmLoteRequest() {
+        // Construtor padrão para deserialização JSON
+    }
+
+    public CriarCooperadosEmLoteRequest(List<CriarCooperadoRequest> cooperados) {
+        this.cooperados = cooperados;
+    }
+
+    // Getters e Setters
+    public List<CriarCooperadoRequest> getCooperados() {
+        return cooperados;
+    }
+
+    public void setCooperados(List<CriarCooperadoRequest> cooperados) {
+        this.cooperados = cooperados;
+    }
+
+    @Override
+    public String toString() {
+        return "CriarCooperadosEmLoteRequest{" +
+                "cooperados=" + (cooperados != null ? cooperados.size() : 0) +
+                '}';
+    }
+}
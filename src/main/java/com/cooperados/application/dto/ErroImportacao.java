@@ -0,0 +1,63 @@
+package com.cooperados.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * DTO com o erro de uma linha rejeitada na importação em massa
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ErroImportacao {
+
+    private long linha;
+    private String documento;
+    private List<String> mensagens;
+
+    // Construtores
+    public ErroImportacao() {
+        // Construtor padrão para serialização JSON
+    }
+
+    public ErroImportacao(long linha, String documento, List<String> mensagens) {
+        this.linha = linha;
+        this.documento = documento;
+        this.mensagens = mensagens;
+    }
+
+    // Getters e Setters
+    public long getLinha() {
+        return linha;
+    }
+
+    public void setLinha(long linha) {
+        this.linha = linha;
+    }
+
+    public String getDocumento() {
+        return documento;
+    }
+
+    public void setDocumento(String documento) {
+        this.documento = documento;
+    }
+
+    public List<String> getMensagens() {
+        return mensagens;
+    }
+
+    public void setMensagens(List<String> mensagens) {
+        this.mensagens = mensagens;
+    }
+
+    @Override
+    public String toString() {
+        return "ErroImportacao{" +
+                "linha=" + linha +
+                ", documento='" + documento + '\'' +
+                ", mensagens=" + mensagens +
+                '}';
+    }
+}
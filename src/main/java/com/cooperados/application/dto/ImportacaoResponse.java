@@ -0,0 +1,71 @@
+package com.cooperados.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da importação em massa, com o relatório de linhas rejeitadas
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class ImportacaoResponse {
+
+    private long totalLinhas;
+    private long importados;
+    private long rejeitados;
+    private List<ErroImportacao> erros;
+
+    // Construtores
+    public ImportacaoResponse() {
+        // Construtor padrão para serialização JSON
+    }
+
+    public ImportacaoResponse(long totalLinhas, long importados, List<ErroImportacao> erros) {
+        this.totalLinhas = totalLinhas;
+        this.importados = importados;
+        this.rejeitados = erros.size();
+        this.erros = erros;
+    }
+
+    // Getters e Setters
+    public long getTotalLinhas() {
+        return totalLinhas;
+    }
+
+    public void setTotalLinhas(long totalLinhas) {
+        this.totalLinhas = totalLinhas;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public void setImportados(long importados) {
+        this.importados = importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public void setRejeitados(long rejeitados) {
+        this.rejeitados = rejeitados;
+    }
+
+    public List<ErroImportacao> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<ErroImportacao> erros) {
+        this.erros = erros;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportacaoResponse{" +
+                "totalLinhas=" + totalLinhas +
+                ", importados=" + importados +
+                ", rejeitados=" + rejeitados +
+                '}';
+    }
+}
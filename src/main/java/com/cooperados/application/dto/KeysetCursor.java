@@ -0,0 +1,131 @@
+package com.cooperados.application.dto;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cursor opaco para paginação keyset (seek)
+ *
+ * Codifica o campo de ordenação, a direção, o último valor da chave de
+ * ordenação e o último ID retornado, permitindo buscar a próxima página com
+ * {@code WHERE (campo, id) > (valor, id)} sem OFFSET e sem COUNT(*).
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public final class KeysetCursor {
+
+    /**
+     * Campos de ordenação permitidos (todos indexados em conjunto com o ID)
+     */
+    public static final Set<String> CAMPOS_PERMITIDOS =
+            Set.of("id", "nome", "dataNascimentoConstituicao", "rendaFaturamento");
+
+    private static final String SEPARADOR = "|";
+
+    private final String campo;
+    private final Sort.Direction direcao;
+    private final Long id;
+    private final String valor;
+
+    public KeysetCursor(String campo, Sort.Direction direcao, Long id, String valor) {
+        if (!CAMPOS_PERMITIDOS.contains(campo)) {
+            throw new IllegalArgumentException("Campo de ordenação não suportado na paginação por cursor: " + campo);
+        }
+        if (direcao == null || id == null || (valor == null && !"id".equals(campo))) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        this.campo = campo;
+        this.direcao = direcao;
+        this.id = id;
+        this.valor = valor;
+    }
+
+    /**
+     * Gera o token opaco (Base64 URL-safe) para o cliente
+     */
+    public String codificar() {
+        String conteudo = campo + SEPARADOR + direcao.name() + SEPARADOR + id + SEPARADOR
+                + (valor != null ? valor : "");
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token recebido do cliente
+     */
+    public static KeysetCursor decodificar(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+
+        String conteudo;
+        try {
+            conteudo = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+
+        // O valor fica por último e pode conter o separador
+        String[] partes = conteudo.split("\\|", 4);
+        if (partes.length != 4) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+
+        try {
+            return new KeysetCursor(
+                    partes[0],
+                    Sort.Direction.valueOf(partes[1]),
+                    Long.valueOf(partes[2]),
+                    partes[3].isEmpty() ? null : partes[3]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    public Sort.Direction getDirecao() {
+        return direcao;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KeysetCursor that = (KeysetCursor) o;
+        return Objects.equals(campo, that.campo) &&
+               direcao == that.direcao &&
+               Objects.equals(id, that.id) &&
+               Objects.equals(valor, that.valor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(campo, direcao, id, valor);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{" +
+                "campo='" + campo + '\'' +
+                ", direcao=" + direcao +
+                ", id=" + id +
+                ", valor='" + valor + '\'' +
+                '}';
+    }
+}
@@ -15,12 +15,13 @@ public class PaginatedResponse<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private boolean first;
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor;
 
     // Construtores
     public PaginatedResponse() {
@@ -40,6 +41,22 @@ public class PaginatedResponse<T> {
         this.hasPrevious = !first;
     }
 
+    /**
+     * Cria uma resposta de paginação por cursor (keyset), sem totais
+     */
+    public static <T> PaginatedResponse<T> porCursor(List<T> content, int pageSize,
+                                                     boolean first, String nextCursor) {
+        PaginatedResponse<T> response = new PaginatedResponse<>();
+        response.content = content;
+        response.pageSize = pageSize;
+        response.first = first;
+        response.last = nextCursor == null;
+        response.hasNext = nextCursor != null;
+        response.hasPrevious = !first;
+        response.nextCursor = nextCursor;
+        return response;
+    }
+
     // Getters e Setters
     public List<T> getContent() {
         return content;
@@ -65,19 +82,19 @@ public class PaginatedResponse<T> {
         this.pageSize = pageSize;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
 
@@ -113,6 +130,14 @@ public class PaginatedResponse<T> {
         this.hasPrevious = hasPrevious;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
     @Override
     public String toString() {
         return "PaginatedResponse{" +
@@ -125,6 +150,7 @@ public class PaginatedResponse<T> {
                 ", last=" + last +
                 ", hasNext=" + hasNext +
                 ", hasPrevious=" + hasPrevious +
+                ", nextCursor='" + nextCursor + '\'' +
                 '}';
     }
 }
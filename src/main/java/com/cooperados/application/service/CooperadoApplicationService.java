@@ -2,20 +2,45 @@ package com.cooperados.application.service;
 
 import com.cooperados.application.dto.*;
 import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.ContagemPorDdd;
 import com.cooperados.domain.repository.CooperadoRepository;
+import com.cooperados.domain.repository.CooperadoResumo;
+import com.cooperados.domain.repository.VersaoCooperado;
 import com.cooperados.domain.service.CooperadoDomainService;
 import com.cooperados.domain.valueobject.Documento;
 import com.cooperados.domain.valueobject.Email;
 import com.cooperados.domain.valueobject.Telefone;
+import com.cooperados.infrastructure.cache.AgrupadorChamadas;
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.cooperados.infrastructure.cache.FiltroDocumentos;
+import com.cooperados.infrastructure.config.CacheConfig;
 import com.cooperados.infrastructure.exception.CooperadoNaoEncontradoException;
 import com.cooperados.infrastructure.exception.DocumentoJaExisteException;
+import com.cooperados.infrastructure.exception.VersaoDesatualizadaException;
+import com.cooperados.infrastructure.persistence.CarregadorCooperados;
+import com.cooperados.infrastructure.persistence.DataSourceRoteado;
+import com.cooperados.infrastructure.persistence.GeradorIdCooperado;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Serviço de aplicação para orquestrar operações de cooperado
@@ -30,13 +55,38 @@ public class CooperadoApplicationService {
     private final CooperadoRepository cooperadoRepository;
     private final CooperadoDomainService cooperadoDomainService;
     private final CooperadoMapper cooperadoMapper;
+    private final GeradorIdCooperado geradorIdCooperado;
+    private final CarregadorCooperados carregadorCooperados;
+    private final FiltroDocumentos filtroDocumentos;
+    private final Cache cachePorId;
+    private final Cache cachePorDocumento;
+    private final Cache respostasPorId;
+    private final Cache idsInexistentes;
+    private final Cache documentosInexistentes;
+    private final AgrupadorChamadas<Long, CooperadoResponse> consultasPorId;
+    private final AgrupadorChamadas<String, CooperadoResponse> consultasPorDocumento;
 
     public CooperadoApplicationService(CooperadoRepository cooperadoRepository,
                                     CooperadoDomainService cooperadoDomainService,
-                                    CooperadoMapper cooperadoMapper) {
+                                    CooperadoMapper cooperadoMapper,
+                                    GeradorIdCooperado geradorIdCooperado,
+                                    CarregadorCooperados carregadorCooperados,
+                                    FiltroDocumentos filtroDocumentos,
+                                    CacheManager cacheManager,
+                                    MeterRegistry meterRegistry) {
         this.cooperadoRepository = cooperadoRepository;
         this.cooperadoDomainService = cooperadoDomainService;
         this.cooperadoMapper = cooperadoMapper;
+        this.geradorIdCooperado = geradorIdCooperado;
+        this.carregadorCooperados = carregadorCooperados;
+        this.filtroDocumentos = filtroDocumentos;
+        this.cachePorId = cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID);
+        this.cachePorDocumento = cacheManager.getCache(CacheConfig.COOPERADOS_POR_DOCUMENTO);
+        this.respostasPorId = cacheManager.getCache(CacheConfig.RESPOSTAS_POR_ID);
+        this.idsInexistentes = cacheManager.getCache(CacheConfig.IDS_INEXISTENTES);
+        this.documentosInexistentes = cacheManager.getCache(CacheConfig.DOCUMENTOS_INEXISTENTES);
+        this.consultasPorId = new AgrupadorChamadas<>("id", meterRegistry);
+        this.consultasPorDocumento = new AgrupadorChamadas<>("documento", meterRegistry);
     }
 
     /**
@@ -44,13 +94,8 @@ public class CooperadoApplicationService {
      */
     @Transactional
     public CooperadoResponse criarCooperado(CriarCooperadoRequest request) {
-        // Verifica se já existe cooperado com o documento
-        if (cooperadoRepository.existsByDocumento(request.getDocumento())) {
-            throw new DocumentoJaExisteException("Já existe cooperado com o documento: " + request.getDocumento());
-        }
-
         // Cria a entidade cooperado
-        Cooperado cooperado = cooperadoDomainService.criarCooperado(
+        Cooperado novo = cooperadoDomainService.criarCooperado(
                 request.getNome(),
                 request.getDocumento(),
                 request.getDataNascimentoConstituicao(),
@@ -59,55 +104,301 @@ public class CooperadoApplicationService {
                 request.getEmail()
         );
 
-        // Salva no repositório
-        cooperado = cooperadoRepository.save(cooperado);
+        // Insere em uma única instrução; sem linha retornada, o documento já existia
+        Cooperado cooperado = cooperadoRepository
+                .inserirSeDocumentoDisponivel(geradorIdCooperado.proximoId(novo), novo)
+                .orElseThrow(() -> new DocumentoJaExisteException(
+                        "Já existe cooperado com o documento: " + request.getDocumento()));
+        filtroDocumentos.registrar(cooperado.getDocumento().getNumero());
+        invalidarInexistentes(cooperado.getId(), cooperado.getDocumento().getNumero());
 
         // Retorna o DTO de resposta
         return cooperadoMapper.toResponse(cooperado);
     }
 
     /**
-     * Busca cooperado por ID
+     * Cria vários cooperados em uma única transação.
+     *
+     * A unicidade dos documentos é verificada com uma só consulta e os INSERTs são enviados
+     * em um único flush, agrupados em batches de JDBC (IDs alocados em bloco pela sequência).
      */
+    @Transactional
+    public List<CooperadoResponse> criarCooperadosEmLote(List<CriarCooperadoRequest> requests) {
+        Set<String> documentos = new HashSet<>();
+        for (CriarCooperadoRequest request : requests) {
+            if (!documentos.add(Documento.normalizar(request.getDocumento()))) {
+                throw new DocumentoJaExisteException("Documento repetido no lote: " + request.getDocumento());
+            }
+        }
+
+        // A consulta só é necessária se o filtro não descartar todos os documentos
+        if (documentos.stream().anyMatch(filtroDocumentos::podeExistir)) {
+            List<String> cadastrados = cooperadoRepository.findDocumentosCadastrados(documentos.toArray(String[]::new));
+            if (!cadastrados.isEmpty()) {
+                throw new DocumentoJaExisteException(
+                        "Já existem cooperados com os documentos: " + String.join(", ", cadastrados));
+            }
+        }
+
+        List<Cooperado> cooperados = requests.stream()
+                .map(request -> cooperadoDomainService.criarCooperado(
+                        request.getNome(),
+                        request.getDocumento(),
+                        request.getDataNascimentoConstituicao(),
+                        request.getRendaFaturamento(),
+                        request.getTelefone(),
+                        request.getEmail()))
+                .toList();
+
+        // saveAll apenas agenda os INSERTs; o flush os envia em batch
+        List<Cooperado> salvos = cooperadoRepository.saveAll(cooperados);
+        cooperadoRepository.flush();
+        filtroDocumentos.registrar(documentos);
+        salvos.forEach(salvo -> invalidarInexistentes(salvo.getId(), salvo.getDocumento().getNumero()));
+
+        return salvos.stream()
+                .map(cooperadoMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Busca cooperado por ID.
+     *
+     * Sem transação própria: chamadas concorrentes para o mesmo ID aguardam a consulta em
+     * andamento sem ocupar conexão do pool; só a consulta executada abre transação (no repositório).
+     * Buscas concorrentes por IDs diferentes são resolvidas em lote pelo {@link CarregadorCooperados}.
+     *
+     * Só quem executa a consulta grava o resultado no cache, com a geração obtida antes dela:
+     * quem aguardou uma consulta iniciada antes de uma alteração não grava o estado anterior.
+     *
+     * Logo após uma escrita do cliente ({@link DataSourceRoteado#escritaRecente()}) a busca vai
+     * direto ao primário, sem cache, agrupamento ou lote: esses podem trazer o estado anterior,
+     * lido de uma réplica por outra requisição.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CooperadoResponse buscarPorId(Long id) {
-        Cooperado cooperado = cooperadoRepository.findById(id)
-                .orElseThrow(() -> new CooperadoNaoEncontradoException("Cooperado não encontrado com ID: " + id));
+        if (DataSourceRoteado.escritaRecente()) {
+            return cooperadoRepository.buscarPorIds(new Long[] {id}).stream()
+                    .findFirst()
+                    .map(cooperadoMapper::toResponse)
+                    .orElseThrow(() -> CooperadoNaoEncontradoException.porId(id));
+        }
 
-        return cooperadoMapper.toResponse(cooperado);
+        CooperadoResponse emCache = cachePorId.get(id, CooperadoResponse.class);
+        if (emCache != null) {
+            return emCache;
+        }
+        if (idsInexistentes.get(id) != null) {
+            throw CooperadoNaoEncontradoException.porId(id);
+        }
+
+        return consultasPorId.executar(id, () -> {
+            CacheComGeracoes porId = CacheComGeracoes.de(cachePorId);
+            CacheComGeracoes inexistentes = CacheComGeracoes.de(idsInexistentes);
+            long geracao = porId.geracao(id);
+            long geracaoInexistentes = inexistentes.geracao(id);
+
+            Cooperado cooperado = carregadorCooperados.carregar(id)
+                    .orElseThrow(() -> {
+                        inexistentes.putIfAbsentSeAtual(id, Boolean.TRUE, geracaoInexistentes);
+                        return CooperadoNaoEncontradoException.porId(id);
+                    });
+
+            CooperadoResponse resposta = cooperadoMapper.toResponse(cooperado);
+            porId.putSeAtual(id, resposta, geracao);
+            return resposta;
+        });
     }
 
     /**
-     * Busca cooperado por documento (CPF/CNPJ)
+     * Busca cooperado por documento (CPF/CNPJ), agrupando chamadas concorrentes como em
+     * {@link #buscarPorId(Long)}
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CooperadoResponse buscarPorDocumento(String documento) {
-        Cooperado cooperado = cooperadoRepository.findByDocumento(documento)
-                .orElseThrow(() -> new CooperadoNaoEncontradoException("Cooperado não encontrado com documento: " + documento));
+        String numero = Documento.normalizar(documento);
+        if (DataSourceRoteado.escritaRecente()) {
+            return cooperadoRepository.findByDocumento(numero)
+                    .map(cooperadoMapper::toResponse)
+                    .orElseThrow(() -> CooperadoNaoEncontradoException.porDocumento(documento));
+        }
 
-        return cooperadoMapper.toResponse(cooperado);
+        CooperadoResponse emCache = cachePorDocumento.get(numero, CooperadoResponse.class);
+        if (emCache != null) {
+            return emCache;
+        }
+        if (!filtroDocumentos.podeExistir(numero) || documentosInexistentes.get(numero) != null) {
+            throw CooperadoNaoEncontradoException.porDocumento(documento);
+        }
+
+        return consultasPorDocumento.executar(numero, () -> {
+            CacheComGeracoes porDocumento = CacheComGeracoes.de(cachePorDocumento);
+            CacheComGeracoes inexistentes = CacheComGeracoes.de(documentosInexistentes);
+            long geracao = porDocumento.geracao(numero);
+            long geracaoInexistentes = inexistentes.geracao(numero);
+
+            Cooperado cooperado = cooperadoRepository.findByDocumento(numero)
+                    .orElseThrow(() -> {
+                        inexistentes.putIfAbsentSeAtual(numero, Boolean.TRUE, geracaoInexistentes);
+                        return CooperadoNaoEncontradoException.porDocumento(documento);
+                    });
+
+            CooperadoResponse resposta = cooperadoMapper.toResponse(cooperado);
+            porDocumento.putSeAtual(numero, resposta, geracao);
+            return resposta;
+        });
+    }
+
+    /**
+     * Versão atual do cooperado, para revalidação de ETag sem carregar a entidade
+     */
+    public Optional<VersaoCooperado> buscarVersaoPorId(Long id) {
+        if (idsInexistentes.get(id) != null) {
+            return Optional.empty();
+        }
+        return cooperadoRepository.findVersaoById(id);
+    }
+
+    /**
+     * Versão atual do cooperado ativo com o documento, para revalidação de ETag
+     */
+    public Optional<VersaoCooperado> buscarVersaoPorDocumento(String documento) {
+        String numero = Documento.normalizar(documento);
+        if (!filtroDocumentos.podeExistir(numero) || documentosInexistentes.get(numero) != null) {
+            return Optional.empty();
+        }
+        return cooperadoRepository.findVersaoByDocumento(numero);
+    }
+
+    /**
+     * Busca vários cooperados por ID e/ou documento, com uma consulta por tipo de chave.
+     * Documentos que o filtro garante não existirem nem chegam à consulta.
+     */
+    public ConsultaLoteResponse buscarEmLote(List<Long> ids, List<String> documentos) {
+        if (ids.isEmpty() && documentos.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um ID ou documento");
+        }
+
+        Map<Long, CooperadoResponse> encontrados = new LinkedHashMap<>();
+
+        Long[] idsDistintos = ids.stream().distinct().toArray(Long[]::new);
+        if (idsDistintos.length > 0) {
+            for (Cooperado cooperado : cooperadoRepository.buscarPorIds(idsDistintos)) {
+                encontrados.put(cooperado.getId(), cooperadoMapper.toResponse(cooperado));
+            }
+        }
+        List<Long> idsNaoEncontrados = ids.stream()
+                .filter(id -> !encontrados.containsKey(id))
+                .distinct()
+                .toList();
+
+        String[] numeros = documentos.stream()
+                .map(Documento::normalizar)
+                .filter(filtroDocumentos::podeExistir)
+                .distinct()
+                .toArray(String[]::new);
+        Set<String> numerosEncontrados = new HashSet<>();
+        if (numeros.length > 0) {
+            for (Cooperado cooperado : cooperadoRepository.buscarPorDocumentos(numeros)) {
+                numerosEncontrados.add(cooperado.getDocumento().getNumero());
+                encontrados.putIfAbsent(cooperado.getId(), cooperadoMapper.toResponse(cooperado));
+            }
+        }
+        List<String> documentosNaoEncontrados = documentos.stream()
+                .filter(documento -> !numerosEncontrados.contains(Documento.normalizar(documento)))
+                .distinct()
+                .toList();
+
+        return new ConsultaLoteResponse(List.copyOf(encontrados.values()), idsNaoEncontrados,
+                documentosNaoEncontrados);
     }
 
     /**
      * Lista todos os cooperados com paginação
      */
     public PaginatedResponse<CooperadoListResponse> listarCooperados(Pageable pageable) {
-        Page<Cooperado> cooperadoPage = cooperadoRepository.findAll(pageable);
+        Page<CooperadoResumo> resumoPage = cooperadoRepository.findAllResumos(pageable);
+        return cooperadoMapper.resumosToPaginatedResponse(resumoPage);
+    }
+
+    /**
+     * Lista cooperados com paginação por cursor (keyset), sem OFFSET e sem COUNT(*)
+     */
+    public PaginatedResponse<CooperadoListResponse> listarCooperadosPorCursor(String campo, Sort.Direction direcao,
+                                                                           int tamanho, String after) {
+        if (!KeysetCursor.CAMPOS_PERMITIDOS.contains(campo)) {
+            throw new IllegalArgumentException("Campo de ordenação não suportado na paginação por cursor: " + campo);
+        }
+
+        KeysetCursor cursor = after != null ? KeysetCursor.decodificar(after) : null;
+        if (cursor != null && (!cursor.getCampo().equals(campo) || cursor.getDirecao() != direcao)) {
+            throw new IllegalArgumentException("Cursor não corresponde à ordenação solicitada");
+        }
+
+        List<Cooperado> cooperados;
+        boolean temProxima;
+        if (cursor == null) {
+            // O ID entra sempre como critério de desempate para tornar a ordenação total
+            Sort sort = "id".equals(campo)
+                    ? Sort.by(direcao, "id")
+                    : Sort.by(direcao, campo).and(Sort.by(direcao, "id"));
+            Slice<Cooperado> slice = cooperadoRepository.findAllBy(PageRequest.of(0, tamanho, sort));
+            cooperados = slice.getContent();
+            temProxima = slice.hasNext();
+        } else {
+            // Busca um registro a mais apenas para saber se existe próxima página
+            List<Cooperado> resultado = buscarProximaPagina(cursor, tamanho + 1);
+            temProxima = resultado.size() > tamanho;
+            cooperados = temProxima ? resultado.subList(0, tamanho) : resultado;
+        }
+
+        String proximoCursor = null;
+        if (temProxima && !cooperados.isEmpty()) {
+            Cooperado ultimo = cooperados.get(cooperados.size() - 1);
+            proximoCursor = new KeysetCursor(campo, direcao, ultimo.getId(), valorDoCampo(ultimo, campo)).codificar();
+        }
+
+        return PaginatedResponse.porCursor(cooperadoMapper.toListResponseList(cooperados),
+                tamanho, cursor == null, proximoCursor);
+    }
+
+    /**
+     * Busca cooperados por nome (sem acentos/maiúsculas), ordenados por similaridade
+     */
+    public PaginatedResponse<CooperadoListResponse> buscarPorNome(String nome, Pageable pageable) {
+        Page<Cooperado> cooperadoPage = cooperadoDomainService.buscarPorNome(nome, pageable);
         return cooperadoMapper.toPaginatedResponse(cooperadoPage);
     }
 
+    /**
+     * Lista cooperados ativos por DDD do telefone com paginação
+     */
+    public PaginatedResponse<CooperadoListResponse> listarPorDdd(String ddd, Pageable pageable) {
+        Page<Cooperado> cooperadoPage = cooperadoDomainService.buscarPorDdd(ddd, pageable);
+        return cooperadoMapper.toPaginatedResponse(cooperadoPage);
+    }
+
+    /**
+     * Conta cooperados ativos agrupados por DDD
+     */
+    public List<ContagemPorDdd> contarPorDdd() {
+        return cooperadoDomainService.contarPorDdd();
+    }
+
     /**
      * Lista cooperados por tipo de documento
      */
     public List<CooperadoListResponse> listarPorTipoDocumento(Documento.TipoDocumento tipo) {
-        List<Cooperado> cooperados = cooperadoRepository.findByTipoDocumento(tipo);
-        return cooperadoMapper.toListResponseList(cooperados);
+        List<CooperadoResumo> resumos = cooperadoRepository.findResumosByTipoDocumento(tipo);
+        return cooperadoMapper.resumosToListResponseList(resumos);
     }
 
     /**
      * Lista cooperados ativos
      */
     public List<CooperadoListResponse> listarCooperadosAtivos() {
-        List<Cooperado> cooperados = cooperadoRepository.findByAtivoTrue();
-        return cooperadoMapper.toListResponseList(cooperados);
+        List<CooperadoResumo> resumos = cooperadoRepository.findResumosAtivos();
+        return cooperadoMapper.resumosToListResponseList(resumos);
     }
 
     /**
@@ -115,33 +406,25 @@ public class CooperadoApplicationService {
      */
     @Transactional
     public CooperadoResponse atualizarCooperado(Long id, AtualizarCooperadoRequest request) {
-        // Busca o cooperado existente
-        Cooperado cooperado = cooperadoRepository.findById(id)
-                .orElseThrow(() -> new CooperadoNaoEncontradoException("Cooperado não encontrado com ID: " + id));
+        // Campos não informados seguem nulos e mantêm o valor atual; telefone e e-mail são
+        // validados e normalizados pelos value objects antes de ir ao banco
+        String telefone = request.hasTelefone() ? new Telefone(request.getTelefone()).getValor() : null;
+        String email = request.hasEmail() ? new Email(request.getEmail()).getValor() : null;
 
-        // Atualiza apenas os campos fornecidos
-        if (request.hasNome()) {
-            cooperado.setNome(request.getNome());
-        }
-
-        if (request.hasDataNascimentoConstituicao()) {
-            cooperado.setDataNascimentoConstituicao(request.getDataNascimentoConstituicao());
-        }
-
-        if (request.hasRendaFaturamento()) {
-            cooperado.setRendaFaturamento(request.getRendaFaturamento());
-        }
-
-        if (request.hasTelefone()) {
-            cooperado.setTelefone(new Telefone(request.getTelefone()));
-        }
-
-        if (request.hasEmail()) {
-            cooperado.setEmail(new Email(request.getEmail()));
-        }
+        // Um único UPDATE ... RETURNING, sem SELECT prévio
+        Optional<Cooperado> atualizado = cooperadoRepository.atualizarCamposAlterados(
+                id,
+                request.getVersao(),
+                request.hasNome() ? request.getNome() : null,
+                request.getDataNascimentoConstituicao(),
+                request.getRendaFaturamento(),
+                telefone,
+                email
+        );
 
-        // Salva as alterações
-        cooperado = cooperadoRepository.save(cooperado);
+        // Sem linha retornada: inexistente, versão divergente ou nada a alterar
+        Cooperado cooperado = atualizado.orElseGet(() -> buscarSemAlteracao(id, request.getVersao()));
+        atualizado.ifPresent(alterado -> invalidarCache(id, alterado.getDocumento().getNumero()));
 
         // Retorna o DTO de resposta
         return cooperadoMapper.toResponse(cooperado);
@@ -152,11 +435,13 @@ public class CooperadoApplicationService {
      */
     @Transactional
     public void removerCooperado(Long id) {
-        Cooperado cooperado = cooperadoRepository.findById(id)
-                .orElseThrow(() -> new CooperadoNaoEncontradoException("Cooperado não encontrado com ID: " + id));
+        Optional<String> documento = cooperadoRepository.desativarSeAtivo(id);
 
-        cooperado.remover();
-        cooperadoRepository.save(cooperado);
+        // Nenhuma linha alterada: inexistente ou já removido (operação idempotente)
+        if (documento.isEmpty() && !cooperadoRepository.existsById(id)) {
+            throw CooperadoNaoEncontradoException.porId(id);
+        }
+        documento.ifPresent(numero -> invalidarCache(id, numero));
     }
 
     /**
@@ -164,20 +449,119 @@ public class CooperadoApplicationService {
      */
     @Transactional
     public CooperadoResponse reativarCooperado(Long id) {
-        Cooperado cooperado = cooperadoRepository.findById(id)
-                .orElseThrow(() -> new CooperadoNaoEncontradoException("Cooperado não encontrado com ID: " + id));
+        Optional<Cooperado> reativado = cooperadoRepository.reativarSeInativo(id);
+        reativado.ifPresent(alterado -> invalidarCache(id, alterado.getDocumento().getNumero()));
 
-        cooperado.reativar();
-        cooperado = cooperadoRepository.save(cooperado);
+        Cooperado cooperado = reativado.orElseGet(() -> buscarSemAlteracao(id, null));
 
         return cooperadoMapper.toResponse(cooperado);
     }
 
+    /**
+     * Remove o cooperado alterado dos caches de consulta. Como o cache é transacional,
+     * a remoção só acontece após o commit.
+     */
+    private void invalidarCache(Long id, String documentoNumero) {
+        cachePorId.evict(id);
+        cachePorDocumento.evict(documentoNumero);
+        respostasPorId.evict(id);
+        invalidarInexistentes(id, documentoNumero);
+    }
+
+    /**
+     * Remove as entradas negativas de um cooperado criado ou reativado, após o commit
+     */
+    private void invalidarInexistentes(Long id, String documentoNumero) {
+        idsInexistentes.evict(id);
+        documentosInexistentes.evict(documentoNumero);
+    }
+
+    /**
+     * Carrega o estado atual quando um UPDATE condicional não alterou nenhuma linha,
+     * distinguindo cooperado inexistente e versão divergente de uma operação sem efeito
+     */
+    private Cooperado buscarSemAlteracao(Long id, Long versaoEsperada) {
+        // Versão divergente é rejeitada só com a projeção, sem carregar a entidade
+        if (versaoEsperada != null) {
+            VersaoCooperado atual = cooperadoRepository.findVersaoById(id)
+                    .orElseThrow(() -> CooperadoNaoEncontradoException.porId(id));
+            if (!versaoEsperada.equals(atual.versao())) {
+                throw new VersaoDesatualizadaException("Cooperado " + id + " está na versão " + atual.versao() +
+                        ", versão informada: " + versaoEsperada);
+            }
+        }
+
+        return cooperadoRepository.findById(id)
+                .orElseThrow(() -> CooperadoNaoEncontradoException.porId(id));
+    }
+
+    /**
+     * Busca a página seguinte ao cursor usando comparação de tupla (campo, id)
+     */
+    private List<Cooperado> buscarProximaPagina(KeysetCursor cursor, int limite) {
+        boolean ascendente = cursor.getDirecao().isAscending();
+        Long id = cursor.getId();
+
+        try {
+            return switch (cursor.getCampo()) {
+                case "nome" -> ascendente
+                        ? cooperadoRepository.findProximaPaginaPorNome(cursor.getValor(), id, limite)
+                        : cooperadoRepository.findProximaPaginaPorNomeDesc(cursor.getValor(), id, limite);
+                case "dataNascimentoConstituicao" -> {
+                    LocalDate data = LocalDate.parse(cursor.getValor());
+                    yield ascendente
+                            ? cooperadoRepository.findProximaPaginaPorDataNascimentoConstituicao(data, id, limite)
+                            : cooperadoRepository.findProximaPaginaPorDataNascimentoConstituicaoDesc(data, id, limite);
+                }
+                case "rendaFaturamento" -> {
+                    BigDecimal renda = new BigDecimal(cursor.getValor());
+                    yield ascendente
+                            ? cooperadoRepository.findProximaPaginaPorRendaFaturamento(renda, id, limite)
+                            : cooperadoRepository.findProximaPaginaPorRendaFaturamentoDesc(renda, id, limite);
+                }
+                default -> ascendente
+                        ? cooperadoRepository.findProximaPaginaPorId(id, limite)
+                        : cooperadoRepository.findProximaPaginaPorIdDesc(id, limite);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    /**
+     * Extrai o valor da chave de ordenação que será gravado no cursor
+     */
+    private String valorDoCampo(Cooperado cooperado, String campo) {
+        return switch (campo) {
+            case "nome" -> cooperado.getNome();
+            case "dataNascimentoConstituicao" -> cooperado.getDataNascimentoConstituicao().toString();
+            case "rendaFaturamento" -> cooperado.getRendaFaturamento().toPlainString();
+            default -> null;
+        };
+    }
+
     /**
      * Verifica se existe cooperado com o documento
      */
     public boolean existePorDocumento(String documento) {
-        return cooperadoRepository.existsByDocumento(documento);
+        String numero = Documento.normalizar(documento);
+
+        if (DataSourceRoteado.escritaRecente()) {
+            return cooperadoRepository.existsByDocumento(numero);
+        }
+
+        // Negativo do filtro é definitivo; positivo pode ser falso e é confirmado no banco
+        if (!filtroDocumentos.podeExistir(numero) || documentosInexistentes.get(numero) != null) {
+            return false;
+        }
+
+        CacheComGeracoes inexistentes = CacheComGeracoes.de(documentosInexistentes);
+        long geracao = inexistentes.geracao(numero);
+        boolean existe = cooperadoRepository.existsByDocumento(numero);
+        if (!existe) {
+            inexistentes.putIfAbsentSeAtual(numero, Boolean.TRUE, geracao);
+        }
+        return existe;
     }
 
     /**
@@ -0,0 +1,175 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.CooperadoListResponse;
+import com.cooperados.application.dto.CooperadoMapper;
+import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.CooperadoRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serviço de exportação de cooperados em streaming (NDJSON ou CSV)
+ *
+ * Lê os registros por cursor JDBC e escreve cada linha diretamente na saída,
+ * limpando o contexto de persistência a cada lote para manter o uso de memória
+ * constante independente do tamanho da tabela.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Service
+public class CooperadoExportService {
+
+    /**
+     * Quantidade de registros entre cada limpeza do contexto de persistência e flush da saída
+     */
+    private static final int TAMANHO_LOTE = 500;
+
+    private static final String CABECALHO_CSV =
+            "id,nome,tipoDocumento,documentoFormatado,dataNascimentoConstituicao," +
+            "rendaFaturamento,telefoneFormatado,email,ativo";
+
+    private final CooperadoRepository cooperadoRepository;
+    private final CooperadoMapper cooperadoMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CooperadoExportService(CooperadoRepository cooperadoRepository,
+                                  CooperadoMapper cooperadoMapper,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.cooperadoRepository = cooperadoRepository;
+        this.cooperadoMapper = cooperadoMapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Exporta os cooperados ativos no formato solicitado.
+     *
+     * Executa em transação própria porque é chamado a partir da thread assíncrona
+     * do {@code StreamingResponseBody}, fora da transação da requisição.
+     */
+    public void exportar(FormatoExportacao formato, OutputStream saida) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Cooperado> cooperados = cooperadoRepository.streamByAtivoTrue()) {
+                if (formato == FormatoExportacao.CSV) {
+                    escreverCsv(cooperados.iterator(), saida);
+                } else {
+                    escreverNdjson(cooperados.iterator(), saida);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao escrever exportação de cooperados", e);
+            }
+        });
+    }
+
+    private void escreverNdjson(Iterator<Cooperado> cooperados, OutputStream saida) throws IOException {
+        // Uma linha por registro: sem separador padrão entre valores e sem flush a cada registro
+        ObjectWriter writer = objectMapper.writerFor(CooperadoListResponse.class)
+                .withRootValueSeparator("")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida);
+        gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        int contador = 0;
+        while (cooperados.hasNext()) {
+            writer.writeValue(gerador, cooperadoMapper.toListResponse(cooperados.next()));
+            gerador.writeRaw('\n');
+
+            if (++contador % TAMANHO_LOTE == 0) {
+                concluirLote();
+                gerador.flush();
+            }
+        }
+        gerador.flush();
+    }
+
+    private void escreverCsv(Iterator<Cooperado> cooperados, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        writer.write(CABECALHO_CSV);
+        writer.write('\n');
+
+        int contador = 0;
+        while (cooperados.hasNext()) {
+            CooperadoListResponse cooperado = cooperadoMapper.toListResponse(cooperados.next());
+            writer.write(String.valueOf(cooperado.getId()));
+            writer.write(',');
+            writer.write(campoCsv(cooperado.getNome()));
+            writer.write(',');
+            writer.write(campoCsv(cooperado.getTipoDocumento()));
+            writer.write(',');
+            writer.write(campoCsv(cooperado.getDocumentoFormatado()));
+            writer.write(',');
+            writer.write(campoCsv(cooperado.getDataNascimentoConstituicao()));
+            writer.write(',');
+            writer.write(campoCsv(cooperado.getRendaFaturamento() != null
+                    ? cooperado.getRendaFaturamento().toPlainString() : null));
+            writer.write(',');
+            writer.write(campoCsv(cooperado.getTelefoneFormatado()));
+            writer.write(',');
+            writer.write(campoCsv(cooperado.getEmail()));
+            writer.write(',');
+            writer.write(String.valueOf(cooperado.isAtivo()));
+            writer.write('\n');
+
+            if (++contador % TAMANHO_LOTE == 0) {
+                concluirLote();
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Descarta as entidades já escritas para que o contexto de persistência não cresça
+     */
+    private void concluirLote() {
+        entityManager.clear();
+    }
+
+    /**
+     * Formata um campo CSV (RFC 4180), envolvendo em aspas quando necessário
+     */
+    private String campoCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0
+                || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0) {
+            return '"' + texto.replace("\"", "\"\"") + '"';
+        }
+        return texto;
+    }
+
+    /**
+     * Formatos suportados na exportação
+     */
+    public enum FormatoExportacao {
+        NDJSON,
+        CSV
+    }
+}
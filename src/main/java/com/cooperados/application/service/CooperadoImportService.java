@@ -0,0 +1,456 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.CriarCooperadoRequest;
+import com.cooperados.application.dto.ErroImportacao;
+import com.cooperados.application.dto.ImportacaoResponse;
+import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.service.CooperadoDomainService;
+import com.cooperados.domain.valueobject.Documento;
+import com.cooperados.domain.valueobject.Email;
+import com.cooperados.domain.valueobject.Telefone;
+import com.cooperados.infrastructure.cache.FiltroDocumentos;
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serviço de importação em massa de cooperados (CSV ou NDJSON)
+ *
+ * Lê o corpo da requisição em streaming, valida as linhas em lotes paralelos,
+ * carrega as linhas válidas em uma tabela temporária via {@code COPY} e as
+ * mescla em {@code cooperados} com um único {@code INSERT ... ON CONFLICT}.
+ * Linhas rejeitadas são devolvidas no relatório de erros.
+ *
+ * Ativa com app.importacao.enabled (padrão). A fragmentação exige desativá-la
+ * ({@code FragmentacaoConfig}): a mesclagem em um único comando supõe a tabela inteira em um
+ * só banco.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.importacao", name = "enabled", matchIfMissing = true)
+public class CooperadoImportService {
+
+    /**
+     * Quantidade de linhas validadas em paralelo antes de serem enviadas ao COPY
+     */
+    private static final int TAMANHO_LOTE = 1000;
+
+    private static final int TAMANHO_BUFFER_COPY = 64 * 1024;
+
+    private static final String CRIAR_TABELA_TEMPORARIA = """
+            CREATE TEMP TABLE cooperados_importacao (
+                linha BIGINT NOT NULL,
+                nome VARCHAR(255) NOT NULL,
+                tipo_documento VARCHAR(4) NOT NULL,
+                documento_cpf VARCHAR(11),
+                documento_cnpj VARCHAR(14),
+                data_nascimento_constituicao DATE NOT NULL,
+                renda_faturamento DECIMAL(15,2) NOT NULL,
+                telefone VARCHAR(11) NOT NULL,
+                email VARCHAR(255)
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPIAR_PARA_TABELA_TEMPORARIA = """
+            COPY cooperados_importacao (linha, nome, tipo_documento, documento_cpf, documento_cnpj,
+                data_nascimento_constituicao, renda_faturamento, telefone, email)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    /**
+     * Insere as linhas da tabela temporária e devolve as que colidiram com documentos já cadastrados.
+     *
+     * Os IDs seguem o mesmo esquema pooled-lo da aplicação: cada nextval reserva um bloco de
+     * {@link Cooperado#TAMANHO_ALOCACAO_ID} IDs, evitando consumir um bloco inteiro por linha.
+     */
+    private static final String MESCLAR_TABELA_TEMPORARIA = """
+            WITH ordenadas AS (
+                SELECT s.*, row_number() OVER (ORDER BY s.linha) - 1 AS ordem
+                FROM cooperados_importacao s
+            ),
+            blocos AS (
+                SELECT b.numero, nextval('cooperados_id_seq') AS inicio
+                FROM generate_series(0, (SELECT (count(*) - 1) / %1$d FROM cooperados_importacao)) AS b(numero)
+            ),
+            inseridos AS (
+                INSERT INTO cooperados (id, nome, tipo_documento, documento_cpf, documento_cnpj,
+                    data_nascimento_constituicao, renda_faturamento, telefone, email,
+                    ativo, data_criacao, data_atualizacao, versao)
+                SELECT bl.inicio + o.ordem %% %1$d, o.nome, o.tipo_documento, o.documento_cpf, o.documento_cnpj,
+                    o.data_nascimento_constituicao, o.renda_faturamento, o.telefone, o.email,
+                    true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+                FROM ordenadas o
+                JOIN blocos bl ON bl.numero = o.ordem / %1$d
+                ORDER BY o.linha
+                ON CONFLICT DO NOTHING
+                RETURNING COALESCE(documento_cpf, documento_cnpj) AS documento
+            )
+            SELECT s.linha, COALESCE(s.documento_cpf, s.documento_cnpj) AS documento
+            FROM cooperados_importacao s
+            WHERE NOT EXISTS (
+                SELECT 1 FROM inseridos i
+                WHERE i.documento = COALESCE(s.documento_cpf, s.documento_cnpj))
+            ORDER BY s.linha
+            """.formatted(Cooperado.TAMANHO_ALOCACAO_ID);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final FiltroDocumentos filtroDocumentos;
+    private final Cache idsInexistentes;
+    private final Cache documentosInexistentes;
+
+    public CooperadoImportService(JdbcTemplate jdbcTemplate,
+                                  Validator validator,
+                                  ObjectMapper objectMapper,
+                                  FiltroDocumentos filtroDocumentos,
+                                  CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.filtroDocumentos = filtroDocumentos;
+        this.idsInexistentes = cacheManager.getCache(CacheConfig.IDS_INEXISTENTES);
+        this.documentosInexistentes = cacheManager.getCache(CacheConfig.DOCUMENTOS_INEXISTENTES);
+    }
+
+    /**
+     * Importa os cooperados do arquivo em uma única transação
+     */
+    @Transactional
+    public ImportacaoResponse importar(FormatoImportacao formato, InputStream entrada) {
+        jdbcTemplate.execute(CRIAR_TABELA_TEMPORARIA);
+
+        Carga carga = jdbcTemplate.execute(
+                (ConnectionCallback<Carga>) conexao -> carregar(formato, entrada, conexao));
+
+        List<ErroImportacao> conflitos = List.of();
+        if (carga.aceitas > 0) {
+            jdbcTemplate.execute("ANALYZE cooperados_importacao");
+
+            conflitos = jdbcTemplate.query(MESCLAR_TABELA_TEMPORARIA,
+                    (rs, rowNum) -> new ErroImportacao(rs.getLong("linha"), rs.getString("documento"),
+                            List.of("Documento já cadastrado")));
+            filtroDocumentos.registrar(carga.documentos.keySet());
+
+            // Ausências registradas antes da carga deixam de valer após o commit
+            idsInexistentes.clear();
+            documentosInexistentes.clear();
+        }
+
+        List<ErroImportacao> erros = carga.erros;
+        erros.addAll(conflitos);
+        erros.sort(Comparator.comparingLong(ErroImportacao::getLinha));
+
+        return new ImportacaoResponse(carga.totalLinhas, carga.aceitas - conflitos.size(), erros);
+    }
+
+    /**
+     * Lê, valida e envia as linhas válidas para a tabela temporária pelo protocolo COPY
+     */
+    private Carga carregar(FormatoImportacao formato, InputStream entrada, Connection conexao) throws SQLException {
+        PGCopyOutputStream copia = new PGCopyOutputStream(
+                conexao.unwrap(PGConnection.class), COPIAR_PARA_TABELA_TEMPORARIA, TAMANHO_BUFFER_COPY);
+        Writer saida = new BufferedWriter(new OutputStreamWriter(copia, StandardCharsets.UTF_8));
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+
+        Carga carga = new Carga();
+        try {
+            FonteLinhas fonte = formato == FormatoImportacao.CSV
+                    ? new FonteCsv(new LeitorCsv(leitor))
+                    : new FonteNdjson(leitor);
+
+            List<LinhaImportacao> lote = new ArrayList<>(TAMANHO_LOTE);
+            LinhaImportacao linha;
+            while ((linha = fonte.proxima()) != null) {
+                lote.add(linha);
+                if (lote.size() == TAMANHO_LOTE) {
+                    processarLote(lote, saida, carga);
+                    lote.clear();
+                }
+            }
+            processarLote(lote, saida, carga);
+
+            // Fechar a saída encerra o COPY
+            saida.close();
+            return carga;
+        } catch (IOException e) {
+            cancelarCopia(copia);
+            throw new UncheckedIOException("Falha ao ler arquivo de importação de cooperados", e);
+        } catch (RuntimeException e) {
+            cancelarCopia(copia);
+            throw e;
+        }
+    }
+
+    private void processarLote(List<LinhaImportacao> lote, Writer saida, Carga carga) throws IOException {
+        List<LinhaValidada> validadas = lote.parallelStream().map(this::validar).toList();
+
+        for (LinhaValidada linha : validadas) {
+            carga.totalLinhas++;
+
+            if (!linha.mensagens().isEmpty()) {
+                carga.erros.add(new ErroImportacao(linha.numero(), linha.documentoInformado(), linha.mensagens()));
+                continue;
+            }
+
+            Long linhaAnterior = carga.documentos.putIfAbsent(linha.documento().getValor(), linha.numero());
+            if (linhaAnterior != null) {
+                carga.erros.add(new ErroImportacao(linha.numero(), linha.documentoInformado(),
+                        List.of("Documento duplicado no arquivo (linha " + linhaAnterior + ")")));
+                continue;
+            }
+
+            escreverLinhaCopia(saida, linha);
+            carga.aceitas++;
+        }
+    }
+
+    /**
+     * Aplica as mesmas validações do cadastro unitário: anotações do DTO, regras do
+     * {@link CooperadoDomainService} e value objects
+     */
+    private LinhaValidada validar(LinhaImportacao linha) {
+        CriarCooperadoRequest request = linha.request();
+        if (linha.erro() != null) {
+            return LinhaValidada.rejeitada(linha.numero(),
+                    request != null ? request.getDocumento() : null, List.of(linha.erro()));
+        }
+
+        List<String> mensagens = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+        if (!mensagens.isEmpty()) {
+            return LinhaValidada.rejeitada(linha.numero(), request.getDocumento(), mensagens);
+        }
+
+        try {
+            CooperadoDomainService.validarDadosCadastrais(request.getNome(),
+                    request.getDataNascimentoConstituicao(), request.getRendaFaturamento());
+            Documento documento = new Documento(request.getDocumento());
+            Telefone telefone = new Telefone(request.getTelefone());
+            Email email = request.getEmail() != null && !request.getEmail().isBlank()
+                    ? new Email(request.getEmail()) : null;
+
+            return new LinhaValidada(linha.numero(), request.getDocumento(), request.getNome().trim(), documento,
+                    request.getDataNascimentoConstituicao(), request.getRendaFaturamento(), telefone, email,
+                    List.of());
+        } catch (IllegalArgumentException e) {
+            return LinhaValidada.rejeitada(linha.numero(), request.getDocumento(), List.of(e.getMessage()));
+        }
+    }
+
+    private void escreverLinhaCopia(Writer saida, LinhaValidada linha) throws IOException {
+        Documento documento = linha.documento();
+        saida.write(String.valueOf(linha.numero()));
+        saida.write(',');
+        saida.write(campoCopia(linha.nome()));
+        saida.write(',');
+        saida.write(documento.getTipo().name());
+        saida.write(',');
+        saida.write(campoCopia(documento.isCpf() ? documento.getValor() : null));
+        saida.write(',');
+        saida.write(campoCopia(documento.isCnpj() ? documento.getValor() : null));
+        saida.write(',');
+        saida.write(linha.dataNascimentoConstituicao().toString());
+        saida.write(',');
+        saida.write(linha.rendaFaturamento().toPlainString());
+        saida.write(',');
+        saida.write(linha.telefone().getValor());
+        saida.write(',');
+        saida.write(campoCopia(linha.email() != null ? linha.email().getValor() : null));
+        saida.write('\n');
+    }
+
+    /**
+     * No COPY em formato CSV o campo vazio sem aspas é NULL; textos vão sempre entre aspas
+     */
+    private String campoCopia(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    private void cancelarCopia(PGCopyOutputStream copia) throws SQLException {
+        if (copia.isActive()) {
+            copia.cancelCopy();
+        }
+    }
+
+    /**
+     * Origem das linhas do arquivo, lidas uma a uma
+     */
+    private interface FonteLinhas {
+        LinhaImportacao proxima() throws IOException;
+    }
+
+    /**
+     * CSV com cabeçalho contendo os nomes dos campos de {@link CriarCooperadoRequest}
+     */
+    private static final class FonteCsv implements FonteLinhas {
+
+        private static final List<String> COLUNAS_OBRIGATORIAS =
+                List.of("nome", "documento", "dataNascimentoConstituicao", "rendaFaturamento", "telefone");
+
+        private final LeitorCsv leitorCsv;
+        private final Map<String, Integer> colunas = new HashMap<>();
+        private long numero = 1;
+
+        FonteCsv(LeitorCsv leitorCsv) throws IOException {
+            this.leitorCsv = leitorCsv;
+
+            List<String> cabecalho = leitorCsv.proximoRegistro();
+            if (cabecalho == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio");
+            }
+            for (int i = 0; i < cabecalho.size(); i++) {
+                colunas.put(cabecalho.get(i).replace("\uFEFF", "").trim(), i);
+            }
+            for (String coluna : COLUNAS_OBRIGATORIAS) {
+                if (!colunas.containsKey(coluna)) {
+                    throw new IllegalArgumentException("Coluna obrigatória ausente no CSV: " + coluna);
+                }
+            }
+        }
+
+        @Override
+        public LinhaImportacao proxima() throws IOException {
+            List<String> campos;
+            do {
+                campos = leitorCsv.proximoRegistro();
+                if (campos == null) {
+                    return null;
+                }
+                numero++;
+            } while (campos.size() == 1 && campos.get(0).isBlank());
+
+            CriarCooperadoRequest request = new CriarCooperadoRequest();
+            request.setNome(valor(campos, "nome"));
+            request.setDocumento(valor(campos, "documento"));
+            request.setTelefone(valor(campos, "telefone"));
+            request.setEmail(valor(campos, "email"));
+
+            try {
+                String data = valor(campos, "dataNascimentoConstituicao");
+                request.setDataNascimentoConstituicao(data != null ? LocalDate.parse(data) : null);
+            } catch (DateTimeParseException e) {
+                return new LinhaImportacao(numero, request,
+                        "Data de nascimento/constituição deve estar no formato yyyy-MM-dd");
+            }
+
+            try {
+                String renda = valor(campos, "rendaFaturamento");
+                request.setRendaFaturamento(renda != null ? new BigDecimal(renda) : null);
+            } catch (NumberFormatException e) {
+                return new LinhaImportacao(numero, request, "Renda/faturamento deve ser numérico");
+            }
+
+            return new LinhaImportacao(numero, request, null);
+        }
+
+        private String valor(List<String> campos, String coluna) {
+            Integer indice = colunas.get(coluna);
+            if (indice == null || indice >= campos.size()) {
+                return null;
+            }
+            String valor = campos.get(indice).trim();
+            return valor.isEmpty() ? null : valor;
+        }
+    }
+
+    /**
+     * NDJSON com um {@link CriarCooperadoRequest} por linha
+     */
+    private final class FonteNdjson implements FonteLinhas {
+
+        private final BufferedReader leitor;
+        private long numero;
+
+        FonteNdjson(BufferedReader leitor) {
+            this.leitor = leitor;
+        }
+
+        @Override
+        public LinhaImportacao proxima() throws IOException {
+            String conteudo;
+            do {
+                conteudo = leitor.readLine();
+                if (conteudo == null) {
+                    return null;
+                }
+                numero++;
+            } while (conteudo.isBlank());
+
+            try {
+                return new LinhaImportacao(numero,
+                        objectMapper.readValue(conteudo, CriarCooperadoRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new LinhaImportacao(numero, null, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private record LinhaImportacao(long numero, CriarCooperadoRequest request, String erro) {
+    }
+
+    private record LinhaValidada(long numero, String documentoInformado, String nome, Documento documento,
+                                 LocalDate dataNascimentoConstituicao, BigDecimal rendaFaturamento,
+                                 Telefone telefone, Email email, List<String> mensagens) {
+
+        static LinhaValidada rejeitada(long numero, String documentoInformado, List<String> mensagens) {
+            return new LinhaValidada(numero, documentoInformado, null, null, null, null, null, null, mensagens);
+        }
+    }
+
+    /**
+     * Estado acumulado durante a leitura do arquivo
+     */
+    private static final class Carga {
+        private long totalLinhas;
+        private long aceitas;
+        private final List<ErroImportacao> erros = new ArrayList<>();
+        private final Map<String, Long> documentos = new HashMap<>();
+    }
+
+    /**
+     * Formatos suportados na importação
+     */
+    public enum FormatoImportacao {
+        NDJSON,
+        CSV
+    }
+}
@@ -0,0 +1,134 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.CooperadoListResponse;
+import com.cooperados.application.dto.CooperadoMapper;
+import com.cooperados.application.dto.CooperadoResponse;
+import com.cooperados.domain.valueobject.Documento;
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.cooperados.infrastructure.cache.FiltroDocumentos;
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.cooperados.infrastructure.exception.CooperadoNaoEncontradoException;
+import com.cooperados.infrastructure.persistence.CooperadoReativoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serviço de leitura da API reativa
+ *
+ * Compartilha com {@link CooperadoApplicationService} os caches de cooperados por ID e por
+ * documento, os caches negativos e o filtro de documentos: consultas já respondidas por uma
+ * API são atendidas em memória pela outra, e só o restante vai ao banco via R2DBC.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CooperadoReativoService {
+
+    private final CooperadoReativoRepository cooperadoReativoRepository;
+    private final CooperadoMapper cooperadoMapper;
+    private final FiltroDocumentos filtroDocumentos;
+    private final CacheComGeracoes cachePorId;
+    private final CacheComGeracoes cachePorDocumento;
+    private final CacheComGeracoes idsInexistentes;
+    private final CacheComGeracoes documentosInexistentes;
+
+    public CooperadoReativoService(CooperadoReativoRepository cooperadoReativoRepository,
+                                   CooperadoMapper cooperadoMapper,
+                                   FiltroDocumentos filtroDocumentos,
+                                   CacheManager cacheManager) {
+        this.cooperadoReativoRepository = cooperadoReativoRepository;
+        this.cooperadoMapper = cooperadoMapper;
+        this.filtroDocumentos = filtroDocumentos;
+        this.cachePorId = CacheComGeracoes.de(cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID));
+        this.cachePorDocumento = CacheComGeracoes.de(cacheManager.getCache(CacheConfig.COOPERADOS_POR_DOCUMENTO));
+        this.idsInexistentes = CacheComGeracoes.de(cacheManager.getCache(CacheConfig.IDS_INEXISTENTES));
+        this.documentosInexistentes = CacheComGeracoes.de(cacheManager.getCache(CacheConfig.DOCUMENTOS_INEXISTENTES));
+    }
+
+    /**
+     * Busca cooperado por ID
+     */
+    public Mono<CooperadoResponse> buscarPorId(Long id) {
+        CooperadoResponse emCache = cachePorId.get(id, CooperadoResponse.class);
+        if (emCache != null) {
+            return Mono.just(emCache);
+        }
+        if (idsInexistentes.get(id) != null) {
+            return Mono.error(CooperadoNaoEncontradoException.porId(id));
+        }
+
+        // Gerações obtidas antes da consulta: o resultado não é gravado se a chave for removida nesse intervalo
+        long geracao = cachePorId.geracao(id);
+        long geracaoInexistentes = idsInexistentes.geracao(id);
+
+        return cooperadoReativoRepository.buscarPorId(id)
+                .map(cooperadoMapper::toResponse)
+                .doOnNext(resposta -> cachePorId.putIfAbsentSeAtual(id, resposta, geracao))
+                .switchIfEmpty(Mono.defer(() -> {
+                    idsInexistentes.putIfAbsentSeAtual(id, Boolean.TRUE, geracaoInexistentes);
+                    return Mono.error(CooperadoNaoEncontradoException.porId(id));
+                }));
+    }
+
+    /**
+     * Busca cooperado ativo por documento (CPF/CNPJ)
+     */
+    public Mono<CooperadoResponse> buscarPorDocumento(String documento) {
+        String numero = Documento.normalizar(documento);
+        CooperadoResponse emCache = cachePorDocumento.get(numero, CooperadoResponse.class);
+        if (emCache != null) {
+            return Mono.just(emCache);
+        }
+        if (!filtroDocumentos.podeExistir(numero) || documentosInexistentes.get(numero) != null) {
+            return Mono.error(CooperadoNaoEncontradoException.porDocumento(documento));
+        }
+
+        long geracao = cachePorDocumento.geracao(numero);
+        long geracaoInexistentes = documentosInexistentes.geracao(numero);
+
+        return cooperadoReativoRepository.buscarPorDocumento(numero)
+                .map(cooperadoMapper::toResponse)
+                .doOnNext(resposta -> cachePorDocumento.putIfAbsentSeAtual(numero, resposta, geracao))
+                .switchIfEmpty(Mono.defer(() -> {
+                    documentosInexistentes.putIfAbsentSeAtual(numero, Boolean.TRUE, geracaoInexistentes);
+                    return Mono.error(CooperadoNaoEncontradoException.porDocumento(documento));
+                }));
+    }
+
+    /**
+     * Verifica se existe cooperado ativo com o documento
+     */
+    public Mono<Boolean> existePorDocumento(String documento) {
+        String numero = Documento.normalizar(documento);
+
+        // Negativo do filtro é definitivo; positivo pode ser falso e é confirmado no banco
+        if (!filtroDocumentos.podeExistir(numero) || documentosInexistentes.get(numero) != null) {
+            return Mono.just(false);
+        }
+        if (cachePorDocumento.get(numero) != null) {
+            return Mono.just(true);
+        }
+
+        long geracao = documentosInexistentes.geracao(numero);
+
+        return cooperadoReativoRepository.existePorDocumento(numero)
+                .doOnNext(existe -> {
+                    if (!existe) {
+                        documentosInexistentes.putIfAbsentSeAtual(numero, Boolean.TRUE, geracao);
+                    }
+                });
+    }
+
+    /**
+     * Lista todos os cooperados em ordem de ID, em fluxo
+     */
+    public Flux<CooperadoListResponse> listarCooperados() {
+        return cooperadoReativoRepository.listarResumos()
+                .map(cooperadoMapper::toListResponse);
+    }
+}
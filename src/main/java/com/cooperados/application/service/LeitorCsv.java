@@ -0,0 +1,94 @@
+package com.cooperados.application.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor incremental de registros CSV (RFC 4180)
+ *
+ * Lê um registro por vez a partir do {@link Reader}, suportando campos entre
+ * aspas com vírgulas, aspas duplicadas e quebras de linha, sem carregar o
+ * arquivo inteiro em memória.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+final class LeitorCsv {
+
+    private static final int FIM = -1;
+
+    private final Reader reader;
+    private int proximo = FIM - 1;
+
+    LeitorCsv(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lê o próximo registro, ou retorna {@code null} ao fim da entrada
+     */
+    List<String> proximoRegistro() throws IOException {
+        int c = ler();
+        if (c == FIM) {
+            return null;
+        }
+
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        while (c != FIM) {
+            if (entreAspas) {
+                if (c == '"') {
+                    int seguinte = ler();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        devolver(seguinte);
+                    }
+                } else {
+                    campo.append((char) c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                int seguinte = ler();
+                if (seguinte != '\n') {
+                    devolver(seguinte);
+                }
+                break;
+            } else {
+                campo.append((char) c);
+            }
+            c = ler();
+        }
+
+        if (entreAspas) {
+            throw new IllegalArgumentException("Campo entre aspas não finalizado no CSV");
+        }
+
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    private int ler() throws IOException {
+        if (proximo >= FIM) {
+            int c = proximo;
+            proximo = FIM - 1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void devolver(int c) {
+        proximo = c;
+    }
+}
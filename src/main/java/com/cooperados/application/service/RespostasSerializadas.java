@@ -0,0 +1,103 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.CooperadoResponse;
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.cooperados.infrastructure.persistence.DataSourceRoteado;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache das respostas de cooperado já serializadas em JSON (UTF-8) e, acima de um tamanho
+ * mínimo, também compactadas em gzip, prontas para escrita direta no corpo da resposta.
+ *
+ * As entradas são por ID e só valem para a versão com que foram geradas: uma versão
+ * diferente é serializada de novo. Escritas e notificações de alteração removem a entrada
+ * junto com as demais do cooperado, depois das entradas por ID e por documento.
+ *
+ * Só é guardada a serialização da versão que ainda está no cache por ID ou por documento, e
+ * com a geração obtida antes dessa verificação ({@link CacheComGeracoes}): uma resposta lida
+ * antes de uma alteração não volta ao cache depois da remoção. Logo após uma escrita do cliente
+ * ({@link DataSourceRoteado#escritaRecente()}) o cache não é usado.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Component
+public class RespostasSerializadas {
+
+    private final ObjectMapper objectMapper;
+    private final CacheComGeracoes cachePorId;
+    private final CacheComGeracoes cachePorDocumento;
+    private final CacheComGeracoes respostasPorId;
+    private final int tamanhoMinimoGzip;
+
+    public RespostasSerializadas(ObjectMapper objectMapper, CacheManager cacheManager,
+                                 @Value("${app.cache.respostas.gzip-tamanho-minimo:1024}") int tamanhoMinimoGzip) {
+        this.objectMapper = objectMapper;
+        this.cachePorId = CacheComGeracoes.de(cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID));
+        this.cachePorDocumento = CacheComGeracoes.de(cacheManager.getCache(CacheConfig.COOPERADOS_POR_DOCUMENTO));
+        this.respostasPorId = CacheComGeracoes.de(cacheManager.getCache(CacheConfig.RESPOSTAS_POR_ID));
+        this.tamanhoMinimoGzip = tamanhoMinimoGzip;
+    }
+
+    /**
+     * Corpo serializado do cooperado na versão informada; gzip é nulo abaixo do tamanho mínimo
+     */
+    public record Resposta(Long versao, byte[] json, byte[] gzip) {
+    }
+
+    public Resposta obter(CooperadoResponse cooperado) {
+        if (DataSourceRoteado.escritaRecente()) {
+            return serializar(cooperado);
+        }
+
+        long geracao = respostasPorId.geracao(cooperado.getId());
+        Resposta atual = respostasPorId.get(cooperado.getId(), Resposta.class);
+        if (atual != null && atual.versao().equals(cooperado.getVersao())) {
+            return atual;
+        }
+
+        Resposta nova = serializar(cooperado);
+        if (emCache(cooperado)) {
+            respostasPorId.putSeAtual(cooperado.getId(), nova, geracao);
+        }
+        return nova;
+    }
+
+    private boolean emCache(CooperadoResponse cooperado) {
+        CooperadoResponse porId = cachePorId.get(cooperado.getId(), CooperadoResponse.class);
+        CooperadoResponse porDocumento = cachePorDocumento.get(cooperado.getDocumento(), CooperadoResponse.class);
+        return (porId != null && porId.getVersao().equals(cooperado.getVersao()))
+                || (porDocumento != null && porDocumento.getId().equals(cooperado.getId())
+                    && porDocumento.getVersao().equals(cooperado.getVersao()));
+    }
+
+    private Resposta serializar(CooperadoResponse cooperado) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(cooperado);
+            byte[] gzip = json.length >= tamanhoMinimoGzip ? compactar(json) : null;
+            return new Resposta(cooperado.getVersao(), json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar cooperado " + cooperado.getId(), e);
+        }
+    }
+
+    private static byte[] compactar(byte[] json) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,6 +20,8 @@ import java.util.Objects;
 
 /**
  * Entidade de domínio Cooperado
+ *
+ * Com {@link DynamicUpdate}, o UPDATE gerado pelo Hibernate inclui apenas as colunas alteradas.
  * 
  * @author Cooperados Team
  * @version 1.0.0
@@ -30,10 +33,18 @@ import java.util.Objects;
            @UniqueConstraint(columnNames = {"documento_cnpj"}, name = "uk_cooperados_cnpj")
        })
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 public class Cooperado {
 
+    /**
+     * Quantidade de IDs reservados a cada nextval (igual ao INCREMENT BY da sequência)
+     */
+    public static final int TAMANHO_ALOCACAO_ID = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cooperados_id_seq")
+    @SequenceGenerator(name = "cooperados_id_seq", sequenceName = "cooperados_id_seq",
+                       allocationSize = TAMANHO_ALOCACAO_ID)
     @Column(name = "id")
     private Long id;
 
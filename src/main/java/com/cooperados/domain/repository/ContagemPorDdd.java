@@ -0,0 +1,10 @@
+package com.cooperados.domain.repository;
+
+/**
+ * Projeção com a quantidade de cooperados ativos por DDD do telefone
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public record ContagemPorDdd(Short ddd, long total) {
+}
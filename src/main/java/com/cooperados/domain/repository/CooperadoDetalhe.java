@@ -0,0 +1,31 @@
+package com.cooperados.domain.repository;
+
+import com.cooperados.domain.valueobject.Documento;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção somente leitura com todas as colunas do cooperado, usada pela API reativa
+ *
+ * Documento e telefone vêm como números normalizados, formatados na conversão para
+ * {@link com.cooperados.application.dto.CooperadoResponse}.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public record CooperadoDetalhe(
+        Long id,
+        String nome,
+        Documento.TipoDocumento tipoDocumento,
+        String documento,
+        LocalDate dataNascimentoConstituicao,
+        BigDecimal rendaFaturamento,
+        String telefone,
+        String email,
+        boolean ativo,
+        LocalDateTime dataCriacao,
+        LocalDateTime dataAtualizacao,
+        Long versao) {
+}
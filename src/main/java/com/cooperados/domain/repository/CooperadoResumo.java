@@ -0,0 +1,27 @@
+package com.cooperados.domain.repository;
+
+import com.cooperados.domain.valueobject.Documento;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção somente leitura com as colunas usadas nas listagens de cooperados
+ *
+ * Carregada diretamente por expressão de construtor, sem instanciar a entidade
+ * gerenciada (embeddables, snapshot de dirty-checking e controle de versão).
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public record CooperadoResumo(
+        Long id,
+        String nome,
+        Documento.TipoDocumento tipoDocumento,
+        String documento,
+        LocalDate dataNascimentoConstituicao,
+        BigDecimal rendaFaturamento,
+        String telefone,
+        String email,
+        boolean ativo) {
+}
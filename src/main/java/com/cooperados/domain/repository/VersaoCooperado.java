@@ -0,0 +1,10 @@
+package com.cooperados.domain.repository;
+
+/**
+ * Projeção com o ID e a versão de um cooperado, usada para revalidar ETags sem carregar a entidade
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public record VersaoCooperado(Long id, Long versao) {
+}
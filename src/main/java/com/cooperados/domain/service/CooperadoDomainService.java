@@ -1,10 +1,13 @@
 package com.cooperados.domain.service;
 
 import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.ContagemPorDdd;
 import com.cooperados.domain.repository.CooperadoRepository;
 import com.cooperados.domain.valueobject.Documento;
 import com.cooperados.domain.valueobject.Email;
 import com.cooperados.domain.valueobject.Telefone;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,11 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CooperadoDomainService {
 
+    /**
+     * Trigramas exigem ao menos 3 caracteres para que o índice seja seletivo
+     */
+    private static final int TAMANHO_MINIMO_BUSCA_NOME = 3;
+
     private final CooperadoRepository cooperadoRepository;
 
     public CooperadoDomainService(CooperadoRepository cooperadoRepository) {
@@ -32,7 +40,7 @@ public class CooperadoDomainService {
      * Valida se um documento (CPF/CNPJ) já está cadastrado
      */
     public boolean documentoJaCadastrado(String documento) {
-        return cooperadoRepository.existsByDocumento(documento);
+        return cooperadoRepository.existsByDocumento(Documento.normalizar(documento));
     }
 
     /**
@@ -50,21 +58,14 @@ public class CooperadoDomainService {
     }
 
     /**
-     * Cria um novo cooperado com validações de domínio
+     * Cria um novo cooperado com validações de domínio, sem consultar o repositório.
+     * A unicidade do documento é garantida na inserção (ON CONFLICT), não aqui.
      */
-    @Transactional
     public Cooperado criarCooperado(String nome, String documento, LocalDate dataNascimentoConstituicao,
                                    BigDecimal rendaFaturamento, String telefone, String email) {
-        
+
         // Validações de domínio
-        validarNome(nome);
-        validarDataNascimentoConstituicao(dataNascimentoConstituicao);
-        validarRendaFaturamento(rendaFaturamento);
-        
-        // Verifica se documento já está cadastrado
-        if (documentoJaCadastrado(documento)) {
-            throw new IllegalStateException("Documento já está cadastrado no sistema");
-        }
+        validarDadosCadastrais(nome, dataNascimentoConstituicao, rendaFaturamento);
 
         // Cria os value objects
         Documento documentoObj = new Documento(documento);
@@ -127,10 +128,23 @@ public class CooperadoDomainService {
         cooperado.ativar();
     }
 
+    /**
+     * Valida nome, data de nascimento/constituição e renda/faturamento do cadastro, sem consultar
+     * o repositório nem abrir transação; usado também pela importação em massa
+     *
+     * @throws IllegalArgumentException com a mensagem da primeira regra violada
+     */
+    public static void validarDadosCadastrais(String nome, LocalDate dataNascimentoConstituicao,
+                                              BigDecimal rendaFaturamento) {
+        validarNome(nome);
+        validarDataNascimentoConstituicao(dataNascimentoConstituicao);
+        validarRendaFaturamento(rendaFaturamento);
+    }
+
     /**
      * Validações de domínio
      */
-    private void validarNome(String nome) {
+    private static void validarNome(String nome) {
         if (nome == null || nome.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome é obrigatório");
         }
@@ -142,7 +156,7 @@ public class CooperadoDomainService {
         }
     }
 
-    private void validarDataNascimentoConstituicao(LocalDate data) {
+    private static void validarDataNascimentoConstituicao(LocalDate data) {
         if (data == null) {
             throw new IllegalArgumentException("Data de nascimento/constituição é obrigatória");
         }
@@ -158,7 +172,7 @@ public class CooperadoDomainService {
         }
     }
 
-    private void validarRendaFaturamento(BigDecimal renda) {
+    private static void validarRendaFaturamento(BigDecimal renda) {
         if (renda == null) {
             throw new IllegalArgumentException("Renda/faturamento é obrigatório");
         }
@@ -180,6 +194,30 @@ public class CooperadoDomainService {
         return cooperadoRepository.findByNomeContainingIgnoreCase(nome.trim());
     }
 
+    /**
+     * Busca paginada por nome, tolerante a acentos e maiúsculas ("João" encontra "joao")
+     */
+    public Page<Cooperado> buscarPorNome(String nome, Pageable pageable) {
+        if (nome == null || nome.trim().isEmpty()) {
+            throw new IllegalArgumentException("Nome para busca é obrigatório");
+        }
+        if (nome.trim().length() < TAMANHO_MINIMO_BUSCA_NOME) {
+            throw new IllegalArgumentException(
+                    "Nome para busca deve ter pelo menos " + TAMANHO_MINIMO_BUSCA_NOME + " caracteres");
+        }
+        String termo = nome.trim();
+        return cooperadoRepository.findByNomeSimilar(termo, escaparCuringasLike(termo), pageable);
+    }
+
+    /**
+     * Escapa os curingas do LIKE para que sejam tratados como texto literal
+     */
+    private String escaparCuringasLike(String texto) {
+        return texto.replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+    }
+
     public List<Cooperado> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
         if (dataInicio == null || dataFim == null) {
             throw new IllegalArgumentException("Data início e fim são obrigatórias");
@@ -200,13 +238,24 @@ public class CooperadoDomainService {
         return cooperadoRepository.findByRendaFaturamentoBetween(rendaMin, rendaMax);
     }
 
-    public List<Cooperado> buscarPorDdd(String ddd) {
+    public Page<Cooperado> buscarPorDdd(String ddd, Pageable pageable) {
         if (ddd == null || ddd.trim().isEmpty()) {
             throw new IllegalArgumentException("DDD é obrigatório");
         }
-        if (ddd.length() != 2) {
+        if (!ddd.trim().matches("\\d{2}")) {
             throw new IllegalArgumentException("DDD deve ter 2 dígitos");
         }
-        return cooperadoRepository.findByTelefoneDdd(ddd.trim());
+        short dddNumero = Short.parseShort(ddd.trim());
+        if (dddNumero < 11) {
+            throw new IllegalArgumentException("DDD inválido. Deve estar entre 11 e 99");
+        }
+        return cooperadoRepository.findByTelefoneDdd(dddNumero, pageable);
+    }
+
+    /**
+     * Quantidade de cooperados ativos por DDD
+     */
+    public List<ContagemPorDdd> contarPorDdd() {
+        return cooperadoRepository.countAgrupadoPorDdd();
     }
 }
@@ -34,6 +34,13 @@ public class Cnpj {
     }
 
     public String getValorFormatado() {
+        return formatar(valor);
+    }
+
+    /**
+     * Formata o CNPJ (somente dígitos) para exibição, sem validá-lo
+     */
+    public static String formatar(String valor) {
         if (valor == null || valor.length() != 14) {
             return valor;
         }
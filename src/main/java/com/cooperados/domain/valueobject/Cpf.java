@@ -34,6 +34,13 @@ public class Cpf {
     }
 
     public String getValorFormatado() {
+        return formatar(valor);
+    }
+
+    /**
+     * Formata o CPF (somente dígitos) para exibição, sem validá-lo
+     */
+    public static String formatar(String valor) {
         if (valor == null || valor.length() != 11) {
             return valor;
         }
@@ -28,6 +28,12 @@ public class Documento {
     @Embedded
     private Cnpj cnpj;
 
+    /**
+     * Número somente com dígitos, gerado pelo banco a partir de documento_cpf/documento_cnpj
+     */
+    @Column(name = "documento_numero", length = 14, insertable = false, updatable = false)
+    private String numero;
+
     protected Documento() {
         // Construtor protegido para JPA
     }
@@ -37,8 +43,9 @@ public class Documento {
             throw new IllegalArgumentException("Documento é obrigatório");
         }
 
-        String documentoLimpo = valor.replaceAll("[^\\d]", "");
-        
+        String documentoLimpo = normalizar(valor);
+        this.numero = documentoLimpo;
+
         if (documentoLimpo.length() == 11) {
             this.tipo = TipoDocumento.CPF;
             this.cpf = new Cpf(documentoLimpo);
@@ -52,6 +59,26 @@ public class Documento {
         }
     }
 
+    /**
+     * Normaliza o documento informado mantendo somente os dígitos
+     */
+    public static String normalizar(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        return valor.replaceAll("[^\\d]", "");
+    }
+
+    /**
+     * Formata um número de documento normalizado como CPF ou CNPJ, conforme a quantidade de dígitos
+     */
+    public static String formatar(String numero) {
+        if (numero == null) {
+            return null;
+        }
+        return numero.length() == 14 ? Cnpj.formatar(numero) : Cpf.formatar(numero);
+    }
+
     public static Documento cpf(String valor) {
         return new Documento(valor);
     }
@@ -72,6 +99,10 @@ public class Documento {
         }
     }
 
+    public String getNumero() {
+        return numero;
+    }
+
     public String getValorFormatado() {
         if (tipo == TipoDocumento.CPF) {
             return cpf.getValorFormatado();
@@ -20,6 +20,12 @@ public class Telefone {
     @Column(name = "telefone", length = 11, nullable = false)
     private String valor;
 
+    /**
+     * DDD numérico, gerado pelo banco a partir da coluna telefone
+     */
+    @Column(name = "telefone_ddd", insertable = false, updatable = false)
+    private Short ddd;
+
     protected Telefone() {
         // Construtor protegido para JPA
     }
@@ -27,6 +33,7 @@ public class Telefone {
     public Telefone(String valor) {
         this.valor = limparTelefone(valor);
         validarTelefone();
+        this.ddd = Short.valueOf(this.valor.substring(0, 2));
     }
 
     public String getValor() {
@@ -34,6 +41,13 @@ public class Telefone {
     }
 
     public String getValorFormatado() {
+        return formatar(valor);
+    }
+
+    /**
+     * Formata o telefone (somente dígitos) para exibição, sem validá-lo
+     */
+    public static String formatar(String valor) {
         if (valor == null) {
             return null;
         }
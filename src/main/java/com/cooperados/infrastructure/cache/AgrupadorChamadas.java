@@ -0,0 +1,86 @@
+package com.cooperados.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa chamadas concorrentes com a mesma chave (single-flight): a primeira executa a consulta
+ * e as que chegam enquanto ela está em andamento recebem o mesmo resultado, ou a mesma exceção,
+ * sem consultar o banco de novo.
+ *
+ * Não guarda resultados: assim que a consulta termina a chave é liberada, e a próxima chamada
+ * executa uma consulta nova. A retenção fica a cargo dos caches.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public final class AgrupadorChamadas<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final Counter executadas;
+    private final Counter agrupadas;
+
+    /**
+     * Publica as métricas cooperados.consultas.executadas, cooperados.consultas.agrupadas e
+     * cooperados.consultas.em.andamento com a tag consulta=nome
+     */
+    public AgrupadorChamadas(String nome, MeterRegistry meterRegistry) {
+        this.executadas = Counter.builder("cooperados.consultas.executadas")
+                .description("Consultas executadas no banco pelo agrupador")
+                .tag("consulta", nome)
+                .register(meterRegistry);
+        this.agrupadas = Counter.builder("cooperados.consultas.agrupadas")
+                .description("Chamadas atendidas pelo resultado de uma consulta idêntica em andamento")
+                .tag("consulta", nome)
+                .register(meterRegistry);
+        Gauge.builder("cooperados.consultas.em.andamento", emAndamento, ConcurrentHashMap::size)
+                .description("Chaves com consulta em andamento")
+                .tag("consulta", nome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa a consulta da chave ou aguarda a que já está em andamento para ela
+     */
+    public V executar(K chave, Supplier<V> consulta) {
+        CompletableFuture<V> nova = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            agrupadas.increment();
+            return aguardar(existente);
+        }
+
+        executadas.increment();
+        try {
+            V resultado = consulta.get();
+            nova.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            nova.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    private V aguardar(CompletableFuture<V> emAndamento) {
+        try {
+            return emAndamento.join();
+        } catch (CompletionException e) {
+            // Repassa a exceção original (ex.: não encontrado) para ser tratada como na consulta
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+}
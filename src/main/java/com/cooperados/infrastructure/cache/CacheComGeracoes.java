@@ -0,0 +1,147 @@
+package com.cooperados.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Objects;
+
+/**
+ * Cache Caffeine que descarta gravações feitas a partir de consultas anteriores a uma remoção.
+ *
+ * Uma consulta que leu o cooperado antes do commit de uma alteração pode terminar depois da
+ * remoção da entrada e gravar o estado antigo, que ficaria no cache até expirar. Cada remoção
+ * incrementa a geração da chave; quem consulta o banco obtém a geração antes da consulta
+ * ({@link #geracao}) e grava com {@link #putSeAtual}, que não grava se a chave foi removida
+ * nesse intervalo.
+ *
+ * As gerações ficam em faixas fixas pelo hash da chave, sem memória por chave: uma remoção
+ * também descarta gravações de outras chaves da mesma faixa, o que só custa uma nova consulta.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class CacheComGeracoes extends CaffeineCache {
+
+    private static final int FAIXAS = 1024;
+
+    private final long[] geracoes = new long[FAIXAS];
+    private final Object[] travas = new Object[FAIXAS];
+
+    public CacheComGeracoes(String nome, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                            boolean permitirNulos) {
+        super(nome, cache, permitirNulos);
+        for (int faixa = 0; faixa < FAIXAS; faixa++) {
+            travas[faixa] = new Object();
+        }
+    }
+
+    /**
+     * O cache com gerações por trás do cache obtido do CacheManager (que pode estar envolvido
+     * pelo decorador transacional)
+     */
+    public static CacheComGeracoes de(Cache cache) {
+        Cache alvo = cache instanceof TransactionAwareCacheDecorator transacional
+                ? transacional.getTargetCache() : cache;
+        if (alvo instanceof CacheComGeracoes comGeracoes) {
+            return comGeracoes;
+        }
+        throw new IllegalStateException("Cache " + cache.getName() + " não controla gerações");
+    }
+
+    /**
+     * Geração atual da chave, a ser obtida antes da consulta cujo resultado será gravado
+     */
+    public long geracao(Object chave) {
+        int faixa = faixa(chave);
+        synchronized (travas[faixa]) {
+            return geracoes[faixa];
+        }
+    }
+
+    /**
+     * Grava o valor se a chave não foi removida desde a geração informada
+     *
+     * @return se o valor foi gravado
+     */
+    public boolean putSeAtual(Object chave, Object valor, long geracao) {
+        int faixa = faixa(chave);
+        synchronized (travas[faixa]) {
+            if (geracoes[faixa] != geracao) {
+                return false;
+            }
+            put(chave, valor);
+            return true;
+        }
+    }
+
+    /**
+     * Como {@link #putSeAtual}, sem substituir um valor já presente
+     */
+    public void putIfAbsentSeAtual(Object chave, Object valor, long geracao) {
+        int faixa = faixa(chave);
+        synchronized (travas[faixa]) {
+            if (geracoes[faixa] == geracao) {
+                putIfAbsent(chave, valor);
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object chave) {
+        int faixa = faixa(chave);
+        synchronized (travas[faixa]) {
+            geracoes[faixa]++;
+            super.evict(chave);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object chave) {
+        int faixa = faixa(chave);
+        synchronized (travas[faixa]) {
+            geracoes[faixa]++;
+            return super.evictIfPresent(chave);
+        }
+    }
+
+    @Override
+    public void clear() {
+        avancarTodas();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        avancarTodas();
+        return super.invalidate();
+    }
+
+    /**
+     * Gravações que passarem por uma faixa já avançada antes da limpeza são removidas por ela
+     */
+    private void avancarTodas() {
+        for (int faixa = 0; faixa < FAIXAS; faixa++) {
+            synchronized (travas[faixa]) {
+                geracoes[faixa]++;
+            }
+        }
+    }
+
+    private static int faixa(Object chave) {
+        int hash = Objects.hashCode(chave);
+        return (hash ^ (hash >>> 16)) & (FAIXAS - 1);
+    }
+
+    /**
+     * CaffeineCacheManager que cria os caches como {@link CacheComGeracoes}
+     */
+    public static class Gerenciador extends CaffeineCacheManager {
+
+        @Override
+        protected Cache adaptCaffeineCache(String nome, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+            return new CacheComGeracoes(nome, cache, isAllowNullValues());
+        }
+    }
+}
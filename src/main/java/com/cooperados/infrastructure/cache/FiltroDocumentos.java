@@ -0,0 +1,225 @@
+package com.cooperados.infrastructure.cache;
+
+import com.cooperados.infrastructure.persistence.RoteadorFragmentos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Filtro de Bloom com todos os documentos já cadastrados (ativos ou não), usado para responder
+ * "não existe" sem ida ao banco. Respostas "pode existir" continuam sendo confirmadas no banco.
+ *
+ * Construído a partir da tabela no início da aplicação e reconstruído periodicamente (o que
+ * também o redimensiona). Entre reconstruções, recebe os documentos criados por esta instância
+ * e, via {@link InvalidacaoCacheListener}, os criados pelas demais. Com fragmentação, a tabela
+ * de cada nó é lida em paralelo para o mesmo filtro.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Component
+public class FiltroDocumentos {
+
+    private static final Logger log = LoggerFactory.getLogger(FiltroDocumentos.class);
+
+    private static final double TAXA_FALSO_POSITIVO = 0.01;
+
+    /**
+     * Folga para inserções entre reconstruções antes que a taxa de falsos positivos suba
+     */
+    private static final double FATOR_CRESCIMENTO = 2.0;
+    private static final long CAPACIDADE_MINIMA = 100_000;
+    private static final int TAMANHO_LOTE_LEITURA = 10_000;
+
+    /**
+     * CNPJs (14 dígitos) são deslocados para não colidirem com CPFs (11 dígitos) de mesmo valor
+     */
+    private static final long DESLOCAMENTO_CNPJ = 100_000_000_000_000L;
+    private static final int TAMANHO_CPF = 11;
+    private static final int TAMANHO_MAXIMO_DOCUMENTO = 14;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final Executor executor;
+    private final Optional<RoteadorFragmentos> roteadorFragmentos;
+    private final AtomicBoolean reconstruindo = new AtomicBoolean();
+    private final AtomicBoolean reconstrucaoPendente = new AtomicBoolean();
+
+    /**
+     * Nulo até a primeira construção: nesse intervalo todas as consultas vão ao banco
+     */
+    private volatile FiltroBloom filtro;
+
+    /**
+     * Filtro em construção; recebe também os documentos criados durante a leitura da tabela
+     */
+    private volatile FiltroBloom emConstrucao;
+
+    /**
+     * Sem a escuta de notificações, o filtro não saberia dos documentos criados por outras
+     * instâncias; desabilitado, nunca é construído e todas as consultas vão ao banco.
+     * As reconstruções solicitadas rodam no executor de tarefas da aplicação (threads virtuais
+     * quando spring.threads.virtual.enabled=true).
+     */
+    public FiltroDocumentos(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            @Value("${app.cache.filtro-documentos.enabled:true}") boolean habilitado,
+                            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                            Executor executor,
+                            Optional<RoteadorFragmentos> roteadorFragmentos) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Sem readOnly: com réplicas de leitura, a tabela é lida no primário, pois uma réplica
+        // atrasada deixaria de fora documentos recém-criados e o "não existe" do filtro é definitivo
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.habilitado = habilitado;
+        this.executor = executor;
+        this.roteadorFragmentos = roteadorFragmentos;
+    }
+
+    /**
+     * Falso garante que o documento (somente dígitos) nunca foi cadastrado
+     */
+    public boolean podeExistir(String documentoNumero) {
+        FiltroBloom atual = filtro;
+        if (atual == null || documentoNumero.isEmpty() || documentoNumero.length() > TAMANHO_MAXIMO_DOCUMENTO) {
+            return true;
+        }
+        return atual.podeConter(chave(documentoNumero));
+    }
+
+    /**
+     * Registra um documento criado. Se houver transação ativa, registra de novo após o commit,
+     * para não perdê-lo caso uma reconstrução leia a tabela antes do commit.
+     */
+    public void registrar(String documentoNumero) {
+        adicionar(documentoNumero);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adicionar(documentoNumero);
+                }
+            });
+        }
+    }
+
+    public void registrar(Collection<String> documentosNumeros) {
+        documentosNumeros.forEach(this::adicionar);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    documentosNumeros.forEach(FiltroDocumentos.this::adicionar);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reconstrói o filtro em segundo plano, sem bloquear quem solicitou
+     */
+    public void solicitarReconstrucao() {
+        executor.execute(this::reconstruir);
+    }
+
+    /**
+     * Reconstrói o filtro a partir da tabela, na inicialização e depois a cada intervalo configurado
+     */
+    @Scheduled(initialDelay = 0,
+               fixedDelayString = "${app.cache.filtro-documentos.intervalo-reconstrucao:PT1H}")
+    public void reconstruir() {
+        if (!habilitado) {
+            return;
+        }
+        if (!reconstruindo.compareAndSet(false, true)) {
+            // Já há uma reconstrução em andamento; ela pode ter lido a tabela antes da solicitação
+            reconstrucaoPendente.set(true);
+            return;
+        }
+        try {
+            do {
+                reconstrucaoPendente.set(false);
+                construir();
+            } while (reconstrucaoPendente.get());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o filtro de documentos: {}", e.getMessage());
+        } finally {
+            reconstruindo.set(false);
+        }
+    }
+
+    private void construir() {
+        long inicio = System.nanoTime();
+        long total = emCadaNo(() -> jdbcTemplate.queryForObject("SELECT count(*) FROM cooperados", Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        long capacidade = Math.max(CAPACIDADE_MINIMA, (long) (total * FATOR_CRESCIMENTO));
+
+        // Publicado antes da leitura: criações concorrentes entram nos dois filtros
+        FiltroBloom novo = new FiltroBloom(capacidade, TAXA_FALSO_POSITIVO);
+        emConstrucao = novo;
+        try {
+            emCadaNo(() -> {
+                jdbcTemplate.query(con -> {
+                    PreparedStatement statement = con.prepareStatement("SELECT documento_numero FROM cooperados");
+                    statement.setFetchSize(TAMANHO_LOTE_LEITURA);
+                    return statement;
+                }, rs -> {
+                    novo.adicionar(chave(rs.getString(1)));
+                });
+                return null;
+            });
+            filtro = novo;
+        } finally {
+            emConstrucao = null;
+        }
+        log.info("Filtro de documentos reconstruído com {} documentos ({} bits, {} hashes) em {} ms",
+                total, novo.getTotalBits(), novo.getQuantidadeHashes(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Executa a consulta em transação própria, uma vez em cada nó quando há fragmentação
+     */
+    private <T> List<T> emCadaNo(Supplier<T> consulta) {
+        if (roteadorFragmentos.isEmpty()) {
+            return Collections.singletonList(transactionTemplate.execute(status -> consulta.get()));
+        }
+        return roteadorFragmentos.get().executarEmTodos(no -> consulta.get());
+    }
+
+    private void adicionar(String documentoNumero) {
+        long chave = chave(documentoNumero);
+        FiltroBloom construindo = emConstrucao;
+        if (construindo != null) {
+            construindo.adicionar(chave);
+        }
+        FiltroBloom atual = filtro;
+        if (atual != null) {
+            atual.adicionar(chave);
+        }
+    }
+
+    private static long chave(String documentoNumero) {
+        long valor = Long.parseLong(documentoNumero);
+        return documentoNumero.length() > TAMANHO_CPF ? valor + DESLOCAMENTO_CNPJ : valor;
+    }
+}
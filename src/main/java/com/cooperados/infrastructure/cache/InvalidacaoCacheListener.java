@@ -0,0 +1,252 @@
+package com.cooperados.infrastructure.cache;
+
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.cooperados.infrastructure.config.FragmentacaoConfig;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escuta o canal cooperados_changed do PostgreSQL e remove dos caches locais os cooperados
+ * alterados em qualquer instância da API (ou diretamente no banco). Os documentos notificados
+ * também entram no filtro de documentos, que assim conhece os criados pelas demais instâncias.
+ *
+ * Usa uma conexão dedicada, fora do pool, mantida aberta enquanto a aplicação roda. Se a
+ * conexão cair, notificações podem ter sido perdidas: os caches são esvaziados e o filtro
+ * reconstruído ao reconectar.
+ *
+ * Com réplicas de leitura, a notificação chega antes de as réplicas aplicarem a alteração, e
+ * uma leitura nesse intervalo pode devolver ao cache a versão anterior. Por isso cada
+ * invalidação é repetida após o atraso máximo tolerado das réplicas (app.replicas.atraso-maximo).
+ *
+ * Com fragmentação, cada nó notifica as alterações das suas linhas: há uma conexão de escuta,
+ * com sua thread, por nó.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.invalidacao", name = "enabled", matchIfMissing = true)
+public class InvalidacaoCacheListener implements SmartLifecycle {
+
+    /**
+     * Canal em que os triggers de cooperados publicam {@code <id>,<documento>}
+     */
+    public static final String CANAL = "cooperados_changed";
+
+    /**
+     * Payload enviado no lugar das notificações individuais em cargas grandes
+     */
+    static final String PAYLOAD_CARGA_EM_MASSA = "*";
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidacaoCacheListener.class);
+
+    private static final int TIMEOUT_ESPERA_MS = 1000;
+    private static final long INTERVALO_RECONEXAO_MS = 5000;
+
+    private final DataSourceProperties dataSourceProperties;
+
+    /**
+     * URLs dos nós de fragmentação além do banco de spring.datasource
+     */
+    private final List<String> nosAdicionais;
+    private final Cache cachePorId;
+    private final Cache cachePorDocumento;
+    private final Cache respostasPorId;
+    private final Cache idsInexistentes;
+    private final Cache documentosInexistentes;
+    private final FiltroDocumentos filtroDocumentos;
+
+    /**
+     * Nulo sem réplicas de leitura: nada a invalidar de novo
+     */
+    private final TaskScheduler agendador;
+    private final Duration atrasoReplicas;
+
+    private volatile boolean executando;
+    private final List<Thread> threads = new ArrayList<>();
+
+    @Autowired
+    public InvalidacaoCacheListener(DataSourceProperties dataSourceProperties, CacheManager cacheManager,
+                                    FiltroDocumentos filtroDocumentos, TaskScheduler agendador,
+                                    @Value("${app.replicas.enabled:false}") boolean replicas,
+                                    @Value("${app.replicas.atraso-maximo:5s}") Duration atrasoReplicas,
+                                    @Value("${app.fragmentacao.enabled:false}") boolean fragmentacao,
+                                    Environment environment) {
+        this(dataSourceProperties, fragmentacao ? FragmentacaoConfig.urlsNos(environment) : List.of(),
+                cacheManager, filtroDocumentos, replicas ? agendador : null, atrasoReplicas);
+    }
+
+    InvalidacaoCacheListener(DataSourceProperties dataSourceProperties, CacheManager cacheManager,
+                             FiltroDocumentos filtroDocumentos, TaskScheduler agendador, Duration atrasoReplicas) {
+        this(dataSourceProperties, List.of(), cacheManager, filtroDocumentos, agendador, atrasoReplicas);
+    }
+
+    InvalidacaoCacheListener(DataSourceProperties dataSourceProperties, List<String> nosAdicionais,
+                             CacheManager cacheManager, FiltroDocumentos filtroDocumentos,
+                             TaskScheduler agendador, Duration atrasoReplicas) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.nosAdicionais = List.copyOf(nosAdicionais);
+        this.cachePorId = cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID);
+        this.cachePorDocumento = cacheManager.getCache(CacheConfig.COOPERADOS_POR_DOCUMENTO);
+        this.respostasPorId = cacheManager.getCache(CacheConfig.RESPOSTAS_POR_ID);
+        this.idsInexistentes = cacheManager.getCache(CacheConfig.IDS_INEXISTENTES);
+        this.documentosInexistentes = cacheManager.getCache(CacheConfig.DOCUMENTOS_INEXISTENTES);
+        this.filtroDocumentos = filtroDocumentos;
+        this.agendador = agendador;
+        this.atrasoReplicas = atrasoReplicas;
+    }
+
+    @Override
+    public void start() {
+        executando = true;
+        List<String> urls = new ArrayList<>();
+        urls.add(dataSourceProperties.determineUrl());
+        urls.addAll(nosAdicionais);
+        for (int no = 0; no < urls.size(); no++) {
+            String url = urls.get(no);
+            Thread thread = new Thread(() -> escutar(url),
+                    no == 0 ? "cooperados-cache-invalidacao" : "cooperados-cache-invalidacao-no-" + no);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(TIMEOUT_ESPERA_MS * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    private void escutar(String url) {
+        boolean reconexao = false;
+        while (executando) {
+            try (Connection conexao = DriverManager.getConnection(
+                    url,
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("LISTEN " + CANAL);
+                }
+                if (reconexao) {
+                    // Alterações feitas enquanto a conexão estava fora não foram notificadas
+                    invalidarTudo();
+                    log.info("Escuta de {} restabelecida; caches de cooperados esvaziados", CANAL);
+                }
+
+                PGConnection pgConnection = conexao.unwrap(PGConnection.class);
+                while (executando) {
+                    PGNotification[] notificacoes = pgConnection.getNotifications(TIMEOUT_ESPERA_MS);
+                    if (notificacoes != null) {
+                        for (PGNotification notificacao : notificacoes) {
+                            try {
+                                invalidar(notificacao.getParameter());
+                            } catch (RuntimeException e) {
+                                log.warn("Notificação de {} ignorada ({}): {}",
+                                        CANAL, notificacao.getParameter(), e.getMessage());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!executando) {
+                    return;
+                }
+                log.warn("Conexão de escuta de {} perdida, nova tentativa em {} ms: {}",
+                        CANAL, INTERVALO_RECONEXAO_MS, e.getMessage());
+                reconexao = true;
+                try {
+                    Thread.sleep(INTERVALO_RECONEXAO_MS);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove dos caches o cooperado descrito no payload {@code <id>,<documento>} e registra o
+     * documento no filtro; o payload de carga em massa invalida tudo
+     */
+    void invalidar(String payload) {
+        if (PAYLOAD_CARGA_EM_MASSA.equals(payload)) {
+            invalidarTudo();
+            return;
+        }
+        int separador = payload.indexOf(',');
+        if (separador < 0) {
+            log.warn("Notificação de {} ignorada, payload inválido: {}", CANAL, payload);
+            return;
+        }
+        Long id = Long.valueOf(payload.substring(0, separador));
+        String documento = payload.substring(separador + 1);
+        remover(id, documento);
+        filtroDocumentos.registrar(documento);
+        aposAtrasoReplicas(() -> remover(id, documento));
+    }
+
+    private void remover(Long id, String documento) {
+        cachePorId.evict(id);
+        cachePorDocumento.evict(documento);
+        respostasPorId.evict(id);
+        idsInexistentes.evict(id);
+        documentosInexistentes.evict(documento);
+    }
+
+    private void invalidarTudo() {
+        esvaziarCaches();
+        filtroDocumentos.solicitarReconstrucao();
+        aposAtrasoReplicas(this::esvaziarCaches);
+    }
+
+    private void esvaziarCaches() {
+        cachePorId.clear();
+        cachePorDocumento.clear();
+        respostasPorId.clear();
+        idsInexistentes.clear();
+        documentosInexistentes.clear();
+    }
+
+    private void aposAtrasoReplicas(Runnable invalidacao) {
+        if (agendador != null) {
+            agendador.schedule(invalidacao, Instant.now().plus(atrasoReplicas));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.cooperados.infrastructure.config;
+
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.List;
+
+/**
+ * Configuração do cache em memória (Caffeine) das consultas de cooperado
+ *
+ * Habilita também o agendamento usado na reconstrução periódica do filtro de documentos.
+ * 
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableCaching
+@EnableScheduling
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * Cooperados por ID (ativos ou não)
+     */
+    public static final String COOPERADOS_POR_ID = "cooperadosPorId";
+
+    /**
+     * Cooperados ativos por documento normalizado (somente dígitos)
+     */
+    public static final String COOPERADOS_POR_DOCUMENTO = "cooperadosPorDocumento";
+
+    /**
+     * Respostas de cooperado por ID já serializadas em JSON, válidas para uma versão
+     */
+    public static final String RESPOSTAS_POR_ID = "respostasPorId";
+
+    /**
+     * IDs consultados sem resultado (cache negativo, TTL curto)
+     */
+    public static final String IDS_INEXISTENTES = "idsInexistentes";
+
+    /**
+     * Documentos normalizados sem cooperado ativo (cache negativo, TTL curto)
+     */
+    public static final String DOCUMENTOS_INEXISTENTES = "documentosInexistentes";
+
+    /**
+     * Caches com limite de tamanho e TTL definidos em spring.cache.caffeine.spec; os caches
+     * negativos usam app.cache.inexistentes.spec, com TTL curto.
+     *
+     * O proxy transacional adia as remoções para depois do commit. Se ocorressem antes, uma
+     * leitura concorrente recarregaria o estado antigo, ainda visível até o commit.
+     *
+     * Adiar a remoção não basta: uma leitura que consultou o banco antes do commit pode gravar o
+     * estado antigo depois da remoção. Os caches são {@link CacheComGeracoes}, e as leituras
+     * gravam com putSeAtual/putIfAbsentSeAtual, descartando o resultado se a chave foi removida
+     * depois do início da consulta. Garantia: após o commit de uma alteração e a remoção das
+     * entradas, nenhuma consulta iniciada antes delas volta a gravar o estado anterior. Com
+     * réplicas de leitura, uma consulta posterior ainda pode ler uma réplica atrasada (até
+     * app.replicas.atraso-maximo) e gravá-la, como sem cache.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties,
+                                     @Value("${app.cache.inexistentes.spec}") String especificacaoInexistentes) {
+        CaffeineCacheManager caffeineCacheManager = new CacheComGeracoes.Gerenciador();
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeineCacheManager.setCacheNames(List.of(COOPERADOS_POR_ID, COOPERADOS_POR_DOCUMENTO, RESPOSTAS_POR_ID));
+        caffeineCacheManager.registerCustomCache(IDS_INEXISTENTES,
+                Caffeine.from(especificacaoInexistentes).build());
+        caffeineCacheManager.registerCustomCache(DOCUMENTOS_INEXISTENTES,
+                Caffeine.from(especificacaoInexistentes).build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,37 @@
+package com.cooperados.infrastructure.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * ETags fracas para as listagens paginadas e contagens de cooperados, calculadas a partir do
+ * corpo da resposta.
+ *
+ * A consulta ainda é executada, mas um cliente com a mesma ETag recebe 304 sem o corpo. O
+ * filtro acumula o corpo inteiro em memória para calcular o hash, por isso só cobre respostas
+ * de tamanho limitado (páginas e contagens). Ficam de fora as listagens sem paginação
+ * (/ativos e /tipo/{tipo}), cujo corpo cresce com a tabela, a exportação em streaming e as
+ * buscas individuais, que emitem ETags fortes pela versão.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Configuration
+public class EtagConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagListagensFilter() {
+        ShallowEtagHeaderFilter filtro = new ShallowEtagHeaderFilter();
+        filtro.setWriteWeakETag(true);
+
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registro = new FilterRegistrationBean<>(filtro);
+        registro.addUrlPatterns(
+                "/api/v1/cooperados",
+                "/api/v1/cooperados/busca",
+                "/api/v1/cooperados/ddd/*",
+                "/api/v1/cooperados/contar/*");
+        return registro;
+    }
+}
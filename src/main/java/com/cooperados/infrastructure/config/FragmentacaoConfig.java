@@ -0,0 +1,288 @@
+package com.cooperados.infrastructure.config;
+
+import com.cooperados.infrastructure.persistence.CooperadoRepositoryFragmentado;
+import com.cooperados.infrastructure.persistence.CooperadoRepositoryImpl;
+import com.cooperados.infrastructure.persistence.DataSourceFragmentado;
+import com.cooperados.infrastructure.persistence.Fragmentacao;
+import com.cooperados.infrastructure.persistence.GeradorIdCooperado;
+import com.cooperados.infrastructure.persistence.MapaFragmentos;
+import com.cooperados.infrastructure.persistence.RebalanceadorFragmentos;
+import com.cooperados.infrastructure.persistence.RebalanceadorFragmentos.Movimento;
+import com.cooperados.infrastructure.persistence.RoteadorFragmentos;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fragmentação dos cooperados entre vários nós PostgreSQL (app.fragmentacao.enabled=true).
+ *
+ * O nó 0 é o banco de spring.datasource, que guarda também o catálogo de fragmentos; os demais
+ * são as URLs de app.fragmentacao.nos, com o mesmo usuário, senha e configurações de pool. As
+ * migrações rodam em todos os nós, e cada nó passa a gerar IDs na sua faixa da sequência
+ * ({@link Fragmentacao#inicioSequenciaNo}). O repositório de cooperados é envolvido por
+ * {@link CooperadoRepositoryFragmentado}, que distribui as chamadas entre os nós.
+ *
+ * Com app.fragmentacao.rebalancear=planejar ou executar, a aplicação mostra ou executa o
+ * rebalanceamento ({@link RebalanceadorFragmentos}) e termina.
+ *
+ * Não se combina com réplicas de leitura nem com a importação em massa (exige
+ * app.importacao.enabled=false), e a API reativa não é iniciada nesse modo, pois acessam a
+ * tabela diretamente em um só banco.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.fragmentacao", name = "enabled", havingValue = "true")
+public class FragmentacaoConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FragmentacaoConfig.class);
+
+    /**
+     * Versão da migração com os dados de exemplo, que em um nó novo já estão no nó 0
+     */
+    private static final String VERSAO_DADOS_EXEMPLO = "2";
+
+    /**
+     * Índice pelo fragmento do documento, com que o rebalanceamento lê e remove as linhas dos
+     * fragmentos movidos
+     */
+    private static final String INDICE_FRAGMENTO = "idx_cooperados_fragmento";
+
+    public FragmentacaoConfig(Environment environment) {
+        if (environment.getProperty("app.replicas.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("app.fragmentacao.enabled=true não pode ser usado com app.replicas.enabled=true");
+        }
+        if (environment.getProperty("app.importacao.enabled", Boolean.class, true)) {
+            throw new IllegalStateException("app.fragmentacao.enabled=true exige app.importacao.enabled=false: "
+                    + "a importação em massa grava todas as linhas em um só banco");
+        }
+    }
+
+    /**
+     * URLs dos nós além do nó 0 (app.fragmentacao.nos)
+     */
+    public static List<String> urlsNos(Environment environment) {
+        return Binder.get(environment)
+                .bind("app.fragmentacao.nos", Bindable.listOf(String.class))
+                .orElse(List.of());
+    }
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourceNo0(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public DataSourceFragmentado dataSourceFragmentado(@Qualifier("dataSourceNo0") DataSource no0,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       Environment environment,
+                                                       MeterRegistry meterRegistry) {
+        List<String> urls = urlsNos(environment);
+        if (urls.size() > Fragmentacao.MAXIMO_NOS - 1) {
+            throw new IllegalStateException("app.fragmentacao.nos aceita no máximo " + (Fragmentacao.MAXIMO_NOS - 1) + " URLs");
+        }
+        List<DataSource> nos = new ArrayList<>();
+        nos.add(no0);
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource pool = criarPool("no-" + (i + 1), urls.get(i), dataSourceProperties, environment,
+                    meterRegistry);
+            nos.add(Threading.VIRTUAL.isActive(environment) ? ThreadsVirtuaisConfig.limitar(pool, environment) : pool);
+        }
+        return new DataSourceFragmentado(nos, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceFragmentado dataSourceFragmentado) {
+        return new LazyConnectionDataSourceProxy(dataSourceFragmentado);
+    }
+
+    @Bean
+    public MapaFragmentos mapaFragmentos(@Qualifier("dataSourceNo0") DataSource no0,
+                                         DataSourceFragmentado dataSourceFragmentado) {
+        return new MapaFragmentos(new JdbcTemplate(no0), dataSourceFragmentado.getTotalNos());
+    }
+
+    @Bean
+    public RoteadorFragmentos roteadorFragmentos(MapaFragmentos mapaFragmentos,
+                                                 DataSourceFragmentado dataSourceFragmentado,
+                                                 PlatformTransactionManager transactionManager) {
+        return new RoteadorFragmentos(mapaFragmentos, dataSourceFragmentado, transactionManager);
+    }
+
+    /**
+     * Envolve o repositório de cooperados com o roteamento entre os nós
+     */
+    @Bean
+    static BeanPostProcessor repositorioFragmentado(ObjectProvider<RoteadorFragmentos> roteador,
+                                                    ObjectProvider<GeradorIdCooperado> geradorId,
+                                                    @Qualifier("dataSourceNo0") ObjectProvider<DataSource> no0) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof CooperadoRepositoryImpl)) {
+                    return bean;
+                }
+                ProxyFactory fabrica = new ProxyFactory();
+                fabrica.setTarget(bean);
+                fabrica.addInterface(CooperadoRepositoryImpl.class);
+                fabrica.addAdvice(new CooperadoRepositoryFragmentado(
+                        roteador.getObject(), geradorId.getObject(), new JdbcTemplate(no0.getObject())));
+                return fabrica.getProxy();
+            }
+        };
+    }
+
+    /**
+     * Aplica as migrações no nó 0 e depois nos demais, cria o índice por fragmento e posiciona a
+     * sequência de IDs de cada nó no início da sua faixa. Todos os nós precisam da mesma collation
+     * do nó 0, que ordena os textos das linhas combinadas ({@link CooperadoRepositoryFragmentado})
+     */
+    @Bean
+    public FlywayMigrationStrategy migracaoTodosNos(DataSourceFragmentado dataSourceFragmentado) {
+        return flyway -> {
+            String collationNo0 = null;
+            for (int no = 0; no < dataSourceFragmentado.getTotalNos(); no++) {
+                DataSource dataSource = dataSourceFragmentado.getNo(no);
+                String collation = new JdbcTemplate(dataSource).queryForObject(
+                        "SELECT datcollate FROM pg_database WHERE datname = current_database()", String.class);
+                if (no == 0) {
+                    collationNo0 = collation;
+                } else if (!collationNo0.equals(collation)) {
+                    throw new IllegalStateException("O nó " + no + " usa a collation " + collation
+                            + ", diferente da do nó 0 (" + collationNo0 + ")");
+                }
+                MigrateResult resultado = no == 0 ? flyway.migrate() : Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(dataSource)
+                        .load()
+                        .migrate();
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                if (no > 0 && resultado.migrations.stream()
+                        .anyMatch(migracao -> VERSAO_DADOS_EXEMPLO.equals(migracao.version))) {
+                    jdbcTemplate.update("DELETE FROM cooperados");
+                    log.info("Nó {} criado; dados de exemplo removidos (já estão no nó 0)", no);
+                }
+                criarIndiceFragmento(jdbcTemplate);
+                long inicio = Fragmentacao.inicioSequenciaNo(no);
+                jdbcTemplate.queryForList("SELECT setval('cooperados_id_seq', ?, false) " +
+                        "WHERE (SELECT last_value FROM cooperados_id_seq) < ?", inicio, inicio);
+            }
+        };
+    }
+
+    @Bean
+    public RebalanceadorFragmentos rebalanceadorFragmentos(MapaFragmentos mapaFragmentos,
+                                                           DataSourceFragmentado dataSourceFragmentado,
+                                                           Environment environment) {
+        Duration intervalo = environment.getProperty("app.fragmentacao.intervalo-atualizacao",
+                Duration.class, Duration.ofSeconds(5));
+        return new RebalanceadorFragmentos(mapaFragmentos, dataSourceFragmentado, intervalo.multipliedBy(2));
+    }
+
+    /**
+     * Rebalanceamento pela linha de comando: mostra (planejar) ou executa (executar) o plano e
+     * encerra a aplicação
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.fragmentacao", name = "rebalancear")
+    public ApplicationRunner rebalancearFragmentos(RebalanceadorFragmentos rebalanceador,
+                                                   ApplicationContext contexto, Environment environment) {
+        return argumentos -> {
+            String modo = environment.getProperty("app.fragmentacao.rebalancear");
+            if (!StringUtils.hasText(modo)) {
+                return;
+            }
+            if (!"planejar".equals(modo) && !"executar".equals(modo)) {
+                throw new IllegalStateException("app.fragmentacao.rebalancear deve ser planejar ou executar: " + modo);
+            }
+            List<Movimento> plano = rebalanceador.planejar();
+            if (plano.isEmpty()) {
+                log.info("Fragmentos já distribuídos igualmente; nada a mover");
+            }
+            for (Movimento movimento : plano) {
+                log.info("Plano: {} fragmentos do nó {} para o nó {} ({})", movimento.fragmentos().size(),
+                        movimento.origem(), movimento.destino(), movimento.fragmentos());
+            }
+            if ("executar".equals(modo)) {
+                rebalanceador.executar(plano);
+                log.info("Rebalanceamento concluído");
+            }
+            System.exit(SpringApplication.exit(contexto, () -> 0));
+        };
+    }
+
+    /**
+     * Cria o índice por fragmento, se ainda não existe, sem bloquear as escritas: a tabela é
+     * particionada e não aceita CREATE INDEX CONCURRENTLY, então o índice de cada partição é
+     * criado assim e anexado ao da tabela, criado vazio (ON ONLY)
+     */
+    private static void criarIndiceFragmento(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + INDICE_FRAGMENTO
+                + " ON ONLY cooperados (cooperados_fragmento_documento(documento_numero))");
+        List<String> particoes = jdbcTemplate.queryForList("SELECT particao.relname FROM pg_inherits heranca "
+                + "JOIN pg_class particao ON particao.oid = heranca.inhrelid "
+                + "WHERE heranca.inhparent = 'cooperados'::regclass", String.class);
+        for (String particao : particoes) {
+            // Mesmo padrão de nome dos demais índices das partições (V12)
+            String indice = INDICE_FRAGMENTO.replace("cooperados", particao);
+            // Uma criação interrompida deixa o índice inválido, que não seria recriado
+            if (!jdbcTemplate.queryForList("SELECT 1 FROM pg_index WHERE indexrelid = to_regclass(?) "
+                    + "AND NOT indisvalid", indice).isEmpty()) {
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY " + indice);
+            }
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indice + " ON " + particao
+                    + " (cooperados_fragmento_documento(documento_numero))");
+            jdbcTemplate.execute("ALTER INDEX " + INDICE_FRAGMENTO + " ATTACH PARTITION " + indice);
+        }
+    }
+
+    /**
+     * Pool de um nó adicional, com as configurações spring.datasource.hikari do nó 0
+     */
+    private static HikariDataSource criarPool(String nome, String url, DataSourceProperties dataSourceProperties,
+                                              Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(nome);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+}
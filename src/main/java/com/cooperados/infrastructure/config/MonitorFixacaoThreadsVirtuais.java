@@ -0,0 +1,89 @@
+package com.cooperados.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta threads virtuais fixadas (pinned) na thread portadora, em geral por bloquearem
+ * dentro de um bloco {@code synchronized} ou de código nativo, a partir do evento JFR
+ * jdk.VirtualThreadPinned.
+ *
+ * Cada fixação acima do limiar incrementa cooperados.threads.virtuais.fixacoes; a pilha é
+ * registrada em log na primeira ocorrência de cada ponto de chamada, para não inundar o log.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class MonitorFixacaoThreadsVirtuais implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorFixacaoThreadsVirtuais.class);
+
+    private static final String EVENTO = "jdk.VirtualThreadPinned";
+    private static final int FRAMES_REGISTRADOS = 8;
+    private static final int MAXIMO_PONTOS_REGISTRADOS = 100;
+
+    private final Counter fixacoes;
+    private final Duration limiar;
+    private final Set<String> pontosRegistrados = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public MonitorFixacaoThreadsVirtuais(MeterRegistry meterRegistry, Duration limiar) {
+        this.fixacoes = Counter.builder("cooperados.threads.virtuais.fixacoes")
+                .description("Threads virtuais fixadas na thread portadora por mais que o limiar")
+                .register(meterRegistry);
+        this.limiar = limiar;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream novo = new RecordingStream();
+        novo.enable(EVENTO).withThreshold(limiar).withStackTrace();
+        novo.onEvent(EVENTO, this::registrar);
+        novo.startAsync();
+        stream = novo;
+        log.info("Monitorando fixação de threads virtuais acima de {} ms", limiar.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream atual = stream;
+        stream = null;
+        if (atual != null) {
+            atual.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void registrar(RecordedEvent evento) {
+        fixacoes.increment();
+
+        List<RecordedFrame> frames = evento.getStackTrace() != null ? evento.getStackTrace().getFrames() : List.of();
+        String pilha = frames.stream()
+                .limit(FRAMES_REGISTRADOS)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tem "));
+
+        if (pontosRegistrados.size() < MAXIMO_PONTOS_REGISTRADOS && pontosRegistrados.add(pilha)) {
+            log.warn("Thread virtual fixada na portadora por {} ms em\n\tem {}",
+                    evento.getDuration().toMillis(), pilha);
+        }
+    }
+}
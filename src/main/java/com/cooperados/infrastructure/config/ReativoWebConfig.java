@@ -0,0 +1,102 @@
+package com.cooperados.infrastructure.config;
+
+import com.cooperados.application.controller.CooperadoReactiveController;
+import com.cooperados.application.service.CooperadoReativoService;
+import com.cooperados.infrastructure.exception.ReactiveExceptionHandler;
+import com.cooperados.infrastructure.persistence.CooperadoReativoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Configuração do contexto reativo iniciado pelo {@link ServidorReativo}: WebFlux, pool R2DBC
+ * e os beans da API reativa
+ *
+ * O pool R2DBC usa o mesmo banco e as mesmas credenciais do DataSource JDBC; a URL é derivada
+ * de spring.datasource.url, a menos que app.reativo.r2dbc-url seja informada. Fica fora do
+ * contexto principal para não interferir na autoconfiguração de JDBC/JPA.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableWebFlux
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Import({CooperadoReativoRepository.class, CooperadoReativoService.class,
+         CooperadoReactiveController.class, ReactiveExceptionHandler.class})
+public class ReativoWebConfig implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public ReativoWebConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Mesmo ObjectMapper da API servlet, para respostas com o mesmo formato
+     */
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(DataSourceProperties dataSourceProperties,
+                                            @Value("${app.reativo.r2dbc-url:}") String r2dbcUrl,
+                                            @Value("${app.reativo.pool.tamanho-maximo:20}") int tamanhoMaximo,
+                                            @Value("${app.reativo.pool.espera-maxima:3s}") Duration esperaMaxima) {
+        String url = StringUtils.hasText(r2dbcUrl) ? r2dbcUrl : urlR2dbc(dataSourceProperties.determineUrl());
+        ConnectionFactoryOptions.Builder opcoes = ConnectionFactoryOptions.parse(url).mutate();
+        if (dataSourceProperties.determineUsername() != null) {
+            opcoes.option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            opcoes.option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword());
+        }
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(opcoes.build()))
+                .name("cooperados-r2dbc")
+                .initialSize(0)
+                .maxSize(tamanhoMaximo)
+                .maxAcquireTime(esperaMaxima)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * jdbc:postgresql://host:porta/banco?parametros -> r2dbc:postgresql://host:porta/banco
+     * (os parâmetros são do driver JDBC)
+     */
+    static String urlR2dbc(String urlJdbc) {
+        if (urlJdbc == null || !urlJdbc.startsWith("jdbc:")) {
+            throw new IllegalStateException("Não foi possível derivar a URL R2DBC de " + urlJdbc
+                    + "; informe app.reativo.r2dbc-url");
+        }
+        String semPrefixo = urlJdbc.substring("jdbc:".length());
+        int parametros = semPrefixo.indexOf('?');
+        return "r2dbc:" + (parametros >= 0 ? semPrefixo.substring(0, parametros) : semPrefixo);
+    }
+}
@@ -0,0 +1,96 @@
+package com.cooperados.infrastructure.config;
+
+import com.cooperados.infrastructure.persistence.DataSourceRoteado;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Réplicas de leitura (app.replicas.enabled=true).
+ *
+ * Substitui o DataSource da autoconfiguração por três: o pool do primário, configurado como
+ * antes por spring.datasource.*, o {@link DataSourceRoteado}, com um pool por URL de
+ * app.replicas.urls (mesmo usuário e senha do primário), e o DataSource principal, que adia a
+ * obtenção da conexão até o primeiro comando para que o roteamento já saiba se a transação é
+ * somente leitura.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.replicas", name = "enabled", havingValue = "true")
+public class ReplicasConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public DataSourceRoteado dataSourceRoteado(@Qualifier("dataSourcePrimario") DataSource primario,
+                                               DataSourceProperties dataSourceProperties,
+                                               Environment environment,
+                                               MeterRegistry meterRegistry) {
+        List<String> urls = Binder.get(environment)
+                .bind("app.replicas.urls", Bindable.listOf(String.class))
+                .orElse(List.of());
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("app.replicas.enabled=true requer ao menos uma URL em app.replicas.urls");
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String nome = "replica-" + (i + 1);
+            HikariDataSource pool = criarPool(nome, urls.get(i), dataSourceProperties, environment);
+            replicas.put(nome, Threading.VIRTUAL.isActive(environment)
+                    ? ThreadsVirtuaisConfig.limitar(pool, environment) : pool);
+        }
+
+        return new DataSourceRoteado(primario, replicas,
+                environment.getProperty("app.replicas.atraso-maximo", Duration.class, Duration.ofSeconds(5)),
+                environment.getProperty("app.replicas.janela-leitura-propria", Duration.class, Duration.ofSeconds(5)),
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceRoteado dataSourceRoteado) {
+        return new LazyConnectionDataSourceProxy(dataSourceRoteado);
+    }
+
+    /**
+     * Pool da réplica; inicia mesmo com ela fora do ar, que só recebe leituras após a verificação
+     */
+    private static HikariDataSource criarPool(String nome, String url, DataSourceProperties dataSourceProperties,
+                                              Environment environment) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        pool.setPoolName(nome);
+        pool.setReadOnly(true);
+        pool.setInitializationFailTimeout(-1);
+        pool.setMaximumPoolSize(environment.getProperty("app.replicas.pool.tamanho-maximo", Integer.class, 10));
+        pool.setConnectionTimeout(environment.getProperty("app.replicas.pool.espera-maxima",
+                Duration.class, Duration.ofSeconds(2)).toMillis());
+        return pool;
+    }
+}
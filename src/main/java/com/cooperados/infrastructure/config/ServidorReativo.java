@@ -0,0 +1,108 @@
+package com.cooperados.infrastructure.config;
+
+import com.cooperados.application.dto.CooperadoMapper;
+import com.cooperados.infrastructure.cache.FiltroDocumentos;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+
+import java.util.List;
+
+/**
+ * Sobe a API reativa de consulta (WebFlux sobre Reactor Netty) em uma porta própria, ao lado da
+ * API servlet.
+ *
+ * Os beans reativos ficam em um contexto próprio ({@link ReativoWebConfig}), com as mesmas
+ * propriedades e os beans compartilhados listados em {@link #COMPARTILHADOS}. Não é contexto
+ * filho porque o Spring não admite as configurações de MVC e WebFlux na mesma hierarquia. Como é
+ * um contexto web reativo, só nele os beans anotados com
+ * {@code @ConditionalOnWebApplication(type = REACTIVE)} são registrados.
+ *
+ * Não sobe com fragmentação (app.fragmentacao.enabled=true), pois o R2DBC acessaria só o nó 0.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnExpression("${app.reativo.enabled:false} and !${app.fragmentacao.enabled:false}")
+public class ServidorReativo implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ServidorReativo.class);
+
+    /**
+     * Beans do contexto principal usados pela API reativa
+     */
+    private static final List<Class<?>> COMPARTILHADOS = List.of(
+            ObjectMapper.class, CooperadoMapper.class, CacheManager.class, FiltroDocumentos.class,
+            DataSourceProperties.class);
+
+    private final ApplicationContext contexto;
+    private final int porta;
+
+    private volatile AnnotationConfigReactiveWebApplicationContext contextoReativo;
+    private volatile WebServer servidor;
+
+    public ServidorReativo(ApplicationContext contexto, @Value("${app.reativo.porta:8082}") int porta) {
+        this.contexto = contexto;
+        this.porta = porta;
+    }
+
+    @Override
+    public void start() {
+        AnnotationConfigReactiveWebApplicationContext filho = new AnnotationConfigReactiveWebApplicationContext();
+        filho.setId(contexto.getId() + "-reativo");
+        filho.getEnvironment().merge((ConfigurableEnvironment) contexto.getEnvironment());
+        filho.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        for (Class<?> tipo : COMPARTILHADOS) {
+            // Singleton externo: o contexto reativo não o destrói ao ser fechado
+            filho.getBeanFactory().registerSingleton(tipo.getName(), contexto.getBean(tipo));
+        }
+        filho.register(ReativoWebConfig.class);
+        filho.refresh();
+
+        try {
+            HttpHandler httpHandler = WebHttpHandlerBuilder.applicationContext(filho).build();
+            WebServer novo = new NettyReactiveWebServerFactory(porta).getWebServer(httpHandler);
+            novo.start();
+            servidor = novo;
+        } catch (RuntimeException e) {
+            filho.close();
+            throw e;
+        }
+        contextoReativo = filho;
+        log.info("API reativa de consulta disponível na porta {}", servidor.getPort());
+    }
+
+    @Override
+    public void stop() {
+        WebServer atual = servidor;
+        servidor = null;
+        if (atual != null) {
+            atual.stop();
+        }
+        AnnotationConfigReactiveWebApplicationContext filho = contextoReativo;
+        contextoReativo = null;
+        if (filho != null) {
+            filho.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return servidor != null;
+    }
+}
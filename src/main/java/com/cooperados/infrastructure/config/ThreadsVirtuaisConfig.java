@@ -0,0 +1,93 @@
+package com.cooperados.infrastructure.config;
+
+import com.cooperados.infrastructure.persistence.DataSourceLimitado;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Ajustes do modo de threads virtuais (spring.threads.virtual.enabled=true, Java 21).
+ *
+ * Nesse modo o Spring Boot já executa em threads virtuais as requisições do Tomcat, as tarefas
+ * assíncronas (executor de tarefas da aplicação) e as agendadas. Esta configuração acrescenta o
+ * limite de conexões em uso e de espera por elas, antes do pool, e o monitor de fixação de
+ * threads virtuais. No modo de threads de plataforma nada disto é registrado.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadsVirtuaisConfig {
+
+    private static final int TAMANHO_PADRAO_POOL_HIKARI = 10;
+
+    /**
+     * Envolve o pool do Hikari em {@link DataSourceLimitado}, com o limite igual ao tamanho do pool
+     */
+    @Bean
+    static BeanPostProcessor limitadorConexoes(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return limitar(hikari, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Limitador com as configurações app.threads-virtuais.conexoes, também usado para os pools
+     * que não são beans (réplicas de leitura)
+     */
+    static DataSourceLimitado limitar(HikariDataSource hikari, Environment environment) {
+        int filaMaxima = environment.getProperty("app.threads-virtuais.conexoes.fila-maxima", Integer.class, 500);
+        Duration esperaMaxima = environment.getProperty("app.threads-virtuais.conexoes.espera-maxima",
+                Duration.class, Duration.ofSeconds(3));
+        // Sem maximum-pool-size configurado o Hikari só aplica o padrão ao iniciar o pool
+        int tamanhoPool = hikari.getMaximumPoolSize() > 0
+                ? hikari.getMaximumPoolSize() : TAMANHO_PADRAO_POOL_HIKARI;
+        return new DataSourceLimitado(hikari, tamanhoPool, filaMaxima, esperaMaxima);
+    }
+
+    /**
+     * Métricas cooperados.conexoes.aguardando e cooperados.conexoes.rejeitadas do limitador
+     */
+    @Bean
+    public MeterBinder metricasLimitadorConexoes(DataSource dataSource) {
+        return registry -> {
+            DataSourceLimitado limitado = DataSourceUnwrapper.unwrap(dataSource, DataSourceLimitado.class);
+            if (limitado == null) {
+                return;
+            }
+            Gauge.builder("cooperados.conexoes.aguardando", limitado, DataSourceLimitado::getAguardando)
+                    .description("Requisições aguardando conexão no limitador")
+                    .register(registry);
+            FunctionCounter.builder("cooperados.conexoes.rejeitadas", limitado, DataSourceLimitado::getRejeitadas)
+                    .description("Obtenções de conexão rejeitadas por fila cheia ou espera esgotada")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MonitorFixacaoThreadsVirtuais monitorFixacaoThreadsVirtuais(
+            MeterRegistry meterRegistry,
+            @Value("${app.threads-virtuais.fixacao.limiar:20ms}") Duration limiar) {
+        return new MonitorFixacaoThreadsVirtuais(meterRegistry, limiar);
+    }
+}
@@ -2,6 +2,10 @@ package com.cooperados.infrastructure.exception;
 
 /**
  * Exceção lançada quando um cooperado não é encontrado
+ *
+ * As fábricas {@link #porId(Long)} e {@link #porDocumento(String)} criam a exceção sem stack
+ * trace: consultas sem resultado são um fluxo esperado (respondem 404) e, sob varreduras de
+ * documentos, o preenchimento da stack trace dominaria o custo da resposta.
  * 
  * @author Cooperados Team
  * @version 1.0.0
@@ -15,4 +19,16 @@ public class CooperadoNaoEncontradoException extends RuntimeException {
     public CooperadoNaoEncontradoException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    private CooperadoNaoEncontradoException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    public static CooperadoNaoEncontradoException porId(Long id) {
+        return new CooperadoNaoEncontradoException("Cooperado não encontrado com ID: " + id, false);
+    }
+
+    public static CooperadoNaoEncontradoException porDocumento(String documento) {
+        return new CooperadoNaoEncontradoException("Cooperado não encontrado com documento: " + documento, false);
+    }
 }
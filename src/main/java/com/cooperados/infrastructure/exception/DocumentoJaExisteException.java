@@ -2,17 +2,19 @@ package com.cooperados.infrastructure.exception;
 
 /**
  * Exceção lançada quando um documento (CPF/CNPJ) já existe no cadastro
- * 
+ *
+ * Sem stack trace: é uma resposta esperada (409), frequente sob reenvios de clientes.
+ *
  * @author Cooperados Team
  * @version 1.0.0
  */
 public class DocumentoJaExisteException extends RuntimeException {
 
     public DocumentoJaExisteException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public DocumentoJaExisteException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -0,0 +1,21 @@
+package com.cooperados.infrastructure.exception;
+
+/**
+ * Exceção lançada quando a pré-condição de uma requisição (cabeçalho If-Match) não é atendida
+ *
+ * Sem stack trace: é uma resposta esperada (412) quando o cliente tenta gravar sobre uma
+ * versão que já foi alterada.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class PrecondicaoFalhouException extends RuntimeException {
+
+    public PrecondicaoFalhouException(String message) {
+        super(message, null, false, false);
+    }
+
+    public PrecondicaoFalhouException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,93 @@
+package com.cooperados.infrastructure.exception;
+
+import com.cooperados.infrastructure.exception.GlobalExceptionHandler.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+
+/**
+ * Handler de exceções da API reativa, com as mesmas respostas de erro do
+ * {@link GlobalExceptionHandler} (que depende da API de servlet)
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Trata exceção quando cooperado não é encontrado
+     */
+    @ExceptionHandler(CooperadoNaoEncontradoException.class)
+    public ResponseEntity<ErrorResponse> handleCooperadoNaoEncontrado(
+            CooperadoNaoEncontradoException ex, ServerWebExchange exchange) {
+        return resposta(HttpStatus.NOT_FOUND, "Cooperado Não Encontrado", ex.getMessage(), exchange);
+    }
+
+    /**
+     * Trata exceções genéricas de argumento ilegal
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(
+            IllegalArgumentException ex, ServerWebExchange exchange) {
+        return resposta(HttpStatus.BAD_REQUEST, "Argumento Inválido", ex.getMessage(), exchange);
+    }
+
+    /**
+     * Trata erros do próprio WebFlux, como parâmetro de caminho inválido
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(
+            ResponseStatusException ex, ServerWebExchange exchange) {
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        String erro = status != null ? status.getReasonPhrase() : String.valueOf(ex.getStatusCode().value());
+        return resposta(ex.getStatusCode(), erro, ex.getReason(), exchange);
+    }
+
+    /**
+     * Trata exceção quando não há conexão com o banco disponível
+     */
+    @ExceptionHandler({DataAccessResourceFailureException.class, TransientDataAccessResourceException.class})
+    public ResponseEntity<ErrorResponse> handleBancoIndisponivel(
+            Exception ex, ServerWebExchange exchange) {
+        ResponseEntity<ErrorResponse> resposta = resposta(HttpStatus.SERVICE_UNAVAILABLE, "Serviço Indisponível",
+                "Serviço temporariamente sobrecarregado. Tente novamente em instantes.", exchange);
+        return ResponseEntity.status(resposta.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(resposta.getBody());
+    }
+
+    /**
+     * Trata exceções genéricas não mapeadas
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex, ServerWebExchange exchange) {
+        return resposta(HttpStatus.INTERNAL_SERVER_ERROR, "Erro Interno do Servidor",
+                "Ocorreu um erro inesperado. Tente novamente mais tarde.", exchange);
+    }
+
+    private static ResponseEntity<ErrorResponse> resposta(HttpStatusCode status, String erro, String mensagem,
+                                                          ServerWebExchange exchange) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(erro)
+                .message(mensagem)
+                .path("uri=" + exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
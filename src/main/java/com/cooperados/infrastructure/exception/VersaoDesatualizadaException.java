@@ -0,0 +1,20 @@
+package com.cooperados.infrastructure.exception;
+
+/**
+ * Exceção lançada quando a versão informada pelo cliente não corresponde à versão atual do cooperado
+ *
+ * Sem stack trace: é uma resposta esperada (409) quando há edições concorrentes.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class VersaoDesatualizadaException extends RuntimeException {
+
+    public VersaoDesatualizadaException(String message) {
+        super(message, null, false, false);
+    }
+
+    public VersaoDesatualizadaException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
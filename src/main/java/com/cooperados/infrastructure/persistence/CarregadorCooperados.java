@@ -0,0 +1,152 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.CooperadoRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Carrega cooperados por ID agrupando em lotes as buscas que chegam quase ao mesmo tempo
+ * (no estilo DataLoader): cada lote é resolvido com uma única consulta
+ * {@code WHERE id = ANY(...)} e uma única conexão do pool.
+ *
+ * A primeira busca de um lote aguarda a janela configurada e então executa a consulta na
+ * própria thread; se o lote atingir o tamanho máximo antes disso, quem o completou executa.
+ * As demais aguardam o resultado sem ocupar conexão.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Component
+public class CarregadorCooperados {
+
+    private final Function<Long[], List<Cooperado>> consulta;
+    private final boolean habilitado;
+    private final long janelaNanos;
+    private final int tamanhoMaximo;
+    private final DistributionSummary tamanhoLotes;
+
+    private final Object trava = new Object();
+    private Map<Long, CompletableFuture<Optional<Cooperado>>> pendentes = new HashMap<>();
+
+    @Autowired
+    public CarregadorCooperados(CooperadoRepository cooperadoRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.carregador-lote.enabled:true}") boolean habilitado,
+                                @Value("${app.carregador-lote.janela:2ms}") Duration janela,
+                                @Value("${app.carregador-lote.tamanho-maximo:100}") int tamanhoMaximo) {
+        this(cooperadoRepository::buscarPorIds, meterRegistry, habilitado, janela, tamanhoMaximo);
+    }
+
+    CarregadorCooperados(Function<Long[], List<Cooperado>> consulta, MeterRegistry meterRegistry,
+                         boolean habilitado, Duration janela, int tamanhoMaximo) {
+        if (tamanhoMaximo <= 0) {
+            throw new IllegalArgumentException("Tamanho máximo do lote deve ser positivo");
+        }
+        this.consulta = consulta;
+        this.habilitado = habilitado;
+        this.janelaNanos = janela.toNanos();
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.tamanhoLotes = DistributionSummary.builder("cooperados.carregador.lote.tamanho")
+                .description("IDs distintos resolvidos por consulta do carregador em lote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca o cooperado pelo ID, possivelmente junto com as buscas concorrentes
+     */
+    public Optional<Cooperado> carregar(Long id) {
+        if (!habilitado) {
+            return consulta.apply(new Long[] {id}).stream().findFirst();
+        }
+
+        CompletableFuture<Optional<Cooperado>> futuro;
+        Map<Long, CompletableFuture<Optional<Cooperado>>> lote;
+        boolean primeira;
+        boolean cheio = false;
+        synchronized (trava) {
+            lote = pendentes;
+            futuro = lote.get(id);
+            primeira = lote.isEmpty();
+            if (futuro == null) {
+                futuro = new CompletableFuture<>();
+                lote.put(id, futuro);
+                if (lote.size() >= tamanhoMaximo) {
+                    pendentes = new HashMap<>();
+                    cheio = true;
+                }
+            }
+        }
+
+        if (cheio) {
+            executar(lote);
+        } else if (primeira) {
+            try {
+                return futuro.get(janelaNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                despachar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                despachar(lote);
+            } catch (Exception e) {
+                // Falha da consulta executada por outra thread; repassada abaixo
+            }
+        }
+        return aguardar(futuro);
+    }
+
+    /**
+     * Fecha o lote ao fim da janela, se ele ainda não foi fechado por ter ficado cheio
+     */
+    private void despachar(Map<Long, CompletableFuture<Optional<Cooperado>>> lote) {
+        synchronized (trava) {
+            if (pendentes != lote) {
+                return;
+            }
+            pendentes = new HashMap<>();
+        }
+        executar(lote);
+    }
+
+    private void executar(Map<Long, CompletableFuture<Optional<Cooperado>>> lote) {
+        Map<Long, Optional<Cooperado>> resultados = new HashMap<>();
+        try {
+            tamanhoLotes.record(lote.size());
+            for (Cooperado cooperado : consulta.apply(lote.keySet().toArray(Long[]::new))) {
+                resultados.put(cooperado.getId(), Optional.of(cooperado));
+            }
+            lote.forEach((id, futuro) -> futuro.complete(resultados.getOrDefault(id, Optional.empty())));
+        } catch (RuntimeException | Error e) {
+            lote.values().forEach(futuro -> futuro.completeExceptionally(e));
+            throw e;
+        }
+    }
+
+    private static Optional<Cooperado> aguardar(CompletableFuture<Optional<Cooperado>> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+}
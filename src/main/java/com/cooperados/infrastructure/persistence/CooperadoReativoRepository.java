@@ -0,0 +1,126 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.domain.repository.CooperadoDetalhe;
+import com.cooperados.domain.repository.CooperadoResumo;
+import com.cooperados.domain.valueobject.Documento;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Consultas de leitura de cooperados via R2DBC, sem bloquear threads, para a API reativa
+ *
+ * Usa SQL direto com {@link DatabaseClient} e projeções em vez da entidade JPA. Registrado
+ * apenas no contexto reativo (ver {@link com.cooperados.infrastructure.config.ServidorReativo}).
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CooperadoReativoRepository {
+
+    private static final String COLUNAS_DETALHE =
+            "id, nome, tipo_documento, documento_numero, data_nascimento_constituicao, renda_faturamento, " +
+            "telefone, email, ativo, data_criacao, data_atualizacao, versao";
+
+    private static final String COLUNAS_RESUMO =
+            "id, nome, tipo_documento, documento_numero, data_nascimento_constituicao, renda_faturamento, " +
+            "telefone, email, ativo";
+
+    /**
+     * Tipo do documento pelo tamanho, para que o PostgreSQL leia só a partição do tipo
+     */
+    private static final String TIPO_DO_DOCUMENTO = "CASE WHEN length(:documento) = 11 THEN 'CPF' ELSE 'CNPJ' END";
+
+    private final DatabaseClient databaseClient;
+    private final int tamanhoBusca;
+
+    public CooperadoReativoRepository(DatabaseClient databaseClient,
+                                      @Value("${app.reativo.tamanho-busca:500}") int tamanhoBusca) {
+        this.databaseClient = databaseClient;
+        this.tamanhoBusca = tamanhoBusca;
+    }
+
+    /**
+     * Busca cooperado por ID, ativo ou não (como a busca por ID da API)
+     */
+    public Mono<CooperadoDetalhe> buscarPorId(Long id) {
+        return databaseClient.sql("SELECT " + COLUNAS_DETALHE + " FROM cooperados WHERE id = :id")
+                .bind("id", id)
+                .map(CooperadoReativoRepository::detalhe)
+                .one();
+    }
+
+    /**
+     * Busca cooperado ativo por documento já normalizado, somente dígitos
+     */
+    public Mono<CooperadoDetalhe> buscarPorDocumento(String documento) {
+        return databaseClient.sql("SELECT " + COLUNAS_DETALHE +
+                        " FROM cooperados WHERE documento_numero = :documento AND ativo = true " +
+                        "AND tipo_documento = " + TIPO_DO_DOCUMENTO)
+                .bind("documento", documento)
+                .map(CooperadoReativoRepository::detalhe)
+                .one();
+    }
+
+    /**
+     * Verifica se existe cooperado ativo com o documento já normalizado
+     */
+    public Mono<Boolean> existePorDocumento(String documento) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM cooperados " +
+                        "WHERE documento_numero = :documento AND ativo = true " +
+                        "AND tipo_documento = " + TIPO_DO_DOCUMENTO + ")")
+                .bind("documento", documento)
+                .map(linha -> linha.get(0, Boolean.class))
+                .one();
+    }
+
+    /**
+     * Todos os cooperados em ordem de ID, lidos do banco em blocos de tamanho-busca linhas
+     * conforme a demanda de quem consome (backpressure), sem carregar a tabela em memória
+     */
+    public Flux<CooperadoResumo> listarResumos() {
+        return databaseClient.sql("SELECT " + COLUNAS_RESUMO + " FROM cooperados ORDER BY id")
+                .filter(statement -> statement.fetchSize(tamanhoBusca))
+                .map(CooperadoReativoRepository::resumo)
+                .all();
+    }
+
+    private static CooperadoDetalhe detalhe(Readable linha) {
+        return new CooperadoDetalhe(
+                linha.get("id", Long.class),
+                linha.get("nome", String.class),
+                Documento.TipoDocumento.valueOf(linha.get("tipo_documento", String.class)),
+                linha.get("documento_numero", String.class),
+                linha.get("data_nascimento_constituicao", LocalDate.class),
+                linha.get("renda_faturamento", BigDecimal.class),
+                linha.get("telefone", String.class),
+                linha.get("email", String.class),
+                Boolean.TRUE.equals(linha.get("ativo", Boolean.class)),
+                linha.get("data_criacao", LocalDateTime.class),
+                linha.get("data_atualizacao", LocalDateTime.class),
+                linha.get("versao", Long.class));
+    }
+
+    private static CooperadoResumo resumo(Readable linha) {
+        return new CooperadoResumo(
+                linha.get("id", Long.class),
+                linha.get("nome", String.class),
+                Documento.TipoDocumento.valueOf(linha.get("tipo_documento", String.class)),
+                linha.get("documento_numero", String.class),
+                linha.get("data_nascimento_constituicao", LocalDate.class),
+                linha.get("renda_faturamento", BigDecimal.class),
+                linha.get("telefone", String.class),
+                linha.get("email", String.class),
+                Boolean.TRUE.equals(linha.get("ativo", Boolean.class)));
+    }
+}
@@ -0,0 +1,660 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.ContagemPorDdd;
+import com.cooperados.domain.repository.CooperadoRepository;
+import com.cooperados.domain.repository.CooperadoResumo;
+import com.cooperados.domain.valueobject.Documento;
+import com.cooperados.infrastructure.exception.DocumentoJaExisteException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Distribui as chamadas ao repositório de cooperados entre os nós (app.fragmentacao.enabled=true).
+ *
+ * <ul>
+ *   <li>Por ID ou documento: executadas só no nó do fragmento. IDs anteriores à fragmentação
+ *       são localizados antes consultando todos os nós.</li>
+ *   <li>Por vários IDs ou documentos: uma consulta por nó envolvido, com os valores dele.</li>
+ *   <li>Listas, contagens e páginas: executadas em todos os nós e combinadas aqui. Uma página
+ *       com deslocamento busca em cada nó todas as linhas até o fim dela, ordena e descarta as
+ *       anteriores; páginas profundas custam proporcionalmente mais que sem fragmentação.</li>
+ *   <li>Ordenação por texto (nome, email): os nós comparam textos pela collation do banco, que
+ *       String.compareTo não reproduz (em en_US.utf8 "ana" vem antes de "Bruno"). A ordem dos
+ *       textos das linhas combinadas é obtida do nó 0, com a mesma collation dos demais nós
+ *       (verificada ao iniciar), para que páginas e cursores sigam a ordem de cada nó.</li>
+ *   <li>saveAll (criação em lote): um INSERT por cooperado, em uma transação por nó. Não é
+ *       atômico entre nós: a falha em um nó não desfaz o que já foi gravado nos outros.</li>
+ * </ul>
+ *
+ * Os métodos das interfaces de repositório da aplicação sem regra de distribuição impedem a
+ * aplicação de iniciar; herdados do Spring Data não usados pelos serviços são rejeitados na
+ * chamada, em vez de executados só no nó 0.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class CooperadoRepositoryFragmentado implements MethodInterceptor {
+
+    private static final int TAMANHO_LOTE_STREAM = 500;
+
+    private static final String PACOTE_APLICACAO = "com.cooperados";
+
+    /**
+     * Métodos herdados do Spring Data chamados pelos serviços ("nome/parâmetros")
+     */
+    private static final Set<String> HERDADOS_USADOS =
+            Set.of("findById/1", "existsById/1", "count/0", "saveAll/1", "flush/0");
+
+    private static final String SIMILARIDADE_NOMES =
+            "SELECT similarity(cooperados_normalizar_nome(n.nome), cooperados_normalizar_nome(?)) " +
+            "FROM unnest(?::text[]) WITH ORDINALITY AS n(nome, posicao) ORDER BY n.posicao";
+
+    private static final String ORDEM_TEXTOS = "SELECT t.texto FROM unnest(?::text[]) AS t(texto) ORDER BY t.texto";
+
+    private final RoteadorFragmentos roteador;
+    private final GeradorIdCooperado geradorId;
+    private final JdbcTemplate no0;
+    private final Map<Assinatura, Roteamento> roteamentos = new HashMap<>();
+
+    public CooperadoRepositoryFragmentado(RoteadorFragmentos roteador, GeradorIdCooperado geradorId,
+                                          JdbcTemplate no0) {
+        this.roteador = roteador;
+        this.geradorId = geradorId;
+        this.no0 = no0;
+
+        for (String metodo : List.of("findById", "existsById", "findVersaoById")) {
+            rotear(metodo + "/1", invocacao -> porId(invocacao, false));
+        }
+        for (String metodo : List.of("desativarSeAtivo", "reativarSeInativo")) {
+            rotear(metodo + "/1", invocacao -> porId(invocacao, true));
+        }
+        rotear("atualizarCamposAlterados/7", invocacao -> porId(invocacao, true));
+        for (String metodo : List.of("findByDocumento", "findVersaoByDocumento", "existsByDocumento",
+                "findByCpf", "findByCnpj", "existsByCpf", "existsByCnpj")) {
+            rotear(metodo + "/1", this::porDocumento);
+        }
+        rotear("inserirSeDocumentoDisponivel/2", this::inserir);
+        rotear("buscarPorIds/1", this::porIds);
+        rotear("buscarPorDocumentos/1", invocacao ->
+                porDocumentos(invocacao, List.of((String[]) invocacao.getArguments()[0]),
+                        documentos -> documentos.toArray(String[]::new)));
+        rotear("findDocumentosCadastrados/1", invocacao ->
+                porDocumentos(invocacao, List.of((String[]) invocacao.getArguments()[0]),
+                        documentos -> documentos.toArray(String[]::new)));
+        rotear("saveAll/1", this::salvarTodos);
+        rotear("flush/0", MethodInvocation::proceed);
+
+        for (String metodo : List.of("findByAtivoTrue/0", "findByNomeContainingIgnoreCase/1",
+                "findByDataNascimentoConstituicaoBetweenAndAtivoTrue/2", "findByRendaFaturamentoBetween/2",
+                "findWithEmail/0", "findWithoutEmail/0", "findByTipoDocumento/1",
+                "findResumosByTipoDocumento/1", "findResumosAtivos/0")) {
+            rotear(metodo, this::concatenar);
+        }
+        for (String metodo : List.of("count/0", "countByAtivoTrue/0", "countByTipoDocumento/1")) {
+            rotear(metodo, this::somar);
+        }
+        rotear("countAgrupadoPorDdd/0", this::somarPorDdd);
+
+        for (String metodo : List.of("findByAtivoTrue/1", "findAllResumos/1", "findByTelefoneDdd/2")) {
+            rotear(metodo, this::pagina);
+        }
+        rotear("findAllBy/1", this::fatia);
+        rotear("findByNomeSimilar/3", this::paginaPorSimilaridade);
+
+        rotear("findProximaPaginaPorId/2", invocacao -> proximaPagina(invocacao, Cooperado::getId, false));
+        rotear("findProximaPaginaPorIdDesc/2", invocacao -> proximaPagina(invocacao, Cooperado::getId, true));
+        rotear("findProximaPaginaAtivosPorId/2", invocacao -> proximaPagina(invocacao, Cooperado::getId, false));
+        cursor("findProximaPaginaPorNome", Cooperado::getNome);
+        cursor("findProximaPaginaPorDataNascimentoConstituicao", Cooperado::getDataNascimentoConstituicao);
+        cursor("findProximaPaginaPorRendaFaturamento", Cooperado::getRendaFaturamento);
+        rotear("streamByAtivoTrue/0", this::percorrerAtivos);
+
+        verificarRoteamentos(CooperadoRepositoryImpl.class);
+    }
+
+    /**
+     * Registra a regra de distribuição dos métodos do repositório com o nome e a quantidade de
+     * parâmetros informados ("nome/parâmetros")
+     */
+    private void rotear(String metodo, Roteamento roteamento) {
+        String[] partes = metodo.split("/");
+        List<Assinatura> assinaturas = Arrays.stream(CooperadoRepositoryImpl.class.getMethods())
+                .filter(candidato -> candidato.getName().equals(partes[0])
+                        && candidato.getParameterCount() == Integer.parseInt(partes[1]))
+                .map(Assinatura::de)
+                .toList();
+        if (assinaturas.isEmpty()) {
+            throw new IllegalStateException("Regra de fragmentação para método inexistente no repositório: " + metodo);
+        }
+        assinaturas.forEach(assinatura -> roteamentos.put(assinatura, roteamento));
+    }
+
+    /**
+     * Todos os métodos declarados nas interfaces de repositório da aplicação, e os herdados do
+     * Spring Data que os serviços usam, precisam de regra de distribuição; a falta de uma impede
+     * a aplicação de iniciar, em vez de falhar na primeira chamada
+     */
+    void verificarRoteamentos(Class<?> repositorio) {
+        List<String> semRegra = Arrays.stream(repositorio.getMethods())
+                .filter(metodo -> !metodo.isDefault() && !Modifier.isStatic(metodo.getModifiers()))
+                .filter(metodo -> metodo.getDeclaringClass().getPackageName().startsWith(PACOTE_APLICACAO)
+                        || HERDADOS_USADOS.contains(metodo.getName() + "/" + metodo.getParameterCount()))
+                .filter(metodo -> !roteamentos.containsKey(Assinatura.de(metodo)))
+                .map(metodo -> metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName())
+                .sorted()
+                .toList();
+        if (!semRegra.isEmpty()) {
+            throw new IllegalStateException("Métodos do repositório sem regra de fragmentação: " + semRegra);
+        }
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocacao) throws Throwable {
+        Method metodo = invocacao.getMethod();
+        if (metodo.getDeclaringClass() == Object.class) {
+            return invocacao.proceed();
+        }
+        Roteamento roteamento = roteamentos.get(Assinatura.de(metodo));
+        if (roteamento == null) {
+            // Só métodos herdados do Spring Data que a aplicação não usa (verificado ao iniciar)
+            throw new UnsupportedOperationException(
+                    "CooperadoRepository." + metodo.getName() + " não é suportado com fragmentação");
+        }
+        return roteamento.executar(invocacao);
+    }
+
+    private Object porId(MethodInvocation invocacao, boolean escrever) {
+        Object[] argumentos = invocacao.getArguments();
+        long id = (Long) argumentos[0];
+        int fragmento = Fragmentacao.fragmentoDoId(id);
+        if (fragmento < 0) {
+            Optional<String> documento = roteador.documentoDoId(id);
+            if (documento.isEmpty()) {
+                return vazio(invocacao.getMethod());
+            }
+            fragmento = Fragmentacao.fragmentoDoDocumento(documento.get());
+        }
+        return roteador.executarFragmento(fragmento, escrever, () -> invocar(invocacao, argumentos));
+    }
+
+    private Object porDocumento(MethodInvocation invocacao) {
+        Object[] argumentos = invocacao.getArguments();
+        Integer fragmento = fragmento((String) argumentos[0]);
+        if (fragmento == null) {
+            return vazio(invocacao.getMethod());
+        }
+        return roteador.executarFragmento(fragmento, false, () -> invocar(invocacao, argumentos));
+    }
+
+    private Object inserir(MethodInvocation invocacao) {
+        Object[] argumentos = invocacao.getArguments();
+        Cooperado cooperado = (Cooperado) argumentos[1];
+        int fragmento = Fragmentacao.fragmentoDoDocumento(cooperado.getDocumento().getNumero());
+        return roteador.executarFragmento(fragmento, true, () -> invocar(invocacao, argumentos));
+    }
+
+    /**
+     * IDs com fragmento vão só ao nó dele; IDs anteriores à fragmentação, a todos
+     */
+    private Object porIds(MethodInvocation invocacao) {
+        Map<Integer, List<Long>> porNo = new TreeMap<>();
+        List<Long> semFragmento = new ArrayList<>();
+        for (Long id : (Long[]) invocacao.getArguments()[0]) {
+            int fragmento = Fragmentacao.fragmentoDoId(id);
+            if (fragmento < 0) {
+                semFragmento.add(id);
+            } else {
+                porNo.computeIfAbsent(roteador.noDoFragmento(fragmento), no -> new ArrayList<>()).add(id);
+            }
+        }
+        if (!semFragmento.isEmpty()) {
+            for (int no = 0; no < roteador.getTotalNos(); no++) {
+                porNo.computeIfAbsent(no, n -> new ArrayList<>()).addAll(semFragmento);
+            }
+        }
+        return juntar(roteador.executarEmNos(porNo.keySet(), false,
+                no -> invocar(invocacao, new Object[] {porNo.get(no).toArray(Long[]::new)})));
+    }
+
+    private Object porDocumentos(MethodInvocation invocacao, Collection<?> documentos,
+                                 Function<List<String>, Object> argumento) {
+        Map<Integer, List<String>> porNo = new TreeMap<>();
+        for (Object documento : documentos) {
+            Integer fragmento = fragmento((String) documento);
+            if (fragmento != null) {
+                porNo.computeIfAbsent(roteador.noDoFragmento(fragmento), no -> new ArrayList<>())
+                        .add((String) documento);
+            }
+        }
+        if (porNo.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return juntar(roteador.executarEmNos(porNo.keySet(), false,
+                no -> invocar(invocacao, new Object[] {argumento.apply(porNo.get(no))})));
+    }
+
+    /**
+     * Insere cada cooperado no nó do seu fragmento, com uma transação por nó; devolve os
+     * cooperados gravados na ordem recebida
+     */
+    private Object salvarTodos(MethodInvocation invocacao) {
+        CooperadoRepository repositorio = (CooperadoRepository) invocacao.getThis();
+        List<Cooperado> cooperados = new ArrayList<>();
+        ((Iterable<?>) invocacao.getArguments()[0]).forEach(cooperado -> cooperados.add((Cooperado) cooperado));
+
+        Map<Integer, List<Integer>> porNo = new TreeMap<>();
+        for (int i = 0; i < cooperados.size(); i++) {
+            int fragmento = Fragmentacao.fragmentoDoDocumento(cooperados.get(i).getDocumento().getNumero());
+            // Verifica o bloqueio de todos antes de gravar em qualquer nó
+            roteador.verificarEscrita(fragmento);
+            porNo.computeIfAbsent(roteador.noDoFragmento(fragmento), no -> new ArrayList<>()).add(i);
+        }
+
+        Cooperado[] salvos = new Cooperado[cooperados.size()];
+        roteador.executarEmNos(porNo.keySet(), true, no -> {
+            for (int i : porNo.get(no)) {
+                Cooperado cooperado = cooperados.get(i);
+                salvos[i] = repositorio.inserirSeDocumentoDisponivel(geradorId.proximoId(cooperado), cooperado)
+                        .orElseThrow(() -> new DocumentoJaExisteException(
+                                "Já existe cooperado com o documento: " + cooperado.getDocumento().getNumero()));
+            }
+            return null;
+        });
+        return new ArrayList<>(List.of(salvos));
+    }
+
+    private Object concatenar(MethodInvocation invocacao) {
+        Object[] argumentos = invocacao.getArguments();
+        return juntar(emTodos(no -> invocar(invocacao, argumentos)));
+    }
+
+    private Object somar(MethodInvocation invocacao) {
+        Object[] argumentos = invocacao.getArguments();
+        long total = 0;
+        for (Object parcial : emTodos(no -> invocar(invocacao, argumentos)).values()) {
+            total += (Long) parcial;
+        }
+        return total;
+    }
+
+    private Object somarPorDdd(MethodInvocation invocacao) {
+        Map<Short, Long> totais = new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder()));
+        for (Object parcial : emTodos(no -> invocar(invocacao, new Object[0])).values()) {
+            for (Object item : (List<?>) parcial) {
+                ContagemPorDdd contagem = (ContagemPorDdd) item;
+                totais.merge(contagem.ddd(), contagem.total(), Long::sum);
+            }
+        }
+        List<ContagemPorDdd> resultado = new ArrayList<>();
+        totais.forEach((ddd, total) -> resultado.add(new ContagemPorDdd(ddd, total)));
+        return resultado;
+    }
+
+    /**
+     * Página com total: cada nó devolve as linhas até o fim da página pedida, na mesma ordenação
+     */
+    private Object pagina(MethodInvocation invocacao) {
+        Pageable pageable = pageable(invocacao);
+        long total = 0;
+        List<Object> linhas = new ArrayList<>();
+        for (Map.Entry<Integer, Object> parte : emTodos(no -> invocar(invocacao, comPageable(invocacao, ate(pageable)))).entrySet()) {
+            Page<?> pagina = (Page<?>) parte.getValue();
+            total += pagina.getTotalElements();
+            linhas.addAll(doNo(parte.getKey(), pagina.getContent()));
+        }
+        return new PageImpl<>(recortar(linhas, ordem(linhas, pageable.getSort()), pageable), pageable, total);
+    }
+
+    private Object fatia(MethodInvocation invocacao) {
+        Pageable pageable = pageable(invocacao);
+        boolean haMais = false;
+        List<Object> linhas = new ArrayList<>();
+        for (Map.Entry<Integer, Object> parte : emTodos(no -> invocar(invocacao, comPageable(invocacao, ate(pageable)))).entrySet()) {
+            Slice<?> fatia = (Slice<?>) parte.getValue();
+            haMais |= fatia.hasNext();
+            linhas.addAll(doNo(parte.getKey(), fatia.getContent()));
+        }
+        if (pageable.isPaged()) {
+            haMais |= linhas.size() > pageable.getOffset() + pageable.getPageSize();
+        }
+        return new SliceImpl<>(recortar(linhas, ordem(linhas, pageable.getSort()), pageable), pageable, haMais);
+    }
+
+    /**
+     * Busca por nome ordenada por similaridade: a similaridade das linhas de todos os nós é
+     * recalculada no nó 0 para ordená-las juntas
+     */
+    private Object paginaPorSimilaridade(MethodInvocation invocacao) {
+        Pageable pageable = pageable(invocacao);
+        String nome = (String) invocacao.getArguments()[0];
+        long total = 0;
+        List<Cooperado> linhas = new ArrayList<>();
+        for (Map.Entry<Integer, Object> parte : emTodos(no -> invocar(invocacao, comPageable(invocacao, ate(pageable)))).entrySet()) {
+            Page<?> pagina = (Page<?>) parte.getValue();
+            total += pagina.getTotalElements();
+            doNo(parte.getKey(), pagina.getContent()).forEach(linha -> linhas.add((Cooperado) linha));
+        }
+
+        List<Float> similaridades = no0.queryForList(SIMILARIDADE_NOMES, Float.class, nome,
+                linhas.stream().map(Cooperado::getNome).toArray(String[]::new));
+        Map<Cooperado, Float> similaridade = new IdentityHashMap<>();
+        for (int i = 0; i < linhas.size(); i++) {
+            similaridade.put(linhas.get(i), similaridades.get(i));
+        }
+        Comparator<Object> ordem = Comparator.comparing(linha -> similaridade.get((Cooperado) linha),
+                Comparator.reverseOrder());
+        ordem = ordem.thenComparing(linha -> ((Cooperado) linha).getId());
+        return new PageImpl<>(recortar(new ArrayList<>(linhas), ordem, pageable), pageable, total);
+    }
+
+    private void cursor(String metodo, Function<Cooperado, ?> chave) {
+        rotear(metodo + "/3", invocacao -> proximaPagina(invocacao, chave, false));
+        rotear(metodo + "Desc/3", invocacao -> proximaPagina(invocacao, chave, true));
+    }
+
+    /**
+     * Paginação por cursor: cada nó devolve até o limite a partir do cursor; ficam as primeiras
+     * linhas na ordem do cursor (chave e ID), com textos na ordem do banco
+     */
+    private Object proximaPagina(MethodInvocation invocacao, Function<Cooperado, ?> chave, boolean decrescente) {
+        Object[] argumentos = invocacao.getArguments();
+        int limite = (Integer) argumentos[argumentos.length - 1];
+        List<Cooperado> linhas = new ArrayList<>();
+        emTodos(no -> invocar(invocacao, argumentos)).forEach((no, parte) ->
+                doNo(no, (List<?>) parte).forEach(linha -> linhas.add((Cooperado) linha)));
+        Map<String, Integer> posicoes = posicoesTextos(linhas.stream().map(chave));
+        Comparator<Cooperado> ordem = Comparator.comparing(linha -> naOrdemDoBanco(chave.apply(linha), posicoes),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        ordem = ordem.thenComparing(Cooperado::getId);
+        linhas.sort(decrescente ? ordem.reversed() : ordem);
+        return new ArrayList<>(linhas.subList(0, Math.min(limite, linhas.size())));
+    }
+
+    /**
+     * Cooperados ativos de todos os nós em ordem de ID, buscados em lotes por cursor em cada nó
+     * conforme o consumo; cada lote usa uma transação própria
+     */
+    private Object percorrerAtivos(MethodInvocation invocacao) {
+        CooperadoRepositoryImpl repositorio = (CooperadoRepositoryImpl) invocacao.getThis();
+        PriorityQueue<CursorNo> cursores = new PriorityQueue<>(Comparator.comparing(CursorNo::atual));
+        for (int no = 0; no < roteador.getTotalNos(); no++) {
+            CursorNo cursor = new CursorNo(no, repositorio);
+            if (cursor.avancar()) {
+                cursores.add(cursor);
+            }
+        }
+        Iterator<Cooperado> todos = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !cursores.isEmpty();
+            }
+
+            @Override
+            public Cooperado next() {
+                CursorNo cursor = cursores.poll();
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+                Cooperado atual = cursor.lote.get(cursor.posicao);
+                if (cursor.avancar()) {
+                    cursores.add(cursor);
+                }
+                return atual;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(todos, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Cooperados ativos de um nó lidos em lotes por {@code findProximaPaginaAtivosPorId}
+     */
+    private final class CursorNo {
+
+        private final int no;
+        private final CooperadoRepositoryImpl repositorio;
+        private List<Cooperado> lote = List.of();
+        private int posicao = -1;
+        private long ultimoLido;
+        private boolean completo = true;
+
+        private CursorNo(int no, CooperadoRepositoryImpl repositorio) {
+            this.no = no;
+            this.repositorio = repositorio;
+        }
+
+        private Long atual() {
+            return lote.get(posicao).getId();
+        }
+
+        private boolean avancar() {
+            posicao++;
+            while (posicao >= lote.size()) {
+                if (!completo) {
+                    return false;
+                }
+                long ultimo = ultimoLido;
+                List<Cooperado> lido = roteador.executarIsolado(no, false,
+                        () -> repositorio.findProximaPaginaAtivosPorId(ultimo, TAMANHO_LOTE_STREAM));
+                completo = lido.size() == TAMANHO_LOTE_STREAM;
+                if (!lido.isEmpty()) {
+                    ultimoLido = lido.get(lido.size() - 1).getId();
+                }
+                lote = new ArrayList<>();
+                doNo(no, lido).forEach(linha -> lote.add((Cooperado) linha));
+                posicao = 0;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Fragmento do documento, ou nulo se o valor não tem dígitos de documento (nenhum cooperado)
+     */
+    private static Integer fragmento(String documento) {
+        String numero = Documento.normalizar(documento);
+        if (numero == null || numero.isEmpty() || numero.length() > 18) {
+            return null;
+        }
+        return Fragmentacao.fragmentoDoDocumento(numero);
+    }
+
+    private static Object vazio(Method metodo) {
+        return metodo.getReturnType() == boolean.class ? Boolean.FALSE : Optional.empty();
+    }
+
+    private Map<Integer, Object> emTodos(IntFunction<Object> consulta) {
+        return roteador.executarEmNos(IntStream.range(0, roteador.getTotalNos()).boxed().toList(), false, consulta);
+    }
+
+    private List<Object> juntar(Map<Integer, Object> partes) {
+        List<Object> resultado = new ArrayList<>();
+        partes.forEach((no, parte) -> resultado.addAll(doNo(no, (Collection<?>) parte)));
+        return resultado;
+    }
+
+    /**
+     * Linhas que pertencem ao nó que as devolveu. Durante um movimento de fragmentos as linhas
+     * ficam por um tempo nos dois nós, e só a cópia do nó atual do fragmento é considerada.
+     * Contagens e totais de página não são corrigidos e podem incluir essas linhas nesse intervalo.
+     */
+    private List<Object> doNo(int no, Collection<?> linhas) {
+        List<Object> resultado = new ArrayList<>(linhas.size());
+        for (Object linha : linhas) {
+            String documento = switch (linha) {
+                case CooperadoResumo resumo -> resumo.documento();
+                case Cooperado cooperado -> cooperado.getDocumento().getNumero();
+                default -> (String) linha;
+            };
+            if (roteador.noDoDocumento(documento) == no) {
+                resultado.add(linha);
+            }
+        }
+        return resultado;
+    }
+
+    private static Pageable pageable(MethodInvocation invocacao) {
+        Object[] argumentos = invocacao.getArguments();
+        return (Pageable) argumentos[argumentos.length - 1];
+    }
+
+    private static Object[] comPageable(MethodInvocation invocacao, Pageable pageable) {
+        Object[] argumentos = invocacao.getArguments().clone();
+        argumentos[argumentos.length - 1] = pageable;
+        return argumentos;
+    }
+
+    /**
+     * Do início até o fim da página pedida, para que o recorte seja feito depois de combinar os nós
+     */
+    private static Pageable ate(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        return PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), pageable.getSort());
+    }
+
+    private static List<Object> recortar(List<Object> linhas, Comparator<Object> ordem, Pageable pageable) {
+        linhas.sort(ordem);
+        if (pageable.isUnpaged()) {
+            return linhas;
+        }
+        int inicio = (int) Math.min(pageable.getOffset(), linhas.size());
+        int fim = Math.min(inicio + pageable.getPageSize(), linhas.size());
+        return new ArrayList<>(linhas.subList(inicio, fim));
+    }
+
+    /**
+     * Ordem das linhas combinadas para a ordenação da página, com os textos na ordem do banco
+     */
+    private Comparator<Object> ordem(List<Object> linhas, Sort sort) {
+        return comparador(sort, posicoesTextos(linhas.stream()
+                .flatMap(linha -> sort.stream().map(ordem -> valor(linha, ordem.getProperty())))));
+    }
+
+    /**
+     * Posição de cada texto na ordenação do nó 0, que usa a mesma collation dos demais nós
+     */
+    private Map<String, Integer> posicoesTextos(Stream<?> valores) {
+        String[] textos = valores.filter(String.class::isInstance).distinct().toArray(String[]::new);
+        Map<String, Integer> posicoes = new HashMap<>();
+        List<String> ordenados = textos.length < 2 ? List.of(textos)
+                : no0.queryForList(ORDEM_TEXTOS, String.class, new Object[] {textos});
+        for (int i = 0; i < ordenados.size(); i++) {
+            posicoes.put(ordenados.get(i), i);
+        }
+        return posicoes;
+    }
+
+    /**
+     * Comparador equivalente ao ORDER BY do PostgreSQL para a ordenação da página (nulos por
+     * último em ordem crescente e primeiro em decrescente), com o ID como desempate; textos são
+     * comparados pela posição em {@code posicoesTextos}
+     */
+    static Comparator<Object> comparador(Sort sort, Map<String, Integer> posicoesTextos) {
+        Comparator<Object> comparador = (a, b) -> 0;
+        Set<String> propriedades = new TreeSet<>();
+        for (Sort.Order ordem : sort) {
+            propriedades.add(ordem.getProperty());
+            Comparator<Comparable<Object>> valores = Comparator.nullsLast(Comparator.naturalOrder());
+            if (ordem.isDescending()) {
+                valores = valores.reversed();
+            }
+            comparador = comparador.thenComparing(
+                    linha -> naOrdemDoBanco(valor(linha, ordem.getProperty()), posicoesTextos), valores);
+        }
+        if (!propriedades.contains("id")) {
+            Comparator<Comparable<Object>> crescente = Comparator.nullsLast(Comparator.naturalOrder());
+            comparador = comparador.thenComparing(linha -> valor(linha, "id"), crescente);
+        }
+        return comparador;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> naOrdemDoBanco(Object valor, Map<String, Integer> posicoesTextos) {
+        return (Comparable<Object>) (valor instanceof String texto ? posicoesTextos.get(texto) : valor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> valor(Object linha, String propriedade) {
+        Object valor;
+        try {
+            valor = new DirectFieldAccessor(linha).getPropertyValue(propriedade);
+        } catch (BeansException e) {
+            throw new IllegalArgumentException("Ordenação por " + propriedade + " não suportada com fragmentação");
+        }
+        if (valor == null || valor instanceof Comparable<?>) {
+            return (Comparable<Object>) valor;
+        }
+        // Objetos de valor (telefone, email) ordenados pelo valor gravado na coluna
+        DirectFieldAccessor objetoValor = new DirectFieldAccessor(valor);
+        if (objetoValor.isReadableProperty("valor")) {
+            return (Comparable<Object>) objetoValor.getPropertyValue("valor");
+        }
+        throw new IllegalArgumentException("Ordenação por " + propriedade + " não suportada com fragmentação");
+    }
+
+    private static Object invocar(MethodInvocation invocacao, Object[] argumentos) {
+        try {
+            return AopUtils.invokeJoinpointUsingReflection(invocacao.getThis(), invocacao.getMethod(), argumentos);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Roteamento {
+
+        Object executar(MethodInvocation invocacao) throws Throwable;
+    }
+
+    /**
+     * Nome e tipos dos parâmetros, iguais para o método declarado no repositório e o invocado
+     * pelo proxy, mesmo quando vem de outra interface da hierarquia
+     */
+    private record Assinatura(String nome, List<Class<?>> parametros) {
+
+        static Assinatura de(Method metodo) {
+            return new Assinatura(metodo.getName(), List.of(metodo.getParameterTypes()));
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package com.cooperados.infrastructure.persistence;
 
 import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.ContagemPorDdd;
 import com.cooperados.domain.repository.CooperadoRepository;
+import com.cooperados.domain.repository.CooperadoResumo;
+import com.cooperados.domain.repository.VersaoCooperado;
 import com.cooperados.domain.valueobject.Documento;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Implementação concreta do repositório JPA para Cooperado
+ *
+ * A tabela é particionada por tipo_documento: as buscas por CPF, CNPJ ou documento também
+ * filtram o tipo (no documento, pelo tamanho: 11 dígitos é CPF), para que o PostgreSQL leia
+ * somente a partição correspondente.
  * 
  * @author Cooperados Team
  * @version 1.0.0
@@ -27,48 +40,151 @@ public interface CooperadoRepositoryImpl extends JpaRepository<Cooperado, Long>,
      * Busca cooperado por CPF
      */
     @Override
-    @Query("SELECT c FROM Cooperado c WHERE c.documento.cpf.valor = :cpf AND c.ativo = true")
+    @Query("SELECT c FROM Cooperado c WHERE c.documento.cpf.valor = :cpf AND c.ativo = true " +
+           "AND c.documento.tipo = 'CPF'")
     Optional<Cooperado> findByCpf(@Param("cpf") String cpf);
 
     /**
      * Busca cooperado por CNPJ
      */
     @Override
-    @Query("SELECT c FROM Cooperado c WHERE c.documento.cnpj.valor = :cnpj AND c.ativo = true")
+    @Query("SELECT c FROM Cooperado c WHERE c.documento.cnpj.valor = :cnpj AND c.ativo = true " +
+           "AND c.documento.tipo = 'CNPJ'")
     Optional<Cooperado> findByCnpj(@Param("cnpj") String cnpj);
 
     /**
-     * Busca cooperado por documento (CPF ou CNPJ)
+     * Busca cooperado por documento (CPF ou CNPJ) já normalizado, somente dígitos
      */
     @Override
-    @Query("SELECT c FROM Cooperado c WHERE " +
-           "(c.documento.cpf.valor = :documento OR c.documento.cnpj.valor = :documento) " +
-           "AND c.ativo = true")
+    @Query("SELECT c FROM Cooperado c WHERE c.documento.numero = :documento AND c.ativo = true " +
+           "AND c.documento.tipo = CASE WHEN LENGTH(:documento) = 11 THEN 'CPF' ELSE 'CNPJ' END")
     Optional<Cooperado> findByDocumento(@Param("documento") String documento);
 
+    /**
+     * Versão atual do cooperado, sem carregar a entidade
+     */
+    @Override
+    @Query("SELECT new com.cooperados.domain.repository.VersaoCooperado(c.id, c.versao) " +
+           "FROM Cooperado c WHERE c.id = :id")
+    Optional<VersaoCooperado> findVersaoById(@Param("id") Long id);
+
+    /**
+     * Versão atual do cooperado ativo com o documento (já normalizado), sem carregar a entidade
+     */
+    @Override
+    @Query("SELECT new com.cooperados.domain.repository.VersaoCooperado(c.id, c.versao) " +
+           "FROM Cooperado c WHERE c.documento.numero = :documento AND c.ativo = true " +
+           "AND c.documento.tipo = CASE WHEN LENGTH(:documento) = 11 THEN 'CPF' ELSE 'CNPJ' END")
+    Optional<VersaoCooperado> findVersaoByDocumento(@Param("documento") String documento);
+
     /**
      * Verifica se existe CPF cadastrado
      */
     @Override
-    @Query("SELECT COUNT(c) > 0 FROM Cooperado c WHERE c.documento.cpf.valor = :cpf AND c.ativo = true")
+    @Query("SELECT COUNT(*) > 0 FROM Cooperado c WHERE c.documento.cpf.valor = :cpf AND c.ativo = true " +
+           "AND c.documento.tipo = 'CPF'")
     boolean existsByCpf(@Param("cpf") String cpf);
 
     /**
      * Verifica se existe CNPJ cadastrado
      */
     @Override
-    @Query("SELECT COUNT(c) > 0 FROM Cooperado c WHERE c.documento.cnpj.valor = :cnpj AND c.ativo = true")
+    @Query("SELECT COUNT(*) > 0 FROM Cooperado c WHERE c.documento.cnpj.valor = :cnpj AND c.ativo = true " +
+           "AND c.documento.tipo = 'CNPJ'")
     boolean existsByCnpj(@Param("cnpj") String cnpj);
 
     /**
-     * Verifica se existe documento cadastrado (CPF ou CNPJ)
+     * Verifica se existe documento cadastrado (CPF ou CNPJ) já normalizado, somente dígitos
      */
     @Override
-    @Query("SELECT COUNT(c) > 0 FROM Cooperado c WHERE " +
-           "(c.documento.cpf.valor = :documento OR c.documento.cnpj.valor = :documento) " +
-           "AND c.ativo = true")
+    @Query("SELECT COUNT(*) > 0 FROM Cooperado c WHERE c.documento.numero = :documento AND c.ativo = true " +
+           "AND c.documento.tipo = CASE WHEN LENGTH(:documento) = 11 THEN 'CPF' ELSE 'CNPJ' END")
     boolean existsByDocumento(@Param("documento") String documento);
 
+    /**
+     * Documentos já cadastrados (ativos ou não) entre os informados, em uma única consulta.
+     * Cada documento é buscado só na partição do seu tipo, pelos índices únicos de CPF e CNPJ.
+     */
+    @Override
+    @Query(value = "SELECT c.documento_numero FROM unnest(:numeros) AS n " +
+                   "JOIN cooperados c ON c.tipo_documento = CASE WHEN length(n) = 11 THEN 'CPF' ELSE 'CNPJ' END " +
+                   "AND (c.documento_cpf = n OR c.documento_cnpj = n)",
+           nativeQuery = true)
+    List<String> findDocumentosCadastrados(@Param("numeros") String[] numeros);
+
+    /**
+     * Insere o cooperado em uma única instrução, sem verificação prévia de existência.
+     * Retorna vazio quando o documento já está cadastrado (conflito em qualquer restrição única),
+     * inclusive sob criações concorrentes do mesmo documento.
+     */
+    @Override
+    @Query(value = "INSERT INTO cooperados (id, nome, tipo_documento, documento_cpf, documento_cnpj, " +
+                   "data_nascimento_constituicao, renda_faturamento, telefone, email, ativo, " +
+                   "data_criacao, data_atualizacao, versao) " +
+                   "VALUES (:id, :#{#cooperado.nome}, :#{#cooperado.documento.tipo.name()}, " +
+                   ":#{#cooperado.documento.isCpf() ? #cooperado.documento.valor : null}, " +
+                   ":#{#cooperado.documento.isCnpj() ? #cooperado.documento.valor : null}, " +
+                   ":#{#cooperado.dataNascimentoConstituicao}, :#{#cooperado.rendaFaturamento}, " +
+                   ":#{#cooperado.telefone.valor}, :#{#cooperado.email?.valor}, true, " +
+                   "LOCALTIMESTAMP, LOCALTIMESTAMP, 0) " +
+                   "ON CONFLICT DO NOTHING " +
+                   "RETURNING *",
+           nativeQuery = true)
+    Optional<Cooperado> inserirSeDocumentoDisponivel(@Param("id") Long id, @Param("cooperado") Cooperado cooperado);
+
+    /**
+     * Atualiza somente os campos informados (nulos mantêm o valor atual) em uma única instrução.
+     * Não retorna linha quando o cooperado não existe, quando a versão esperada não confere ou
+     * quando nada mudaria; nesses casos versao e data_atualizacao permanecem inalteradas.
+     */
+    @Override
+    @Query(value = "UPDATE cooperados SET " +
+                   "nome = COALESCE(CAST(:nome AS VARCHAR), nome), " +
+                   "data_nascimento_constituicao = COALESCE(CAST(:dataNascimentoConstituicao AS DATE), data_nascimento_constituicao), " +
+                   "renda_faturamento = COALESCE(CAST(:rendaFaturamento AS NUMERIC), renda_faturamento), " +
+                   "telefone = COALESCE(CAST(:telefone AS VARCHAR), telefone), " +
+                   "email = COALESCE(CAST(:email AS VARCHAR), email), " +
+                   "data_atualizacao = LOCALTIMESTAMP, " +
+                   "versao = versao + 1 " +
+                   "WHERE id = :id " +
+                   "AND (CAST(:versao AS BIGINT) IS NULL OR versao = CAST(:versao AS BIGINT)) " +
+                   "AND (nome, data_nascimento_constituicao, renda_faturamento, telefone, email) IS DISTINCT FROM " +
+                   "(COALESCE(CAST(:nome AS VARCHAR), nome), " +
+                   "COALESCE(CAST(:dataNascimentoConstituicao AS DATE), data_nascimento_constituicao), " +
+                   "COALESCE(CAST(:rendaFaturamento AS NUMERIC), renda_faturamento), " +
+                   "COALESCE(CAST(:telefone AS VARCHAR), telefone), " +
+                   "COALESCE(CAST(:email AS VARCHAR), email)) " +
+                   "RETURNING *",
+           nativeQuery = true)
+    Optional<Cooperado> atualizarCamposAlterados(@Param("id") Long id,
+                                                 @Param("versao") Long versao,
+                                                 @Param("nome") String nome,
+                                                 @Param("dataNascimentoConstituicao") LocalDate dataNascimentoConstituicao,
+                                                 @Param("rendaFaturamento") BigDecimal rendaFaturamento,
+                                                 @Param("telefone") String telefone,
+                                                 @Param("email") String email);
+
+    /**
+     * Exclusão lógica em uma única instrução; retorna o documento do cooperado desativado,
+     * ou vazio se ele não existe ou já está inativo
+     */
+    @Override
+    @Query(value = "UPDATE cooperados SET ativo = false, data_atualizacao = LOCALTIMESTAMP, versao = versao + 1 " +
+                   "WHERE id = :id AND ativo = true " +
+                   "RETURNING documento_numero",
+           nativeQuery = true)
+    Optional<String> desativarSeAtivo(@Param("id") Long id);
+
+    /**
+     * Reativação em uma única instrução; vazio se o cooperado não existe ou já está ativo
+     */
+    @Override
+    @Query(value = "UPDATE cooperados SET ativo = true, data_atualizacao = LOCALTIMESTAMP, versao = versao + 1 " +
+                   "WHERE id = :id AND ativo = false " +
+                   "RETURNING *",
+           nativeQuery = true)
+    Optional<Cooperado> reativarSeInativo(@Param("id") Long id);
+
     /**
      * Busca cooperados ativos
      */
@@ -103,11 +219,21 @@ public interface CooperadoRepositoryImpl extends JpaRepository<Cooperado, Long>,
                                                   @Param("rendaMax") java.math.BigDecimal rendaMax);
 
     /**
-     * Busca cooperados por DDD do telefone
+     * Busca cooperados ativos por DDD do telefone com paginação
+     */
+    @Override
+    @Query(value = "SELECT c FROM Cooperado c WHERE c.telefone.ddd = :ddd AND c.ativo = true",
+           countQuery = "SELECT COUNT(c) FROM Cooperado c WHERE c.telefone.ddd = :ddd AND c.ativo = true")
+    Page<Cooperado> findByTelefoneDdd(@Param("ddd") Short ddd, Pageable pageable);
+
+    /**
+     * Conta cooperados ativos por DDD em uma única consulta agrupada
      */
     @Override
-    @Query("SELECT c FROM Cooperado c WHERE c.telefone.valor LIKE :ddd + '%' AND c.ativo = true")
-    List<Cooperado> findByTelefoneDdd(@Param("ddd") String ddd);
+    @Query("SELECT new com.cooperados.domain.repository.ContagemPorDdd(c.telefone.ddd, COUNT(c)) " +
+           "FROM Cooperado c WHERE c.ativo = true " +
+           "GROUP BY c.telefone.ddd ORDER BY c.telefone.ddd")
+    List<ContagemPorDdd> countAgrupadoPorDdd();
 
     /**
      * Busca cooperados com email
@@ -133,7 +259,7 @@ public interface CooperadoRepositoryImpl extends JpaRepository<Cooperado, Long>,
      * Conta cooperados por tipo de documento
      */
     @Override
-    @Query("SELECT COUNT(c) FROM Cooperado c WHERE c.documento.tipo = :tipo AND c.ativo = true")
+    @Query("SELECT COUNT(*) FROM Cooperado c WHERE c.documento.tipo = :tipo AND c.ativo = true")
     long countByTipoDocumento(@Param("tipo") Documento.TipoDocumento tipo);
 
     /**
@@ -142,4 +268,179 @@ public interface CooperadoRepositoryImpl extends JpaRepository<Cooperado, Long>,
     @Override
     @Query("SELECT c FROM Cooperado c WHERE c.documento.tipo = :tipo AND c.ativo = true")
     List<Cooperado> findByTipoDocumento(@Param("tipo") Documento.TipoDocumento tipo);
+
+    /**
+     * Listagem paginada projetada diretamente em {@link CooperadoResumo}
+     */
+    @Override
+    @Query(value = "SELECT new com.cooperados.domain.repository.CooperadoResumo(" +
+           "c.id, c.nome, c.documento.tipo, COALESCE(c.documento.cpf.valor, c.documento.cnpj.valor), " +
+           "c.dataNascimentoConstituicao, c.rendaFaturamento, c.telefone.valor, c.email.valor, c.ativo) " +
+                   "FROM Cooperado c",
+           countQuery = "SELECT COUNT(*) FROM Cooperado c")
+    Page<CooperadoResumo> findAllResumos(Pageable pageable);
+
+    /**
+     * Cooperados ativos por tipo de documento projetados em {@link CooperadoResumo}
+     */
+    @Override
+    @Query("SELECT new com.cooperados.domain.repository.CooperadoResumo(" +
+           "c.id, c.nome, c.documento.tipo, COALESCE(c.documento.cpf.valor, c.documento.cnpj.valor), " +
+           "c.dataNascimentoConstituicao, c.rendaFaturamento, c.telefone.valor, c.email.valor, c.ativo) " +
+           "FROM Cooperado c WHERE c.documento.tipo = :tipo AND c.ativo = true")
+    List<CooperadoResumo> findResumosByTipoDocumento(@Param("tipo") Documento.TipoDocumento tipo);
+
+    /**
+     * Cooperados ativos projetados em {@link CooperadoResumo}
+     */
+    @Override
+    @Query("SELECT new com.cooperados.domain.repository.CooperadoResumo(" +
+           "c.id, c.nome, c.documento.tipo, COALESCE(c.documento.cpf.valor, c.documento.cnpj.valor), " +
+           "c.dataNascimentoConstituicao, c.rendaFaturamento, c.telefone.valor, c.email.valor, c.ativo) " +
+           "FROM Cooperado c WHERE c.ativo = true")
+    List<CooperadoResumo> findResumosAtivos();
+
+    /**
+     * Primeira página da paginação por cursor (sem COUNT)
+     */
+    @Override
+    Slice<Cooperado> findAllBy(Pageable pageable);
+
+    /**
+     * Próxima página por cursor ordenada por ID (ascendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE id > :id ORDER BY id LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorId(@Param("id") Long id, @Param("limite") int limite);
+
+    /**
+     * Próxima página de cooperados ativos por cursor ordenada por ID (ascendente); os inativos
+     * são descartados na leitura do índice, sem chegar à aplicação
+     */
+    @Query(value = "SELECT * FROM cooperados WHERE ativo = true AND id > :id ORDER BY id LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaAtivosPorId(@Param("id") Long id, @Param("limite") int limite);
+
+    /**
+     * Próxima página por cursor ordenada por ID (descendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE id < :id ORDER BY id DESC LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorIdDesc(@Param("id") Long id, @Param("limite") int limite);
+
+    /**
+     * Busca vários cooperados por ID em uma única consulta (um parâmetro array, qualquer quantidade)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE id = ANY(:ids)", nativeQuery = true)
+    List<Cooperado> buscarPorIds(@Param("ids") Long[] ids);
+
+    /**
+     * Busca os cooperados ativos com os documentos informados (já normalizados) em uma única
+     * consulta, pelo índice único parcial de documento_numero. Cada documento é buscado só na
+     * partição do seu tipo, também no plano genérico (partições não usadas não são lidas).
+     */
+    @Override
+    @Query(value = "SELECT c.* FROM cooperados c WHERE c.ativo = true " +
+                   "AND (c.documento_numero, c.tipo_documento) IN (" +
+                   "SELECT d, CASE WHEN length(d) = 11 THEN 'CPF' ELSE 'CNPJ' END FROM unnest(:documentos) AS d)",
+           nativeQuery = true)
+    List<Cooperado> buscarPorDocumentos(@Param("documentos") String[] documentos);
+
+    /**
+     * Próxima página por cursor ordenada por nome (ascendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE (nome, id) > (:nome, :id) " +
+                   "ORDER BY nome, id LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorNome(@Param("nome") String nome, @Param("id") Long id,
+                                             @Param("limite") int limite);
+
+    /**
+     * Próxima página por cursor ordenada por nome (descendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE (nome, id) < (:nome, :id) " +
+                   "ORDER BY nome DESC, id DESC LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorNomeDesc(@Param("nome") String nome, @Param("id") Long id,
+                                                 @Param("limite") int limite);
+
+    /**
+     * Próxima página por cursor ordenada por data de nascimento/constituição (ascendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE (data_nascimento_constituicao, id) > (:data, :id) " +
+                   "ORDER BY data_nascimento_constituicao, id LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorDataNascimentoConstituicao(@Param("data") LocalDate data,
+                                                                   @Param("id") Long id,
+                                                                   @Param("limite") int limite);
+
+    /**
+     * Próxima página por cursor ordenada por data de nascimento/constituição (descendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE (data_nascimento_constituicao, id) < (:data, :id) " +
+                   "ORDER BY data_nascimento_constituicao DESC, id DESC LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorDataNascimentoConstituicaoDesc(@Param("data") LocalDate data,
+                                                                       @Param("id") Long id,
+                                                                       @Param("limite") int limite);
+
+    /**
+     * Próxima página por cursor ordenada por renda/faturamento (ascendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE (renda_faturamento, id) > (:renda, :id) " +
+                   "ORDER BY renda_faturamento, id LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorRendaFaturamento(@Param("renda") java.math.BigDecimal renda,
+                                                         @Param("id") Long id,
+                                                         @Param("limite") int limite);
+
+    /**
+     * Próxima página por cursor ordenada por renda/faturamento (descendente)
+     */
+    @Override
+    @Query(value = "SELECT * FROM cooperados WHERE (renda_faturamento, id) < (:renda, :id) " +
+                   "ORDER BY renda_faturamento DESC, id DESC LIMIT :limite",
+           nativeQuery = true)
+    List<Cooperado> findProximaPaginaPorRendaFaturamentoDesc(@Param("renda") java.math.BigDecimal renda,
+                                                             @Param("id") Long id,
+                                                             @Param("limite") int limite);
+
+    /**
+     * Busca paginada por nome, sem distinção de acentos e maiúsculas, ordenada por similaridade
+     * (usa o índice GIN de trigramas idx_cooperados_nome_trgm). O parâmetro padrao é o
+     * mesmo termo com os curingas do LIKE escapados.
+     */
+    @Override
+    @Query(value = "SELECT c.* FROM cooperados c " +
+                   "WHERE c.ativo = true " +
+                   "AND (cooperados_normalizar_nome(c.nome) LIKE '%' || cooperados_normalizar_nome(:padrao) || '%' " +
+                   "OR cooperados_normalizar_nome(c.nome) % cooperados_normalizar_nome(:nome)) " +
+                   "ORDER BY similarity(cooperados_normalizar_nome(c.nome), cooperados_normalizar_nome(:nome)) DESC, c.id",
+           countQuery = "SELECT COUNT(*) FROM cooperados c " +
+                        "WHERE c.ativo = true " +
+                        "AND (cooperados_normalizar_nome(c.nome) LIKE '%' || cooperados_normalizar_nome(:padrao) || '%' " +
+                        "OR cooperados_normalizar_nome(c.nome) % cooperados_normalizar_nome(:nome))",
+           nativeQuery = true)
+    Page<Cooperado> findByNomeSimilar(@Param("nome") String nome, @Param("padrao") String padrao,
+                                      Pageable pageable);
+
+    /**
+     * Percorre os cooperados ativos via cursor JDBC, sem materializar a lista.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Cooperado c WHERE c.ativo = true ORDER BY c.id")
+    Stream<Cooperado> streamByAtivoTrue();
 }
@@ -0,0 +1,146 @@
+package com.cooperados.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * DataSource que entrega a conexão do nó escolhido para a thread atual
+ * ({@link #executarNo(int, Supplier)}), ou do nó 0 quando nenhum foi escolhido.
+ *
+ * Dentro de uma transação (ou de um escopo de sincronização, como o de
+ * {@code Propagation.SUPPORTS}) a conexão obtida fica presa à transação, e com ela o nó: o
+ * primeiro acesso registra o nó na transação ({@link #noDaTransacaoAtual()}) para que o
+ * {@link RoteadorFragmentos} envie acessos a outros nós para transações próprias.
+ *
+ * Deve ser usado atrás de um {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * o JPA obtém a conexão ao iniciar a transação, antes de o repositório escolher o nó.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class DataSourceFragmentado extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final ThreadLocal<Integer> NO_ATUAL = new ThreadLocal<>();
+
+    private final List<DataSource> nos;
+    private final Counter[] conexoes;
+
+    public DataSourceFragmentado(List<DataSource> nos, MeterRegistry meterRegistry) {
+        this.nos = List.copyOf(nos);
+        this.conexoes = new Counter[nos.size()];
+        Map<Object, Object> destinos = new HashMap<>();
+        for (int no = 0; no < nos.size(); no++) {
+            destinos.put(no, nos.get(no));
+            conexoes[no] = Counter.builder("cooperados.datasource.conexoes")
+                    .description("Conexões obtidas pelo roteamento, por destino")
+                    .tag("destino", "no-" + no)
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(nos.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int getTotalNos() {
+        return nos.size();
+    }
+
+    /**
+     * Pool do nó, sem roteamento nem vínculo com transação
+     */
+    public DataSource getNo(int no) {
+        return nos.get(no);
+    }
+
+    /**
+     * Executa com as conexões obtidas na thread atual vindas do nó informado
+     */
+    public static <T> T executarNo(int no, Supplier<T> acao) {
+        Integer anterior = NO_ATUAL.get();
+        NO_ATUAL.set(no);
+        try {
+            return acao.get();
+        } finally {
+            if (anterior == null) {
+                NO_ATUAL.remove();
+            } else {
+                NO_ATUAL.set(anterior);
+            }
+        }
+    }
+
+    /**
+     * Nó da conexão já obtida pela transação atual, ou nulo se ela ainda não acessou o banco
+     */
+    public Integer noDaTransacaoAtual() {
+        return (Integer) TransactionSynchronizationManager.getResource(this);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer no = noDaTransacaoAtual();
+        if (no == null) {
+            no = NO_ATUAL.get() != null ? NO_ATUAL.get() : 0;
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.bindResource(this, no);
+                TransactionSynchronizationManager.registerSynchronization(new VinculoNo(no));
+            }
+        }
+        conexoes[no].increment();
+        return no;
+    }
+
+    /**
+     * Fecha os pools dos nós, criados fora do contexto da aplicação (exceto o nó 0)
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : nos.subList(1, nos.size())) {
+            while (dataSource instanceof DelegatingDataSource delegating) {
+                dataSource = delegating.getTargetDataSource();
+            }
+            if (dataSource instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+
+    /**
+     * Desfaz o vínculo do nó com a transação quando ela é suspensa ou termina
+     */
+    private final class VinculoNo implements TransactionSynchronization {
+
+        private final int no;
+
+        private VinculoNo(int no) {
+            this.no = no;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DataSourceFragmentado.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(DataSourceFragmentado.this, no);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DataSourceFragmentado.this);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.cooperados.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource que limita as conexões em uso ao tamanho do pool e a fila de espera por elas.
+ *
+ * Com threads virtuais, o número de requisições simultâneas deixa de ser limitado pelas
+ * threads do Tomcat e milhares delas podem disputar o pool. Acima da fila máxima, ou após a
+ * espera máxima, a obtenção falha de imediato com {@link SQLTransientConnectionException}
+ * (respondida com 503) em vez de acumular requisições até o timeout do Hikari.
+ *
+ * A permissão é devolvida no primeiro {@code close()} da conexão obtida.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class DataSourceLimitado extends DelegatingDataSource {
+
+    private final Semaphore permissoes;
+    private final int limite;
+    private final int filaMaxima;
+    private final long esperaMaximaNanos;
+    private final AtomicInteger aguardando = new AtomicInteger();
+    private final AtomicLong rejeitadas = new AtomicLong();
+
+    public DataSourceLimitado(DataSource dataSource, int limite, int filaMaxima, Duration esperaMaxima) {
+        super(dataSource);
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite de conexões deve ser positivo");
+        }
+        if (filaMaxima < 0) {
+            throw new IllegalArgumentException("Fila máxima não pode ser negativa");
+        }
+        this.permissoes = new Semaphore(limite, true);
+        this.limite = limite;
+        this.filaMaxima = filaMaxima;
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberandoAoFechar(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberandoAoFechar(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getAguardando() {
+        return aguardando.get();
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas.get();
+    }
+
+    private void adquirir() throws SQLException {
+        if (permissoes.tryAcquire()) {
+            return;
+        }
+        if (aguardando.incrementAndGet() > filaMaxima) {
+            aguardando.decrementAndGet();
+            rejeitadas.incrementAndGet();
+            throw new SQLTransientConnectionException(
+                    "Fila de espera por conexão cheia (" + filaMaxima + " aguardando)");
+        }
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS)) {
+                rejeitadas.incrementAndGet();
+                throw new SQLTransientConnectionException(
+                        "Nenhuma conexão liberada em " + Duration.ofNanos(esperaMaximaNanos).toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Espera por conexão interrompida", e);
+        } finally {
+            aguardando.decrementAndGet();
+        }
+    }
+
+    private Connection liberandoAoFechar(Connection conexao) {
+        AtomicBoolean fechada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    // Identidade do proxy: é ele que fica associado à transação
+                    if ("equals".equals(metodo.getName()) && metodo.getParameterCount() == 1) {
+                        return proxy == argumentos[0];
+                    }
+                    if ("hashCode".equals(metodo.getName()) && metodo.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    boolean fechamento = "close".equals(metodo.getName()) && metodo.getParameterCount() == 0;
+                    try {
+                        return metodo.invoke(conexao, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (fechamento && fechada.compareAndSet(false, true)) {
+                            permissoes.release();
+                        }
+                    }
+                });
+    }
+}
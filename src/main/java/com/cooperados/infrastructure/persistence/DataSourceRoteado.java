@@ -0,0 +1,270 @@
+package com.cooperados.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envia as transações somente leitura ({@code @Transactional(readOnly = true)})
+ * às réplicas, em rodízio, e todo o resto (escritas e acessos fora de transação) ao primário.
+ *
+ * Réplicas começam indisponíveis e só passam a receber leituras depois que a verificação
+ * periódica confirma que respondem com atraso de replicação dentro do máximo. Sem réplica
+ * disponível, ou se a conexão com a escolhida falhar, a leitura vai ao primário.
+ *
+ * Leitura das próprias escritas: após o commit de uma escrita feita numa requisição HTTP, as
+ * leituras do restante da requisição e as do mesmo cliente durante a janela configurada (via
+ * cookie {@value #COOKIE_ESCRITA}) vão ao primário.
+ *
+ * Delega ao primário tudo o que não é obtenção de conexão roteada, inclusive {@code unwrap}
+ * (métricas do Hikari e do limitador de conexões).
+ *
+ * Deve ser usado atrás de um {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * o JPA obtém a conexão ao iniciar a transação, antes de ela ser marcada como somente leitura.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class DataSourceRoteado extends DelegatingDataSource implements DisposableBean {
+
+    /**
+     * Cookie que marca o cliente que acabou de escrever; expira ao fim da janela
+     */
+    public static final String COOKIE_ESCRITA = "cooperados-escrita";
+
+    private static final String ATRIBUTO_ESCRITA = DataSourceRoteado.class.getName() + ".ESCRITA";
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceRoteado.class);
+
+    /**
+     * Atraso em segundos; zero quando a réplica já aplicou todo o WAL recebido (primário ocioso)
+     * ou quando o servidor não está em recuperação, e nulo se ela nunca aplicou uma transação
+     */
+    private static final String CONSULTA_ATRASO = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END""";
+
+    private static final int TIMEOUT_VERIFICACAO_SEGUNDOS = 2;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final double atrasoMaximoSegundos;
+    private final Duration janelaLeituraPropria;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final Counter conexoesPrimario;
+
+    public DataSourceRoteado(DataSource primario, Map<String, DataSource> replicas, Duration atrasoMaximo,
+                             Duration janelaLeituraPropria, MeterRegistry meterRegistry) {
+        super(primario);
+        this.atrasoMaximoSegundos = atrasoMaximo.toMillis() / 1000.0;
+        this.janelaLeituraPropria = janelaLeituraPropria;
+        this.conexoesPrimario = contador("primario", meterRegistry);
+        replicas.forEach((nome, dataSource) -> {
+            Replica replica = new Replica(nome, dataSource, contador(nome, meterRegistry));
+            Gauge.builder("cooperados.replicas.disponivel", replica, r -> r.disponivel ? 1 : 0)
+                    .description("1 se a réplica está recebendo leituras")
+                    .tag("replica", nome)
+                    .register(meterRegistry);
+            Gauge.builder("cooperados.replicas.atraso", replica, r -> r.atrasoSegundos)
+                    .description("Atraso de replicação medido na última verificação")
+                    .tag("replica", nome)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = escolherReplica();
+        if (replica != null) {
+            try {
+                Connection conexao = replica.dataSource.getConnection();
+                replica.conexoes.increment();
+                return conexao;
+            } catch (SQLException e) {
+                marcarIndisponivel(replica, e.getMessage());
+            }
+        }
+        conexoesPrimario.increment();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        conexoesPrimario.increment();
+        return super.getConnection(username, password);
+    }
+
+    /**
+     * Mede o atraso de cada réplica e atualiza quais recebem leituras
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.replicas.intervalo-verificacao:PT5S}")
+    public void verificarReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection conexao = replica.dataSource.getConnection();
+                 Statement statement = conexao.createStatement()) {
+                statement.setQueryTimeout(TIMEOUT_VERIFICACAO_SEGUNDOS);
+                try (ResultSet rs = statement.executeQuery(CONSULTA_ATRASO)) {
+                    rs.next();
+                    double atraso = rs.getDouble(1);
+                    if (rs.wasNull()) {
+                        marcarIndisponivel(replica, "nenhuma transação replicada ainda");
+                    } else if (atraso > atrasoMaximoSegundos) {
+                        replica.atrasoSegundos = atraso;
+                        marcarIndisponivel(replica, String.format("atraso de %.1f s", atraso));
+                    } else {
+                        replica.atrasoSegundos = atraso;
+                        replica.verificada = true;
+                        if (!replica.disponivel) {
+                            replica.disponivel = true;
+                            log.info("Réplica {} disponível para leituras (atraso de {} s)",
+                                    replica.nome, String.format("%.1f", atraso));
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.atrasoSegundos = Double.NaN;
+                marcarIndisponivel(replica, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Fecha os pools das réplicas, criados fora do contexto da aplicação
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            DataSource dataSource = replica.dataSource;
+            while (dataSource instanceof DelegatingDataSource delegating) {
+                dataSource = delegating.getTargetDataSource();
+            }
+            if (dataSource instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+
+    /**
+     * Réplica que deve atender a conexão pedida agora, ou nulo para o primário
+     */
+    private Replica escolherReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        registrarEscrita();
+                    }
+                });
+            }
+            return null;
+        }
+        if (escritaRecente()) {
+            return null;
+        }
+        int total = replicas.size();
+        for (int i = 0; i < total; i++) {
+            Replica replica = replicas.get(Math.floorMod(proxima.getAndIncrement(), total));
+            if (replica.disponivel) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verdadeiro se a requisição atual já escreveu ou veio de um cliente que escreveu há pouco.
+     *
+     * O roteamento só vale para a thread que abre a conexão: leituras dessa requisição não podem
+     * usar caches nem aguardar consultas de outras requisições, que podem vir de uma réplica atrasada.
+     */
+    public static boolean escritaRecente() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos)) {
+            return false;
+        }
+        return atributos.getAttribute(ATRIBUTO_ESCRITA, RequestAttributes.SCOPE_REQUEST) != null
+                || WebUtils.getCookie(atributos.getRequest(), COOKIE_ESCRITA) != null;
+    }
+
+    private void registrarEscrita() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos)) {
+            return;
+        }
+        if (atributos.getAttribute(ATRIBUTO_ESCRITA, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        atributos.setAttribute(ATRIBUTO_ESCRITA, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse resposta = atributos.getResponse();
+        if (resposta != null && !resposta.isCommitted()) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_ESCRITA, "1")
+                    .maxAge(janelaLeituraPropria)
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            resposta.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+    }
+
+    private static void marcarIndisponivel(Replica replica, String motivo) {
+        // Registra a mudança de estado e o resultado da primeira verificação
+        if (replica.disponivel || !replica.verificada) {
+            replica.disponivel = false;
+            log.warn("Réplica {} indisponível para leituras: {}", replica.nome, motivo);
+        }
+        replica.verificada = true;
+    }
+
+    private static Counter contador(String destino, MeterRegistry meterRegistry) {
+        return Counter.builder("cooperados.datasource.conexoes")
+                .description("Conexões obtidas pelo roteamento, por destino")
+                .tag("destino", destino)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String nome;
+        private final DataSource dataSource;
+        private final Counter conexoes;
+        private volatile boolean disponivel;
+        private volatile boolean verificada;
+        private volatile double atrasoSegundos = Double.NaN;
+
+        private Replica(String nome, DataSource dataSource, Counter conexoes) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+            this.conexoes = conexoes;
+        }
+    }
+}
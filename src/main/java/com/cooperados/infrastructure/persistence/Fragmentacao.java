@@ -0,0 +1,75 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.domain.valueobject.Documento;
+
+/**
+ * Regras de distribuição dos cooperados entre os nós (app.fragmentacao.enabled=true).
+ *
+ * Cada documento pertence a um de {@value #TOTAL_FRAGMENTOS} fragmentos lógicos, e cada
+ * fragmento está em um nó (catálogo cooperados_fragmentos). O rebalanceamento move fragmentos
+ * inteiros entre nós, sem mudar o fragmento de nenhum documento.
+ *
+ * IDs gerados com fragmentação levam o fragmento nos 10 bits mais baixos
+ * ({@code sequencial * 1024 + fragmento}), para que a busca por ID vá direto ao nó. O
+ * sequencial vem da sequência do nó onde o cooperado foi criado, e cada nó usa uma faixa
+ * própria da sequência, de modo que os IDs são únicos entre todos os nós mesmo após mover
+ * fragmentos. IDs abaixo de {@link #PRIMEIRO_ID_FRAGMENTADO} (criados antes da fragmentação)
+ * não identificam o fragmento e são localizados consultando todos os nós.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public final class Fragmentacao {
+
+    public static final int TOTAL_FRAGMENTOS = 1024;
+
+    private static final int BITS_FRAGMENTO = 10;
+    private static final long MULTIPLICADOR_KNUTH = 2654435761L;
+
+    /**
+     * Cada nó reserva 2^32 valores da sequência a partir de (nó + 1) * 2^32
+     */
+    private static final int BITS_FAIXA_SEQUENCIA = 32;
+
+    /**
+     * Menor ID gerado com fragmentação: sequencial 2^32 (início da faixa do nó 0)
+     */
+    public static final long PRIMEIRO_ID_FRAGMENTADO = 1L << (BITS_FAIXA_SEQUENCIA + BITS_FRAGMENTO);
+
+    /**
+     * Mantém os IDs abaixo de 2^53, representáveis sem perda em clientes JavaScript
+     */
+    public static final int MAXIMO_NOS = (1 << (53 - BITS_FRAGMENTO - BITS_FAIXA_SEQUENCIA)) - 1;
+
+    private Fragmentacao() {
+    }
+
+    /**
+     * Fragmento do documento (com ou sem formatação); igual à função SQL cooperados_fragmento_documento
+     */
+    public static int fragmentoDoDocumento(String documento) {
+        long numero = Long.parseLong(Documento.normalizar(documento));
+        return (int) (((numero * MULTIPLICADOR_KNUTH) & 0xFFFFFFFFL) >>> (32 - BITS_FRAGMENTO));
+    }
+
+    /**
+     * Fragmento codificado no ID, ou -1 para IDs criados antes da fragmentação
+     */
+    public static int fragmentoDoId(long id) {
+        if (id < PRIMEIRO_ID_FRAGMENTADO) {
+            return -1;
+        }
+        return (int) (id & (TOTAL_FRAGMENTOS - 1));
+    }
+
+    public static long idFragmentado(long sequencial, int fragmento) {
+        return (sequencial << BITS_FRAGMENTO) | fragmento;
+    }
+
+    /**
+     * Primeiro valor da faixa da sequência reservada ao nó
+     */
+    public static long inicioSequenciaNo(int no) {
+        return (no + 1L) << BITS_FAIXA_SEQUENCIA;
+    }
+}
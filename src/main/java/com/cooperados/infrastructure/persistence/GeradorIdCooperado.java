@@ -0,0 +1,57 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.domain.entity.Cooperado;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Gera IDs de cooperado pelo mesmo gerador pooled-lo usado pelo Hibernate no persist.
+ *
+ * Necessário para INSERTs nativos: os IDs saem do bloco já reservado em memória, sem ida ao
+ * banco na maioria das chamadas e sem consumir um bloco inteiro da sequência por registro.
+ *
+ * Com fragmentação, o valor da sequência é combinado com o fragmento do documento
+ * ({@link Fragmentacao#idFragmentado}), e a sequência é lida no nó do fragmento para que a
+ * transação continue no nó em que o INSERT será feito.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Component
+public class GeradorIdCooperado {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Optional<RoteadorFragmentos> roteadorFragmentos;
+
+    public GeradorIdCooperado(Optional<RoteadorFragmentos> roteadorFragmentos) {
+        this.roteadorFragmentos = roteadorFragmentos;
+    }
+
+    /**
+     * Próximo ID disponível para um cooperado
+     */
+    public Long proximoId(Cooperado cooperado) {
+        if (roteadorFragmentos.isEmpty()) {
+            return gerar(cooperado);
+        }
+        RoteadorFragmentos roteador = roteadorFragmentos.get();
+        int fragmento = Fragmentacao.fragmentoDoDocumento(cooperado.getDocumento().getNumero());
+        long sequencial = roteador.executarFragmento(fragmento, true, () -> gerar(cooperado));
+        return Fragmentacao.idFragmentado(sequencial, fragmento);
+    }
+
+    private Long gerar(Cooperado cooperado) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator gerador = (BeforeExecutionGenerator) session.getEntityPersister(null, cooperado)
+                .getGenerator();
+        return (Long) gerador.generate(session, cooperado, null, EventType.INSERT);
+    }
+}
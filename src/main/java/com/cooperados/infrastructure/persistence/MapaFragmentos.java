@@ -0,0 +1,144 @@
+package com.cooperados.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cópia em memória do catálogo cooperados_fragmentos (nó 0): em que nó está cada fragmento e
+ * quais estão bloqueados para escrita durante o rebalanceamento.
+ *
+ * Carregado depois das migrações e recarregado a cada app.fragmentacao.intervalo-atualizacao,
+ * para que as instâncias da API acompanhem as mudanças feitas pelo
+ * {@link RebalanceadorFragmentos}. Com o catálogo vazio (primeira execução), todos os
+ * fragmentos são atribuídos ao nó 0.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class MapaFragmentos implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(MapaFragmentos.class);
+
+    private final JdbcTemplate catalogo;
+    private final int totalNos;
+
+    /**
+     * Nulo até a primeira carga
+     */
+    private volatile Estado estado;
+
+    public MapaFragmentos(JdbcTemplate catalogo, int totalNos) {
+        this.catalogo = catalogo;
+        this.totalNos = totalNos;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        catalogo.update("INSERT INTO cooperados_fragmentos (fragmento, no) " +
+                        "SELECT f, 0 FROM generate_series(0, ?) f ON CONFLICT DO NOTHING",
+                Fragmentacao.TOTAL_FRAGMENTOS - 1);
+        estado = carregar();
+        int[] porNo = contarPorNo(estado.nos, totalNos);
+        log.info("Catálogo de fragmentos carregado: {} nós, fragmentos por nó {}",
+                totalNos, Arrays.toString(porNo));
+    }
+
+    /**
+     * Relê o catálogo; falhas mantêm a versão anterior
+     */
+    @Scheduled(initialDelayString = "${app.fragmentacao.intervalo-atualizacao:PT5S}",
+               fixedDelayString = "${app.fragmentacao.intervalo-atualizacao:PT5S}")
+    public void atualizar() {
+        try {
+            estado = carregar();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao atualizar o catálogo de fragmentos: {}", e.getMessage());
+        }
+    }
+
+    public int getTotalNos() {
+        return totalNos;
+    }
+
+    public int noDoFragmento(int fragmento) {
+        return estadoAtual().nos[fragmento];
+    }
+
+    public boolean bloqueado(int fragmento) {
+        return estadoAtual().bloqueados[fragmento];
+    }
+
+    /**
+     * Nó de cada fragmento, indexado pelo fragmento
+     */
+    public int[] nos() {
+        return estadoAtual().nos.clone();
+    }
+
+    /**
+     * Bloqueia ou libera a escrita nos fragmentos, no catálogo e nesta cópia
+     */
+    void bloquear(Collection<Integer> fragmentos, boolean bloqueado) {
+        catalogo.update("UPDATE cooperados_fragmentos SET bloqueado = ? WHERE fragmento = ANY(?)",
+                bloqueado, fragmentos.toArray(Integer[]::new));
+        estado = carregar();
+    }
+
+    /**
+     * Atribui os fragmentos ao nó e os libera para escrita, no catálogo e nesta cópia
+     */
+    void mover(Collection<Integer> fragmentos, int no) {
+        catalogo.update("UPDATE cooperados_fragmentos SET no = ?, bloqueado = false WHERE fragmento = ANY(?)",
+                no, fragmentos.toArray(Integer[]::new));
+        estado = carregar();
+    }
+
+    static int[] contarPorNo(int[] nos, int totalNos) {
+        int[] porNo = new int[totalNos];
+        for (int no : nos) {
+            porNo[no]++;
+        }
+        return porNo;
+    }
+
+    private Estado estadoAtual() {
+        Estado atual = estado;
+        if (atual == null) {
+            throw new IllegalStateException("Catálogo de fragmentos ainda não carregado");
+        }
+        return atual;
+    }
+
+    private Estado carregar() {
+        int[] nos = new int[Fragmentacao.TOTAL_FRAGMENTOS];
+        boolean[] bloqueados = new boolean[Fragmentacao.TOTAL_FRAGMENTOS];
+        List<Integer> encontrados = catalogo.query("SELECT fragmento, no, bloqueado FROM cooperados_fragmentos",
+                (rs, rowNum) -> {
+                    int fragmento = rs.getInt("fragmento");
+                    nos[fragmento] = rs.getInt("no");
+                    bloqueados[fragmento] = rs.getBoolean("bloqueado");
+                    return fragmento;
+                });
+        if (encontrados.size() != Fragmentacao.TOTAL_FRAGMENTOS) {
+            throw new IllegalStateException("Catálogo de fragmentos incompleto: " + encontrados.size()
+                    + " de " + Fragmentacao.TOTAL_FRAGMENTOS + " fragmentos");
+        }
+        for (int no : nos) {
+            if (no >= totalNos) {
+                throw new IllegalStateException("Catálogo de fragmentos aponta para o nó " + no
+                        + ", mas só há " + totalNos + " configurados (app.fragmentacao.nos)");
+            }
+        }
+        return new Estado(nos, bloqueados);
+    }
+
+    private record Estado(int[] nos, boolean[] bloqueados) {
+    }
+}
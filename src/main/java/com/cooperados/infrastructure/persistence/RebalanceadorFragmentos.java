@@ -0,0 +1,279 @@
+package com.cooperados.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Move fragmentos entre nós até que cada nó tenha a mesma quantidade (diferença de no máximo
+ * um), por exemplo depois de acrescentar nós em app.fragmentacao.nos.
+ *
+ * O plano move o mínimo de fragmentos: só os excedentes dos nós acima da sua cota, para os nós
+ * abaixo dela. Cada movimento (fragmentos de um nó de origem para um de destino):
+ * <ol>
+ *   <li>bloqueia a escrita nos fragmentos e aguarda as instâncias da API lerem o catálogo;</li>
+ *   <li>copia as linhas para o destino;</li>
+ *   <li>atribui os fragmentos ao destino, liberando a escrita, e aguarda de novo;</li>
+ *   <li>copia outra vez as linhas alteradas desde a primeira cópia (versão maior) e as remove
+ *       da origem.</li>
+ * </ol>
+ * Leituras continuam durante todo o movimento; escritas nos fragmentos movidos recebem 503 do
+ * bloqueio até a troca de nó. As linhas copiadas e removidas não geram notificações de
+ * alteração (cooperados.suprimir_notificacoes), pois não mudam.
+ *
+ * Interrompido no meio, pode ser executado de novo: antes de mover, libera os fragmentos que
+ * ficaram bloqueados e remove de cada nó as linhas de fragmentos que não são dele (cópias
+ * parciais ou não removidas da origem). Não deve haver duas execuções ao mesmo tempo.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class RebalanceadorFragmentos {
+
+    private static final Logger log = LoggerFactory.getLogger(RebalanceadorFragmentos.class);
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private static final String COLUNAS = "id, nome, tipo_documento, documento_cpf, documento_cnpj, " +
+            "data_nascimento_constituicao, renda_faturamento, telefone, email, ativo, " +
+            "data_criacao, data_atualizacao, versao";
+
+    // A leitura e a remoção por fragmento usam o índice idx_cooperados_fragmento, criado em cada
+    // nó ao iniciar com a fragmentação (FragmentacaoConfig)
+    private static final String LER_LOTE = "SELECT " + COLUNAS + " FROM cooperados " +
+            "WHERE cooperados_fragmento_documento(documento_numero) = ANY(?) AND id > ? " +
+            "ORDER BY id LIMIT " + TAMANHO_LOTE;
+
+    private static final String GRAVAR = "INSERT INTO cooperados (" + COLUNAS + ") " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (id, tipo_documento) DO UPDATE SET nome = EXCLUDED.nome, " +
+            "data_nascimento_constituicao = EXCLUDED.data_nascimento_constituicao, " +
+            "renda_faturamento = EXCLUDED.renda_faturamento, telefone = EXCLUDED.telefone, " +
+            "email = EXCLUDED.email, ativo = EXCLUDED.ativo, " +
+            "data_atualizacao = EXCLUDED.data_atualizacao, versao = EXCLUDED.versao " +
+            "WHERE cooperados.versao < EXCLUDED.versao";
+
+    private static final String REMOVER_LOTE = "DELETE FROM cooperados WHERE id IN (" +
+            "SELECT id FROM cooperados WHERE cooperados_fragmento_documento(documento_numero) = ANY(?) " +
+            "LIMIT " + TAMANHO_LOTE + ")";
+
+    private final MapaFragmentos mapa;
+    private final DataSourceFragmentado dataSource;
+    private final Duration espera;
+
+    /**
+     * @param espera tempo para todas as instâncias da API lerem o catálogo alterado (duas vezes
+     *               app.fragmentacao.intervalo-atualizacao)
+     */
+    public RebalanceadorFragmentos(MapaFragmentos mapa, DataSourceFragmentado dataSource, Duration espera) {
+        this.mapa = mapa;
+        this.dataSource = dataSource;
+        this.espera = espera;
+    }
+
+    /**
+     * Fragmentos a mover de um nó para outro
+     */
+    public record Movimento(int origem, int destino, List<Integer> fragmentos) {
+    }
+
+    /**
+     * Movimentos que igualam a quantidade de fragmentos por nó; vazio se já estão distribuídos
+     */
+    public List<Movimento> planejar() {
+        return planejar(mapa.nos(), mapa.getTotalNos());
+    }
+
+    static List<Movimento> planejar(int[] nos, int totalNos) {
+        int[] porNo = MapaFragmentos.contarPorNo(nos, totalNos);
+
+        // Os nós que já têm mais fragmentos ficam com as cotas maiores, para mover o mínimo
+        List<Integer> ordem = IntStream.range(0, totalNos).boxed()
+                .sorted(Comparator.comparingInt((Integer no) -> porNo[no]).reversed().thenComparing(no -> no))
+                .toList();
+        int[] cota = new int[totalNos];
+        for (int i = 0; i < totalNos; i++) {
+            cota[ordem.get(i)] = Fragmentacao.TOTAL_FRAGMENTOS / totalNos
+                    + (i < Fragmentacao.TOTAL_FRAGMENTOS % totalNos ? 1 : 0);
+        }
+
+        // Excedentes: os fragmentos de maior número de cada nó acima da cota
+        List<int[]> excedentes = new ArrayList<>();
+        int[] restantes = porNo.clone();
+        for (int fragmento = Fragmentacao.TOTAL_FRAGMENTOS - 1; fragmento >= 0; fragmento--) {
+            int no = nos[fragmento];
+            if (restantes[no] > cota[no]) {
+                restantes[no]--;
+                excedentes.add(new int[] {fragmento, no});
+            }
+        }
+
+        List<Movimento> movimentos = new ArrayList<>();
+        int destino = 0;
+        for (int[] excedente : excedentes) {
+            while (restantes[destino] >= cota[destino]) {
+                destino++;
+            }
+            restantes[destino]++;
+            Movimento ultimo = movimentos.isEmpty() ? null : movimentos.get(movimentos.size() - 1);
+            if (ultimo == null || ultimo.origem() != excedente[1] || ultimo.destino() != destino) {
+                ultimo = new Movimento(excedente[1], destino, new ArrayList<>());
+                movimentos.add(ultimo);
+            }
+            ultimo.fragmentos().add(excedente[0]);
+        }
+        return movimentos;
+    }
+
+    public void executar(List<Movimento> movimentos) {
+        liberarBloqueados();
+        removerOrfas();
+        for (Movimento movimento : movimentos) {
+            long inicio = System.nanoTime();
+            log.info("Movendo {} fragmentos do nó {} para o nó {}",
+                    movimento.fragmentos().size(), movimento.origem(), movimento.destino());
+            Integer[] fragmentos = movimento.fragmentos().toArray(Integer[]::new);
+            JdbcTemplate origem = new JdbcTemplate(dataSource.getNo(movimento.origem()));
+            JdbcTemplate destino = new JdbcTemplate(dataSource.getNo(movimento.destino()));
+
+            mapa.bloquear(movimento.fragmentos(), true);
+            aguardarInstancias();
+            long copiadas = copiar(origem, destino, fragmentos);
+
+            mapa.mover(movimento.fragmentos(), movimento.destino());
+            aguardarInstancias();
+            long atualizadas = copiar(origem, destino, fragmentos);
+            long removidas = remover(origem, fragmentos);
+
+            log.info("Fragmentos movidos do nó {} para o nó {}: {} linhas copiadas, {} atualizadas na "
+                            + "segunda cópia, {} removidas da origem, em {} s",
+                    movimento.origem(), movimento.destino(), copiadas, atualizadas, removidas,
+                    (System.nanoTime() - inicio) / 1_000_000_000);
+        }
+    }
+
+    /**
+     * Fragmentos bloqueados por uma execução interrompida antes da troca de nó voltam a aceitar
+     * escritas no nó de origem; a cópia parcial no destino é sobrescrita no próximo movimento
+     */
+    private void liberarBloqueados() {
+        List<Integer> bloqueados = IntStream.range(0, Fragmentacao.TOTAL_FRAGMENTOS)
+                .filter(mapa::bloqueado)
+                .boxed()
+                .toList();
+        if (!bloqueados.isEmpty()) {
+            log.warn("Liberando {} fragmentos bloqueados por execução anterior interrompida", bloqueados.size());
+            mapa.bloquear(bloqueados, false);
+        }
+    }
+
+    private void removerOrfas() {
+        int[] nos = mapa.nos();
+        for (int no = 0; no < mapa.getTotalNos(); no++) {
+            int atual = no;
+            Integer[] deOutrosNos = IntStream.range(0, Fragmentacao.TOTAL_FRAGMENTOS)
+                    .filter(fragmento -> nos[fragmento] != atual)
+                    .boxed()
+                    .toArray(Integer[]::new);
+            long removidas = remover(new JdbcTemplate(dataSource.getNo(no)), deOutrosNos);
+            if (removidas > 0) {
+                log.warn("Removidas do nó {} {} linhas de fragmentos de outros nós", no, removidas);
+            }
+        }
+    }
+
+    private void aguardarInstancias() {
+        try {
+            Thread.sleep(espera.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rebalanceamento interrompido", e);
+        }
+    }
+
+    /**
+     * Copia as linhas dos fragmentos em lotes; retorna quantas foram inseridas ou atualizadas
+     */
+    private static long copiar(JdbcTemplate origem, JdbcTemplate destino, Integer[] fragmentos) {
+        return destino.execute((ConnectionCallback<Long>) gravacao -> semNotificacoes(gravacao, () -> {
+            long gravadas = 0;
+            long ultimoId = 0;
+            while (true) {
+                List<Object[]> lote = origem.query(LER_LOTE, (rs, rowNum) -> linha(rs), fragmentos, ultimoId);
+                if (lote.isEmpty()) {
+                    return gravadas;
+                }
+                try (PreparedStatement insert = gravacao.prepareStatement(GRAVAR)) {
+                    for (Object[] linha : lote) {
+                        for (int i = 0; i < linha.length; i++) {
+                            insert.setObject(i + 1, linha[i]);
+                        }
+                        insert.addBatch();
+                    }
+                    for (int gravada : insert.executeBatch()) {
+                        gravadas += Math.max(gravada, 0);
+                    }
+                }
+                ultimoId = (Long) lote.get(lote.size() - 1)[0];
+            }
+        }));
+    }
+
+    private static long remover(JdbcTemplate origem, Integer[] fragmentos) {
+        return origem.execute((ConnectionCallback<Long>) conexao -> semNotificacoes(conexao, () -> {
+            long removidas = 0;
+            try (PreparedStatement delete = conexao.prepareStatement(REMOVER_LOTE)) {
+                delete.setObject(1, fragmentos);
+                int lote;
+                do {
+                    lote = delete.executeUpdate();
+                    removidas += lote;
+                } while (lote > 0);
+            }
+            return removidas;
+        }));
+    }
+
+    private static Object[] linha(ResultSet rs) throws SQLException {
+        Object[] linha = new Object[rs.getMetaData().getColumnCount()];
+        for (int i = 0; i < linha.length; i++) {
+            linha[i] = rs.getObject(i + 1);
+        }
+        return linha;
+    }
+
+    /**
+     * Executa com as notificações de alteração desligadas na conexão (autocommit: cada lote é
+     * gravado ao ser enviado)
+     */
+    private static long semNotificacoes(Connection conexao, OperacaoJdbc operacao) throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("SET cooperados.suprimir_notificacoes = 'on'");
+        }
+        try {
+            return operacao.executar();
+        } finally {
+            try (Statement statement = conexao.createStatement()) {
+                statement.execute("RESET cooperados.suprimir_notificacoes");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface OperacaoJdbc {
+
+        long executar() throws SQLException;
+    }
+}
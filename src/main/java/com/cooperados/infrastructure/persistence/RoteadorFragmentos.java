@@ -0,0 +1,173 @@
+package com.cooperados.infrastructure.persistence;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Executa acessos a cooperados no nó certo (app.fragmentacao.enabled=true).
+ *
+ * Um acesso a um só nó roda na thread e na transação de quem chamou, desde que a transação
+ * ainda não tenha usado outro nó. Caso contrário, e nas consultas a vários nós (que rodam em
+ * paralelo), cada nó é acessado em uma thread virtual com transação própria somente leitura.
+ * Escritas nunca mudam de transação: escrever em um nó diferente do já usado pela transação é
+ * erro de programação, pois não haveria atomicidade entre os dois nós.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+public class RoteadorFragmentos implements DisposableBean {
+
+    private final MapaFragmentos mapa;
+    private final DataSourceFragmentado dataSource;
+    private final TransactionTemplate leitura;
+    private final TransactionTemplate escrita;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RoteadorFragmentos(MapaFragmentos mapa, DataSourceFragmentado dataSource,
+                              PlatformTransactionManager transactionManager) {
+        this.mapa = mapa;
+        this.dataSource = dataSource;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leitura.setReadOnly(true);
+        this.escrita = new TransactionTemplate(transactionManager);
+        this.escrita.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public int getTotalNos() {
+        return mapa.getTotalNos();
+    }
+
+    public int noDoFragmento(int fragmento) {
+        return mapa.noDoFragmento(fragmento);
+    }
+
+    public int noDoDocumento(String documento) {
+        return mapa.noDoFragmento(Fragmentacao.fragmentoDoDocumento(documento));
+    }
+
+    /**
+     * Executa o acesso ao fragmento no nó dele; escritas em fragmento bloqueado (sendo movido
+     * de nó) são rejeitadas como indisponibilidade temporária
+     */
+    public <T> T executarFragmento(int fragmento, boolean escrever, Supplier<T> acao) {
+        if (escrever) {
+            verificarEscrita(fragmento);
+        }
+        return executarNo(mapa.noDoFragmento(fragmento), escrever, acao);
+    }
+
+    public void verificarEscrita(int fragmento) {
+        if (mapa.bloqueado(fragmento)) {
+            throw new TransientDataAccessResourceException(
+                    "Fragmento " + fragmento + " em rebalanceamento; escrita temporariamente indisponível");
+        }
+    }
+
+    /**
+     * Executa o acesso no nó, na transação atual quando possível
+     */
+    public <T> T executarNo(int no, boolean escrever, Supplier<T> acao) {
+        Integer noDaTransacao = dataSource.noDaTransacaoAtual();
+        if (noDaTransacao == null || noDaTransacao == no) {
+            return DataSourceFragmentado.executarNo(no, acao);
+        }
+        if (escrever) {
+            throw new IllegalStateException("Escrita no nó " + no
+                    + " dentro de uma transação que já usou o nó " + noDaTransacao);
+        }
+        return aguardar(iniciar(no, false, acao));
+    }
+
+    /**
+     * Executa o acesso no nó em transação própria, em outra thread
+     */
+    public <T> T executarIsolado(int no, boolean escrever, Supplier<T> acao) {
+        return aguardar(iniciar(no, escrever, acao));
+    }
+
+    /**
+     * Executa a consulta em todos os nós, em paralelo; resultados na ordem dos nós
+     */
+    public <T> List<T> executarEmTodos(IntFunction<T> consulta) {
+        List<Integer> nos = new ArrayList<>();
+        for (int no = 0; no < getTotalNos(); no++) {
+            nos.add(no);
+        }
+        return new ArrayList<>(executarEmNos(nos, false, consulta).values());
+    }
+
+    /**
+     * Executa a consulta nos nós informados; com mais de um, em paralelo e em transações próprias
+     */
+    public <T> Map<Integer, T> executarEmNos(Iterable<Integer> nos, boolean escrever, IntFunction<T> consulta) {
+        Map<Integer, T> resultados = new LinkedHashMap<>();
+        List<Integer> lista = new ArrayList<>();
+        nos.forEach(lista::add);
+        if (lista.size() == 1 && !escrever) {
+            int no = lista.get(0);
+            resultados.put(no, executarNo(no, false, () -> consulta.apply(no)));
+            return resultados;
+        }
+        Map<Integer, CompletableFuture<T>> futuros = new LinkedHashMap<>();
+        for (int no : lista) {
+            futuros.put(no, iniciar(no, escrever, () -> consulta.apply(no)));
+        }
+        futuros.forEach((no, futuro) -> resultados.put(no, aguardar(futuro)));
+        return resultados;
+    }
+
+    /**
+     * Documento do cooperado com ID anterior à fragmentação (sem fragmento no ID), procurado em
+     * todos os nós; o fragmento do documento indica o nó em que ele está
+     */
+    public Optional<String> documentoDoId(long id) {
+        return executarEmTodos(no -> new JdbcTemplate(dataSource.getNo(no))
+                .queryForList("SELECT documento_numero FROM cooperados WHERE id = ?", String.class, id))
+                .stream()
+                .flatMap(List::stream)
+                .findFirst();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> iniciar(int no, boolean escrever, Supplier<T> acao) {
+        TransactionTemplate transacao = escrever ? escrita : leitura;
+        return CompletableFuture.supplyAsync(
+                () -> DataSourceFragmentado.executarNo(no, () -> transacao.execute(status -> acao.get())),
+                executor);
+    }
+
+    private static <T> T aguardar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+}
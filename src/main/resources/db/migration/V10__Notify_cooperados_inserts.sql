@@ -0,0 +1,31 @@
+-- Migration: V10__Notify_cooperados_inserts.sql
+-- Description: Notifica também os cooperados inseridos, para o filtro de documentos das demais instâncias
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- Cada instância mantém um filtro de Bloom com os documentos cadastrados para responder
+-- "não existe" sem consultar o banco; ele precisa saber dos documentos criados pelas outras.
+--
+-- Trigger por instrução com tabela de transição: INSERTs pequenos (cadastro individual ou
+-- batch de JDBC) notificam '<id>,<documento_numero>' por linha; cargas maiores (importação em
+-- massa) enviam uma única notificação '*', que faz as instâncias reconstruírem o filtro.
+CREATE OR REPLACE FUNCTION notificar_insercao_cooperados() RETURNS trigger AS $$
+DECLARE
+    novo RECORD;
+BEGIN
+    IF (SELECT count(*) FROM novos) > 100 THEN
+        PERFORM pg_notify('cooperados_changed', '*');
+    ELSE
+        FOR novo IN SELECT id, documento_numero FROM novos LOOP
+            PERFORM pg_notify('cooperados_changed', novo.id || ',' || novo.documento_numero);
+        END LOOP;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_cooperados_inserted
+    AFTER INSERT ON cooperados
+    REFERENCING NEW TABLE AS novos
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_insercao_cooperados();
@@ -0,0 +1,58 @@
+-- Migration: V11__Create_fragmentacao_catalog.sql
+-- Description: Função de fragmento por documento e catálogo fragmento -> nó para a fragmentação
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- Com app.fragmentacao.enabled=true os cooperados ficam distribuídos em vários nós PostgreSQL.
+-- Cada documento pertence a um de 1024 fragmentos lógicos, e o catálogo (no nó 0) diz em que
+-- nó está cada fragmento. Esta migração roda em todos os nós; só o catálogo do nó 0 é usado.
+
+-- Hash multiplicativo de Knuth sobre o número do documento: os 10 bits mais altos de
+-- (numero * 2654435761) mod 2^32. Deve produzir o mesmo valor que Fragmentacao.fragmentoDoDocumento.
+CREATE OR REPLACE FUNCTION cooperados_fragmento_documento(documento_numero VARCHAR)
+RETURNS INTEGER AS $$
+    SELECT (((documento_numero::NUMERIC * 2654435761) % 4294967296)::BIGINT >> 22)::INTEGER;
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;
+
+-- O índice por essa função, usado só pelo rebalanceamento, é criado em cada nó pela aplicação
+-- ao iniciar com a fragmentação (FragmentacaoConfig), e não em toda instalação
+
+CREATE TABLE cooperados_fragmentos (
+    fragmento SMALLINT PRIMARY KEY CHECK (fragmento BETWEEN 0 AND 1023),
+    no SMALLINT NOT NULL CHECK (no >= 0),
+    -- Escritas rejeitadas (503) enquanto o fragmento é copiado para outro nó
+    bloqueado BOOLEAN NOT NULL DEFAULT false
+);
+
+COMMENT ON TABLE cooperados_fragmentos IS 'Nó de cada fragmento lógico de cooperados (catálogo lido do nó 0)';
+
+-- O rebalanceamento move linhas sem alterá-las: a sessão que copia e remove desliga as
+-- notificações com SET cooperados.suprimir_notificacoes = 'on', evitando invalidar caches e
+-- reconstruir o filtro de documentos a cada lote
+CREATE OR REPLACE FUNCTION notificar_alteracao_cooperado() RETURNS trigger AS $$
+BEGIN
+    IF current_setting('cooperados.suprimir_notificacoes', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    PERFORM pg_notify('cooperados_changed', OLD.id || ',' || OLD.documento_numero);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION notificar_insercao_cooperados() RETURNS trigger AS $$
+DECLARE
+    novo RECORD;
+BEGIN
+    IF current_setting('cooperados.suprimir_notificacoes', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    IF (SELECT count(*) FROM novos) > 100 THEN
+        PERFORM pg_notify('cooperados_changed', '*');
+    ELSE
+        FOR novo IN SELECT id, documento_numero FROM novos LOOP
+            PERFORM pg_notify('cooperados_changed', novo.id || ',' || novo.documento_numero);
+        END LOOP;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,106 @@
+-- Migration: V12__Partition_cooperados_by_tipo_documento.sql
+-- Description: Particiona cooperados por tipo de documento (LIST): pessoa física e pessoa jurídica
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- Cada partição tem heap e índices próprios: VACUUM, ANALYZE e REINDEX trabalham sobre metade
+-- (ou menos) da tabela, e as consultas filtradas por tipo_documento leem só uma partição.
+--
+-- O PostgreSQL não converte uma tabela comum em particionada: a tabela é recriada e as linhas
+-- copiadas em uma única transação, que bloqueia cooperados durante a cópia. Em bases grandes
+-- a migração deve ser aplicada em janela de manutenção.
+--
+-- Chaves únicas de tabela particionada precisam conter a coluna de partição. As garantias se
+-- mantêm porque cada número de documento pertence a um só tipo (chk_cooperados_documento_tipo):
+--   - uk_cooperados_cpf/uk_cooperados_cnpj passam a (documento, tipo_documento);
+--   - a chave primária passa a (id, tipo_documento); o ID continua único por vir da sequência.
+
+-- A sequência pertence à coluna id da tabela antiga e seria removida junto com ela
+ALTER SEQUENCE cooperados_id_seq OWNED BY NONE;
+
+ALTER TABLE cooperados RENAME TO cooperados_sem_particao;
+
+-- Colunas, DEFAULTs, colunas geradas e CHECKs iguais aos da tabela antiga
+CREATE TABLE cooperados (
+    LIKE cooperados_sem_particao INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS INCLUDING COMMENTS
+) PARTITION BY LIST (tipo_documento);
+
+CREATE TABLE cooperados_pessoa_fisica PARTITION OF cooperados FOR VALUES IN ('CPF');
+CREATE TABLE cooperados_pessoa_juridica PARTITION OF cooperados FOR VALUES IN ('CNPJ');
+
+-- Cópia antes dos índices e dos triggers: mais rápida e sem notificações de alteração
+INSERT INTO cooperados (id, nome, documento_cpf, documento_cnpj, tipo_documento,
+    data_nascimento_constituicao, renda_faturamento, telefone, email,
+    ativo, data_criacao, data_atualizacao, versao)
+SELECT id, nome, documento_cpf, documento_cnpj, tipo_documento,
+    data_nascimento_constituicao, renda_faturamento, telefone, email,
+    ativo, data_criacao, data_atualizacao, versao
+FROM cooperados_sem_particao;
+
+DROP TABLE cooperados_sem_particao;
+
+ALTER SEQUENCE cooperados_id_seq OWNED BY cooperados.id;
+
+-- Chaves (V1, V5)
+ALTER TABLE cooperados ADD CONSTRAINT cooperados_pkey PRIMARY KEY (id, tipo_documento);
+ALTER TABLE cooperados ADD CONSTRAINT uk_cooperados_cpf UNIQUE (documento_cpf, tipo_documento) INCLUDE (ativo);
+ALTER TABLE cooperados ADD CONSTRAINT uk_cooperados_cnpj UNIQUE (documento_cnpj, tipo_documento) INCLUDE (ativo);
+CREATE UNIQUE INDEX uk_cooperados_documento_numero_ativo
+    ON cooperados(documento_numero, tipo_documento)
+    WHERE ativo = true;
+
+-- Índices (V1, V3, V4, V6, V7), criados em cada partição
+CREATE INDEX idx_cooperados_telefone ON cooperados(telefone);
+CREATE INDEX idx_cooperados_email ON cooperados(email) WHERE email IS NOT NULL;
+CREATE INDEX idx_cooperados_nome_id ON cooperados(nome, id);
+CREATE INDEX idx_cooperados_data_nascimento_id ON cooperados(data_nascimento_constituicao, id);
+CREATE INDEX idx_cooperados_renda_faturamento_id ON cooperados(renda_faturamento, id);
+CREATE INDEX idx_cooperados_nome_trgm
+    ON cooperados USING gin (cooperados_normalizar_nome(nome) gin_trgm_ops)
+    WHERE ativo = true;
+CREATE INDEX idx_cooperados_telefone_ddd_ativo ON cooperados(telefone_ddd, id) WHERE ativo = true;
+CREATE INDEX idx_cooperados_tipo_documento_ativo ON cooperados(tipo_documento) WHERE ativo = true;
+CREATE INDEX idx_cooperados_renda_faturamento_ativo ON cooperados(renda_faturamento, id) WHERE ativo = true;
+CREATE INDEX idx_cooperados_data_nascimento_ativo ON cooperados(data_nascimento_constituicao, id) WHERE ativo = true;
+CREATE INDEX idx_cooperados_nome_ativo ON cooperados(nome, id) WHERE ativo = true;
+
+-- Os índices das partições recebem nomes gerados pelo PostgreSQL; troca "cooperados" no nome
+-- do índice da tabela pelo nome da partição (ex.: idx_cooperados_pessoa_fisica_nome_ativo),
+-- para que apareçam de forma legível nos planos de execução
+DO $$
+DECLARE
+    indice RECORD;
+BEGIN
+    FOR indice IN
+        SELECT filho.relname AS nome, pai.relname AS nome_pai, particao.relname AS particao
+        FROM pg_inherits heranca
+        JOIN pg_class filho ON filho.oid = heranca.inhrelid
+        JOIN pg_class pai ON pai.oid = heranca.inhparent
+        JOIN pg_index definicao ON definicao.indexrelid = filho.oid
+        JOIN pg_class particao ON particao.oid = definicao.indrelid
+        JOIN pg_index definicao_pai ON definicao_pai.indexrelid = pai.oid
+        WHERE definicao_pai.indrelid = 'cooperados'::regclass
+          AND filho.relname <> replace(pai.relname, 'cooperados', particao.relname)
+    LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I',
+                       indice.nome, replace(indice.nome_pai, 'cooperados', indice.particao));
+    END LOOP;
+END $$;
+
+-- Notificações de alteração e de inserção (V9, V10, V11), disparadas pela tabela particionada
+CREATE TRIGGER trg_cooperados_changed
+    AFTER UPDATE OR DELETE ON cooperados
+    FOR EACH ROW
+    EXECUTE FUNCTION notificar_alteracao_cooperado();
+
+CREATE TRIGGER trg_cooperados_inserted
+    AFTER INSERT ON cooperados
+    REFERENCING NEW TABLE AS novos
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_insercao_cooperados();
+
+COMMENT ON TABLE cooperados IS 'Tabela principal para armazenar dados dos cooperados, particionada por tipo_documento';
+COMMENT ON TABLE cooperados_pessoa_fisica IS 'Partição de cooperados com CPF';
+COMMENT ON TABLE cooperados_pessoa_juridica IS 'Partição de cooperados com CNPJ';
+
+ANALYZE cooperados;
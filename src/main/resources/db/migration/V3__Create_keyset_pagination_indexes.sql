@@ -0,0 +1,16 @@
+-- Migration: V3__Create_keyset_pagination_indexes.sql
+-- Description: Índices compostos (campo, id) para paginação por cursor (keyset)
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- A paginação por cursor usa WHERE (campo, id) > (?, ?) ORDER BY campo, id LIMIT n.
+-- Índices compostos permitem que o PostgreSQL posicione diretamente na chave do cursor,
+-- sem OFFSET e sem ordenação em memória, independente da profundidade da página.
+CREATE INDEX idx_cooperados_nome_id ON cooperados(nome, id);
+CREATE INDEX idx_cooperados_data_nascimento_id ON cooperados(data_nascimento_constituicao, id);
+CREATE INDEX idx_cooperados_renda_faturamento_id ON cooperados(renda_faturamento, id);
+
+-- Os índices simples abaixo passam a ser prefixo dos compostos e seriam redundantes
+DROP INDEX IF EXISTS idx_cooperados_nome;
+DROP INDEX IF EXISTS idx_cooperados_data_nascimento;
+DROP INDEX IF EXISTS idx_cooperados_renda_faturamento;
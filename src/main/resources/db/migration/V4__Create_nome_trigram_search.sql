@@ -0,0 +1,27 @@
+-- Migration: V4__Create_nome_trigram_search.sql
+-- Description: Busca por nome sem acentuação e sem distinção de maiúsculas usando trigramas
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE e não pode ser usada diretamente em índice de expressão.
+-- A função abaixo fixa o dicionário e pode ser declarada IMMUTABLE com segurança.
+CREATE OR REPLACE FUNCTION cooperados_normalizar_nome(texto TEXT)
+    RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+    STRICT
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, texto))
+$$;
+
+-- Índice GIN de trigramas sobre o nome normalizado, restrito aos cooperados ativos.
+-- Atende tanto LIKE '%termo%' quanto o operador de similaridade (%).
+CREATE INDEX idx_cooperados_nome_trgm
+    ON cooperados USING gin (cooperados_normalizar_nome(nome) gin_trgm_ops)
+    WHERE ativo = true;
+
+COMMENT ON FUNCTION cooperados_normalizar_nome(TEXT) IS 'Normaliza nome para busca: minúsculas e sem acentos';
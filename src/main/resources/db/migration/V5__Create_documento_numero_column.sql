@@ -0,0 +1,20 @@
+-- Migration: V5__Create_documento_numero_column.sql
+-- Description: Coluna única normalizada com o número do documento (CPF ou CNPJ)
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- As buscas por documento filtravam por documento_cpf = ? OR documento_cnpj = ?, o que
+-- exige um BitmapOr entre dois índices. A coluna gerada concentra o número em um só campo
+-- e é preenchida automaticamente para os registros existentes ao ser criada.
+ALTER TABLE cooperados
+    ADD COLUMN documento_numero VARCHAR(14)
+    GENERATED ALWAYS AS (COALESCE(documento_cpf, documento_cnpj)) STORED;
+
+ALTER TABLE cooperados ALTER COLUMN documento_numero SET NOT NULL;
+
+-- Índice único parcial: as buscas por documento consideram apenas cooperados ativos
+CREATE UNIQUE INDEX uk_cooperados_documento_numero_ativo
+    ON cooperados(documento_numero)
+    WHERE ativo = true;
+
+COMMENT ON COLUMN cooperados.documento_numero IS 'Número do documento (CPF ou CNPJ) somente com dígitos, gerado a partir de documento_cpf/documento_cnpj';
@@ -0,0 +1,19 @@
+-- Migration: V6__Create_telefone_ddd_column.sql
+-- Description: Coluna gerada com o DDD do telefone para segmentação por região
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- O telefone é armazenado somente com dígitos (chk_cooperados_telefone), então os dois
+-- primeiros caracteres são sempre o DDD. A coluna é preenchida para os registros existentes.
+ALTER TABLE cooperados
+    ADD COLUMN telefone_ddd SMALLINT
+    GENERATED ALWAYS AS (CAST(SUBSTRING(telefone FROM 1 FOR 2) AS SMALLINT)) STORED;
+
+ALTER TABLE cooperados ALTER COLUMN telefone_ddd SET NOT NULL;
+
+-- Índice parcial (ddd, id): atende a busca paginada ordenada por ID e a contagem por DDD
+CREATE INDEX idx_cooperados_telefone_ddd_ativo
+    ON cooperados(telefone_ddd, id)
+    WHERE ativo = true;
+
+COMMENT ON COLUMN cooperados.telefone_ddd IS 'DDD do telefone, gerado a partir da coluna telefone';
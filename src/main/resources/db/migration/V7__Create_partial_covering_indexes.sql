@@ -0,0 +1,39 @@
+-- Migration: V7__Create_partial_covering_indexes.sql
+-- Description: Índices parciais (WHERE ativo) e de cobertura (INCLUDE) para as consultas de ativos
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- Todas as consultas do repositório filtram ativo = true. Um índice sobre a coluna booleana
+-- tem seletividade baixa e obriga o planner a combinar bitmaps e buscar as linhas no heap;
+-- índices parciais já contêm somente as linhas ativas e são menores.
+DROP INDEX IF EXISTS idx_cooperados_ativo;
+DROP INDEX IF EXISTS idx_cooperados_tipo_documento;
+
+-- countByTipoDocumento como index-only scan
+CREATE INDEX idx_cooperados_tipo_documento_ativo
+    ON cooperados(tipo_documento)
+    WHERE ativo = true;
+
+-- Buscas por faixa e listagens de ativos ordenadas; o ID desempata a ordenação.
+-- Os índices compostos de V3 continuam atendendo a paginação por cursor, que inclui inativos.
+CREATE INDEX idx_cooperados_renda_faturamento_ativo
+    ON cooperados(renda_faturamento, id)
+    WHERE ativo = true;
+
+CREATE INDEX idx_cooperados_data_nascimento_ativo
+    ON cooperados(data_nascimento_constituicao, id)
+    WHERE ativo = true;
+
+CREATE INDEX idx_cooperados_nome_ativo
+    ON cooperados(nome, id)
+    WHERE ativo = true;
+
+-- existsByCpf/existsByCnpj filtram por documento e ativo: com ativo no INCLUDE a verificação
+-- é resolvida somente pelo índice único, sem acesso ao heap
+ALTER TABLE cooperados
+    DROP CONSTRAINT uk_cooperados_cpf,
+    ADD CONSTRAINT uk_cooperados_cpf UNIQUE (documento_cpf) INCLUDE (ativo);
+
+ALTER TABLE cooperados
+    DROP CONSTRAINT uk_cooperados_cnpj,
+    ADD CONSTRAINT uk_cooperados_cnpj UNIQUE (documento_cnpj) INCLUDE (ativo);
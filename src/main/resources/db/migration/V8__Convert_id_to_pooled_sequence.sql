@@ -0,0 +1,15 @@
+-- Migration: V8__Convert_id_to_pooled_sequence.sql
+-- Description: Sequência de IDs com incremento 50 para o otimizador pooled-lo do Hibernate
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- Com IDENTITY o Hibernate precisa executar cada INSERT imediatamente para obter o ID, o que
+-- desativa o batch de JDBC. Com a sequência, cada nextval reserva um bloco de 50 IDs
+-- [valor, valor + 49] que a aplicação atribui em memória (otimizador pooled-lo).
+--
+-- O DEFAULT nextval('cooperados_id_seq') do BIGSERIAL é mantido: um INSERT direto no banco
+-- também consome um bloco inteiro, portanto nunca colide com IDs reservados pela aplicação.
+ALTER SEQUENCE cooperados_id_seq INCREMENT BY 50;
+
+-- O próximo nextval devolve um valor acima de todos os IDs existentes
+SELECT setval('cooperados_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM cooperados), false);
@@ -0,0 +1,20 @@
+-- Migration: V9__Create_cooperados_changed_notify_trigger.sql
+-- Description: Notifica alterações de cooperados no canal cooperados_changed para invalidar caches
+-- Author: Cooperados Team
+-- Version: 1.0.0
+
+-- Cada instância da API mantém caches locais por ID e por documento. O trigger publica
+-- '<id>,<documento_numero>' a cada UPDATE ou DELETE, inclusive os feitos fora da API.
+-- O NOTIFY é transacional: só é entregue após o commit e é descartado em caso de rollback.
+CREATE OR REPLACE FUNCTION notificar_alteracao_cooperado() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('cooperados_changed', OLD.id || ',' || OLD.documento_numero);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- INSERTs não notificam: um cooperado novo não torna nenhuma entrada em cache obsoleta
+CREATE TRIGGER trg_cooperados_changed
+    AFTER UPDATE OR DELETE ON cooperados
+    FOR EACH ROW
+    EXECUTE FUNCTION notificar_alteracao_cooperado();
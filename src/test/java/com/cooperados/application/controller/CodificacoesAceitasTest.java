@@ -0,0 +1,37 @@
+package com.cooperados.application.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a interpretação do Accept-Encoding
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Codificações aceitas")
+class CodificacoesAceitasTest {
+
+    @Test
+    @DisplayName("Deve aceitar gzip listado com peso positivo")
+    void deveAceitarGzipComPesoPositivo() {
+        assertTrue(CodificacoesAceitas.aceitaGzip("gzip, deflate, br"));
+        assertTrue(CodificacoesAceitas.aceitaGzip("br;q=1.0, gzip;q=0.5"));
+        assertTrue(CodificacoesAceitas.aceitaGzip("X-GZIP"));
+        assertTrue(CodificacoesAceitas.aceitaGzip("*;q=0.1"));
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar gzip com q=0, ausente ou excluído pelo curinga")
+    void naoDeveAceitarGzipRecusado() {
+        assertFalse(CodificacoesAceitas.aceitaGzip("gzip;q=0"));
+        assertFalse(CodificacoesAceitas.aceitaGzip("gzip; q=0.000, identity"));
+        assertFalse(CodificacoesAceitas.aceitaGzip("*;q=1, gzip;q=0"));
+        assertFalse(CodificacoesAceitas.aceitaGzip("br, *;q=0"));
+        assertFalse(CodificacoesAceitas.aceitaGzip("identity"));
+        assertFalse(CodificacoesAceitas.aceitaGzip("gzip;q=abc"));
+        assertFalse(CodificacoesAceitas.aceitaGzip(null));
+    }
+}
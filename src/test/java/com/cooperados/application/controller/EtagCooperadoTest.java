@@ -0,0 +1,58 @@
+package com.cooperados.application.controller;
+
+import com.cooperados.domain.repository.VersaoCooperado;
+import com.cooperados.infrastructure.exception.PrecondicaoFalhouException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para as ETags de cooperado
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("ETag de cooperado")
+class EtagCooperadoTest {
+
+    @Test
+    @DisplayName("Deve gerar ETag forte com ID e versão")
+    void deveGerarEtagForte() {
+        assertEquals("\"7-3\"", EtagCooperado.de(7L, 3L));
+    }
+
+    @Test
+    @DisplayName("Deve extrair a versão exigida do If-Match")
+    void deveExtrairVersaoDoIfMatch() {
+        assertEquals(3L, EtagCooperado.versaoExigida(7L, "\"7-3\""));
+        assertEquals(4L, EtagCooperado.versaoExigida(7L, "\"8-1\", \"7-4\""));
+        assertNull(EtagCooperado.versaoExigida(7L, "*"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETag própria para o corpo em gzip e aceitá-la no If-Match")
+    void deveGerarEtagDoCorpoGzip() {
+        assertEquals("\"7-3-gz\"", EtagCooperado.deGzip(7L, 3L));
+        assertEquals(3L, EtagCooperado.versaoExigida(7L, "\"7-3-gz\""));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar no If-None-Match a ETag da versão atual em qualquer codificação")
+    void deveEncontrarEtagCorrespondenteNoIfNoneMatch() {
+        VersaoCooperado versao = new VersaoCooperado(7L, 3L);
+
+        assertEquals("\"7-3\"", EtagCooperado.correspondente("\"7-2\", \"7-3\"", versao));
+        assertEquals("\"7-3-gz\"", EtagCooperado.correspondente("W/\"7-3-gz\"", versao));
+        assertEquals("\"7-3\"", EtagCooperado.correspondente("*", versao));
+        assertNull(EtagCooperado.correspondente("\"7-2-gz\", \"8-3\"", versao));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar If-Match fraco ou de outro cooperado")
+    void deveRejeitarIfMatchInvalido() {
+        assertThrows(PrecondicaoFalhouException.class, () -> EtagCooperado.versaoExigida(7L, "W/\"7-3\""));
+        assertThrows(PrecondicaoFalhouException.class, () -> EtagCooperado.versaoExigida(7L, "\"71-3\""));
+        assertThrows(PrecondicaoFalhouException.class, () -> EtagCooperado.versaoExigida(7L, "\"7-x\""));
+    }
+}
@@ -0,0 +1,40 @@
+package com.cooperados.application.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Testes unitários para o DTO ConsultaLoteRequest
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("DTO ConsultaLoteRequest")
+class ConsultaLoteRequestTest {
+
+    @Test
+    @DisplayName("Deve criar request com IDs e documentos")
+    void deveCriarRequestComIdsEDocumentos() {
+        ConsultaLoteRequest request = new ConsultaLoteRequest(
+            List.of(1L, 2L),
+            List.of("123.456.789-09", "11222333000181")
+        );
+
+        assertEquals(List.of(1L, 2L), request.getIds());
+        assertEquals(List.of("123.456.789-09", "11222333000181"), request.getDocumentos());
+    }
+
+    @Test
+    @DisplayName("Deve tratar listas ausentes como vazias")
+    void deveTratarListasAusentesComoVazias() {
+        ConsultaLoteRequest request = new ConsultaLoteRequest();
+        request.setIds(List.of(1L));
+
+        assertEquals(List.of(1L), request.getIds());
+        assertTrue(request.getDocumentos().isEmpty());
+        assertEquals("ConsultaLoteRequest{ids=1, documentos=0}", request.toString());
+    }
+}
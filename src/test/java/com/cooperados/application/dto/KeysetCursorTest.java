@@ -0,0 +1,65 @@
+package com.cooperados.application.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.data.domain.Sort;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cursor de paginação keyset
+ * 
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Cursor de paginação KeysetCursor")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar cursor preservando os valores")
+    void deveCodificarEDecodificarCursor() {
+        KeysetCursor cursor = new KeysetCursor("nome", Sort.Direction.ASC, 42L, "João | Silva");
+
+        KeysetCursor decodificado = KeysetCursor.decodificar(cursor.codificar());
+
+        assertEquals(cursor, decodificado);
+        assertEquals("nome", decodificado.getCampo());
+        assertEquals(Sort.Direction.ASC, decodificado.getDirecao());
+        assertEquals(42L, decodificado.getId());
+        assertEquals("João | Silva", decodificado.getValor());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar cursor por ID sem valor de ordenação")
+    void deveAceitarCursorPorIdSemValor() {
+        KeysetCursor cursor = new KeysetCursor("id", Sort.Direction.DESC, 10L, null);
+
+        KeysetCursor decodificado = KeysetCursor.decodificar(cursor.codificar());
+
+        assertEquals(10L, decodificado.getId());
+        assertNull(decodificado.getValor());
+    }
+
+    @Test
+    @DisplayName("Deve gerar token URL-safe")
+    void deveGerarTokenUrlSafe() {
+        String token = new KeysetCursor("rendaFaturamento", Sort.Direction.ASC, 7L, "3500.00").codificar();
+
+        assertTrue(token.matches("^[A-Za-z0-9_-]+$"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar campo de ordenação não indexado")
+    void deveRejeitarCampoNaoIndexado() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new KeysetCursor("email", Sort.Direction.ASC, 1L, "a@b.com"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token inválido")
+    void deveRejeitarTokenInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decodificar("não-é-base64!"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decodificar("YWJj"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decodificar(""));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decodificar(null));
+    }
+}
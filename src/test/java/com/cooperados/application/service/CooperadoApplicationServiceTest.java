@@ -0,0 +1,141 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.CooperadoMapperImpl;
+import com.cooperados.application.dto.CooperadoResponse;
+import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.repository.CooperadoRepository;
+import com.cooperados.domain.service.CooperadoDomainService;
+import com.cooperados.domain.valueobject.Documento;
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.cooperados.infrastructure.cache.FiltroDocumentos;
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.cooperados.infrastructure.persistence.CarregadorCooperados;
+import com.cooperados.infrastructure.persistence.DataSourceRoteado;
+import com.cooperados.infrastructure.persistence.GeradorIdCooperado;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a leitura das próprias escritas nas buscas com cache
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Serviço de aplicação de cooperados")
+class CooperadoApplicationServiceTest {
+
+    private static final String DOCUMENTO = "52998224725";
+
+    private final CooperadoRepository repository = mock(CooperadoRepository.class);
+    private CacheComGeracoes.Gerenciador cacheManager;
+    private CooperadoApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        // O primário já tem a versão 2; a réplica atrasada ainda devolve a 1
+        when(repository.buscarPorIds(any())).thenAnswer(invocacao -> List.of(lido()));
+        when(repository.findByDocumento(DOCUMENTO)).thenAnswer(invocacao -> Optional.of(lido()));
+
+        cacheManager = new CacheComGeracoes.Gerenciador();
+        cacheManager.setCacheNames(List.of(CacheConfig.COOPERADOS_POR_ID, CacheConfig.COOPERADOS_POR_DOCUMENTO,
+                CacheConfig.RESPOSTAS_POR_ID, CacheConfig.IDS_INEXISTENTES, CacheConfig.DOCUMENTOS_INEXISTENTES));
+        FiltroDocumentos filtroDocumentos =
+                new FiltroDocumentos(new JdbcTemplate(), null, false, Runnable::run, Optional.empty());
+        CarregadorCooperados carregador = new CarregadorCooperados(
+                repository, new SimpleMeterRegistry(), true, Duration.ofMillis(2), 100);
+        service = new CooperadoApplicationService(repository, mock(CooperadoDomainService.class),
+                new CooperadoMapperImpl(), mock(GeradorIdCooperado.class), carregador, filtroDocumentos,
+                cacheManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve ler a própria escrita mesmo com a versão anterior no cache, lida da réplica")
+    void deveLerPropriaEscritaComCacheDesatualizado() {
+        // Depois da remoção feita pela escrita, outro cliente repõe no cache a versão da réplica
+        assertEquals(1L, service.buscarPorId(1L).getVersao());
+        assertEquals(1L, service.buscarPorDocumento(DOCUMENTO).getVersao());
+
+        requisicaoDeQuemEscreveu();
+
+        assertEquals(2L, service.buscarPorId(1L).getVersao());
+        assertEquals(2L, service.buscarPorDocumento(DOCUMENTO).getVersao());
+        assertEquals(1L, cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID)
+                .get(1L, CooperadoResponse.class).getVersao());
+    }
+
+    @Test
+    @DisplayName("Deve ler a própria escrita sem aguardar a consulta em andamento de outro cliente")
+    void deveLerPropriaEscritaSemAguardarConsultaEmAndamento() throws Exception {
+        CountDownLatch consultaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarConsulta = new CountDownLatch(1);
+        when(repository.buscarPorIds(any())).thenAnswer(invocacao -> {
+            if (!DataSourceRoteado.escritaRecente()) {
+                consultaIniciada.countDown();
+                liberarConsulta.await(5, TimeUnit.SECONDS);
+            }
+            return List.of(lido());
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<CooperadoResponse> outroCliente = executor.submit(() -> service.buscarPorId(1L));
+            assertTrue(consultaIniciada.await(5, TimeUnit.SECONDS));
+
+            requisicaoDeQuemEscreveu();
+            assertEquals(2L, service.buscarPorId(1L).getVersao());
+
+            liberarConsulta.countDown();
+            assertEquals(1L, outroCliente.get(5, TimeUnit.SECONDS).getVersao());
+        } finally {
+            liberarConsulta.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void requisicaoDeQuemEscreveu() {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest();
+        requisicao.setCookies(new Cookie(DataSourceRoteado.COOKIE_ESCRITA, "1"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(requisicao));
+    }
+
+    /**
+     * Cooperado como o roteamento o leria na thread atual: do primário logo após a própria
+     * escrita, senão da réplica atrasada
+     */
+    private static Cooperado lido() {
+        Cooperado cooperado = new Cooperado("Cooperado 1", new Documento(DOCUMENTO),
+                LocalDate.of(1990, 1, 1), BigDecimal.TEN, null, null);
+        ReflectionTestUtils.setField(cooperado, "id", 1L);
+        ReflectionTestUtils.setField(cooperado, "versao", DataSourceRoteado.escritaRecente() ? 2L : 1L);
+        return cooperado;
+    }
+}
@@ -0,0 +1,111 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.ImportacaoResponse;
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.cooperados.infrastructure.cache.FiltroDocumentos;
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a validação das linhas da importação em massa
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Importação em massa de cooperados")
+class CooperadoImportServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ByteArrayOutputStream copiado = new ByteArrayOutputStream();
+    private CooperadoImportService importService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        CopyIn copia = mock(CopyIn.class);
+        when(copia.isActive()).thenReturn(true);
+        doAnswer(invocacao -> {
+            copiado.write((byte[]) invocacao.getArgument(0), invocacao.getArgument(1), invocacao.getArgument(2));
+            return null;
+        }).when(copia).writeToCopy(any(byte[].class), anyInt(), anyInt());
+
+        CopyManager copyManager = mock(CopyManager.class);
+        when(copyManager.copyIn(anyString())).thenReturn(copia);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        Connection conexao = mock(Connection.class);
+        when(conexao.unwrap(PGConnection.class)).thenReturn(pgConnection);
+
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocacao ->
+                ((ConnectionCallback<?>) invocacao.getArgument(0)).doInConnection(conexao));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of());
+
+        CacheComGeracoes.Gerenciador cacheManager = new CacheComGeracoes.Gerenciador();
+        cacheManager.setCacheNames(List.of(CacheConfig.IDS_INEXISTENTES, CacheConfig.DOCUMENTOS_INEXISTENTES));
+
+        importService = new CooperadoImportService(jdbcTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper().findAndRegisterModules(),
+                mock(FiltroDocumentos.class), cacheManager);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linha com data de nascimento anterior a 150 anos")
+    void deveRejeitarDataMuitoAntiga() {
+        String csv = """
+                nome,documento,dataNascimentoConstituicao,rendaFaturamento,telefone
+                João Silva,12345678909,1990-05-15,5000.00,11987654321
+                Maria Antiga,98765432100,%s,3000.00,11987654322
+                """.formatted(LocalDate.now().minusYears(151));
+
+        ImportacaoResponse resposta = importar(CooperadoImportService.FormatoImportacao.CSV, csv);
+
+        assertEquals(2, resposta.getTotalLinhas());
+        assertEquals(1, resposta.getImportados());
+        assertEquals(1, resposta.getErros().size());
+        assertEquals(3, resposta.getErros().get(0).getLinha());
+        assertEquals(List.of("Data de nascimento/constituição muito antiga"),
+                resposta.getErros().get(0).getMensagens());
+        assertFalse(copiado.toString(StandardCharsets.UTF_8).contains("Maria Antiga"));
+    }
+
+    @Test
+    @DisplayName("Deve validar o tamanho do nome sem os espaços das extremidades")
+    void deveValidarTamanhoDoNomeSemEspacos() {
+        // No NDJSON o nome chega sem trim e "  J  " passa pelo @Size do DTO
+        String ndjson = """
+                {"nome":"  J  ","documento":"12345678909","dataNascimentoConstituicao":"1990-05-15",\
+                "rendaFaturamento":5000.00,"telefone":"11987654321"}
+                """;
+
+        ImportacaoResponse resposta = importar(CooperadoImportService.FormatoImportacao.NDJSON, ndjson);
+
+        assertEquals(0, resposta.getImportados());
+        assertEquals(List.of("Nome deve ter pelo menos 2 caracteres"),
+                resposta.getErros().get(0).getMensagens());
+    }
+
+    private ImportacaoResponse importar(CooperadoImportService.FormatoImportacao formato, String conteudo) {
+        return importService.importar(formato, new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.CooperadoMapperImpl;
+import com.cooperados.application.dto.CooperadoResponse;
+import com.cooperados.domain.repository.CooperadoDetalhe;
+import com.cooperados.domain.valueobject.Documento;
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.cooperados.infrastructure.cache.FiltroDocumentos;
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.cooperados.infrastructure.exception.CooperadoNaoEncontradoException;
+import com.cooperados.infrastructure.persistence.CooperadoReativoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o serviço de leitura da API reativa
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Serviço reativo de cooperados")
+class CooperadoReativoServiceTest {
+
+    private CooperadoReativoRepository repository;
+    private CacheComGeracoes.Gerenciador cacheManager;
+    private CooperadoReativoService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CooperadoReativoRepository.class);
+        cacheManager = new CacheComGeracoes.Gerenciador();
+        cacheManager.setCacheNames(List.of(CacheConfig.COOPERADOS_POR_ID, CacheConfig.COOPERADOS_POR_DOCUMENTO,
+                CacheConfig.IDS_INEXISTENTES, CacheConfig.DOCUMENTOS_INEXISTENTES));
+        service = new CooperadoReativoService(repository, new CooperadoMapperImpl(),
+                new FiltroDocumentos(new JdbcTemplate(), null, false, Runnable::run, Optional.empty()), cacheManager);
+    }
+
+    @Test
+    @DisplayName("Deve converter a projeção no formato da API e guardar no cache por ID")
+    void deveBuscarPorIdEGuardarNoCache() {
+        when(repository.buscarPorId(1L)).thenReturn(Mono.just(detalhe()));
+
+        CooperadoResponse resposta = service.buscarPorId(1L).block();
+        CooperadoResponse emCache = service.buscarPorId(1L).block();
+
+        assertEquals("529.982.247-25", resposta.getDocumentoFormatado());
+        assertEquals("(11) 98765-4321", resposta.getTelefoneFormatado());
+        assertEquals("CPF", resposta.getTipoDocumento());
+        assertSame(resposta, emCache);
+        verify(repository, times(1)).buscarPorId(1L);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o ID inexistente e não consultar o banco de novo")
+    void deveRegistrarIdInexistente() {
+        when(repository.buscarPorId(99L)).thenReturn(Mono.empty());
+
+        assertThrows(CooperadoNaoEncontradoException.class, () -> service.buscarPorId(99L).block());
+        assertThrows(CooperadoNaoEncontradoException.class, () -> service.buscarPorId(99L).block());
+
+        verify(repository, times(1)).buscarPorId(99L);
+        assertNotNull(cacheManager.getCache(CacheConfig.IDS_INEXISTENTES).get(99L));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar no cache o resultado de consulta iniciada antes de uma alteração")
+    void naoDeveGuardarResultadoDeConsultaAnteriorAAlteracao() {
+        // A alteração é confirmada e remove o cooperado do cache enquanto a consulta está em andamento
+        when(repository.buscarPorId(1L)).thenReturn(Mono.defer(() -> {
+            cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID).evict(1L);
+            return Mono.just(detalhe());
+        }));
+
+        assertNotNull(service.buscarPorId(1L).block());
+        assertNull(cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID).get(1L));
+    }
+
+    private static CooperadoDetalhe detalhe() {
+        return new CooperadoDetalhe(1L, "João Silva", Documento.TipoDocumento.CPF, "52998224725",
+                LocalDate.of(1990, 1, 1), BigDecimal.TEN, "11987654321", null, true,
+                LocalDateTime.of(2024, 1, 1, 10, 0), null, 1L);
+    }
+}
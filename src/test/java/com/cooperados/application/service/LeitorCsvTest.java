@@ -0,0 +1,56 @@
+package com.cooperados.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o leitor de CSV da importação em massa
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Leitor de CSV da importação")
+class LeitorCsvTest {
+
+    @Test
+    @DisplayName("Deve ler registros simples separados por vírgula")
+    void deveLerRegistrosSimples() throws IOException {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("nome,documento\nJoão,12345678909\n"));
+
+        assertEquals(List.of("nome", "documento"), leitor.proximoRegistro());
+        assertEquals(List.of("João", "12345678909"), leitor.proximoRegistro());
+        assertNull(leitor.proximoRegistro());
+    }
+
+    @Test
+    @DisplayName("Deve ler campos entre aspas com vírgulas, aspas duplicadas e quebras de linha")
+    void deveLerCamposEntreAspas() throws IOException {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("\"Silva, João\",\"diz \"\"oi\"\"\",\"a\nb\"\r\nx,y"));
+
+        assertEquals(List.of("Silva, João", "diz \"oi\"", "a\nb"), leitor.proximoRegistro());
+        assertEquals(List.of("x", "y"), leitor.proximoRegistro());
+        assertNull(leitor.proximoRegistro());
+    }
+
+    @Test
+    @DisplayName("Deve preservar campos vazios")
+    void devePreservarCamposVazios() throws IOException {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("a,,c,\n"));
+
+        assertEquals(List.of("a", "", "c", ""), leitor.proximoRegistro());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar campo entre aspas não finalizado")
+    void deveRejeitarAspasNaoFinalizadas() {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("\"aberto,sem fim\n"));
+
+        assertThrows(IllegalArgumentException.class, leitor::proximoRegistro);
+    }
+}
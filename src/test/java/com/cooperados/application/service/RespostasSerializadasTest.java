@@ -0,0 +1,101 @@
+package com.cooperados.application.service;
+
+import com.cooperados.application.dto.CooperadoResponse;
+import com.cooperados.infrastructure.cache.CacheComGeracoes;
+import com.cooperados.infrastructure.config.CacheConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cache de respostas serializadas
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Respostas serializadas")
+class RespostasSerializadasTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CacheComGeracoes.Gerenciador cacheManager = new CacheComGeracoes.Gerenciador();
+
+    @Test
+    @DisplayName("Deve reaproveitar a serialização enquanto a versão não mudar")
+    void deveReaproveitarSerializacaoDaMesmaVersao() {
+        RespostasSerializadas respostas = novasRespostas(1024);
+
+        emCachePorId(cooperado("João Silva", 1L));
+        RespostasSerializadas.Resposta primeira = respostas.obter(cooperado("João Silva", 1L));
+        RespostasSerializadas.Resposta segunda = respostas.obter(cooperado("João Silva", 1L));
+        emCachePorId(cooperado("João Atualizado", 2L));
+        RespostasSerializadas.Resposta atualizada = respostas.obter(cooperado("João Atualizado", 2L));
+
+        assertSame(primeira, segunda);
+        assertNotSame(primeira, atualizada);
+        assertTrue(new String(atualizada.json(), StandardCharsets.UTF_8).contains("João Atualizado"));
+        assertNull(atualizada.gzip());
+    }
+
+    @Test
+    @DisplayName("Deve compactar em gzip respostas acima do tamanho mínimo")
+    void deveCompactarRespostasGrandes() throws IOException {
+        RespostasSerializadas respostas = novasRespostas(0);
+
+        RespostasSerializadas.Resposta resposta = respostas.obter(cooperado("João Silva", 1L));
+
+        assertNotNull(resposta.gzip());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(resposta.gzip()))) {
+            assertArrayEquals(resposta.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve guardar a serialização de versão que não está mais no cache de cooperados")
+    void naoDeveGuardarSerializacaoDeVersaoRemovida() {
+        RespostasSerializadas respostas = novasRespostas(1024);
+
+        // Lida antes de uma alteração cujo commit já removeu o cooperado do cache
+        RespostasSerializadas.Resposta primeira = respostas.obter(cooperado("João Silva", 1L));
+        RespostasSerializadas.Resposta segunda = respostas.obter(cooperado("João Silva", 1L));
+
+        assertNotSame(primeira, segunda);
+        assertNull(cacheManager.getCache(CacheConfig.RESPOSTAS_POR_ID).get(1L));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a serialização do cooperado em cache por documento")
+    void deveReaproveitarSerializacaoDoCachePorDocumento() {
+        RespostasSerializadas respostas = novasRespostas(1024);
+        cacheManager.getCache(CacheConfig.COOPERADOS_POR_DOCUMENTO).put("12345678909", cooperado("João Silva", 1L));
+
+        assertSame(respostas.obter(cooperado("João Silva", 1L)), respostas.obter(cooperado("João Silva", 1L)));
+    }
+
+    private RespostasSerializadas novasRespostas(int tamanhoMinimoGzip) {
+        cacheManager.setCacheNames(List.of(CacheConfig.COOPERADOS_POR_ID, CacheConfig.COOPERADOS_POR_DOCUMENTO,
+                CacheConfig.RESPOSTAS_POR_ID));
+        return new RespostasSerializadas(objectMapper, cacheManager, tamanhoMinimoGzip);
+    }
+
+    private void emCachePorId(CooperadoResponse cooperado) {
+        cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID).put(cooperado.getId(), cooperado);
+    }
+
+    private static CooperadoResponse cooperado(String nome, Long versao) {
+        return new CooperadoResponse(1L, nome, "12345678909", "CPF", "123.456.789-09",
+                LocalDate.of(1990, 5, 15), new BigDecimal("3500.00"), "11987654321", "(11) 98765-4321",
+                "joao@email.com", true, LocalDateTime.of(2024, 1, 1, 10, 0), null, versao);
+    }
+}
@@ -0,0 +1,96 @@
+package com.cooperados.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o agrupamento de chamadas concorrentes
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Agrupador de chamadas")
+class AgrupadorChamadasTest {
+
+    private static final int CHAMADAS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AgrupadorChamadas<Long, String> agrupador;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        agrupador = new AgrupadorChamadas<>("id", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única consulta para chamadas concorrentes com a mesma chave")
+    void deveAgruparChamadasConcorrentes() throws Exception {
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch consultaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarConsulta = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CHAMADAS);
+
+        try {
+            Future<String> primeira = executor.submit(() -> agrupador.executar(1L, () -> {
+                consultas.incrementAndGet();
+                consultaIniciada.countDown();
+                aguardar(liberarConsulta);
+                return "cooperado 1";
+            }));
+            assertTrue(consultaIniciada.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> demais = new ArrayList<>();
+            for (int i = 1; i < CHAMADAS; i++) {
+                demais.add(executor.submit(() -> agrupador.executar(1L, () -> {
+                    consultas.incrementAndGet();
+                    return "outra consulta";
+                })));
+            }
+            while (meterRegistry.counter("cooperados.consultas.agrupadas", "consulta", "id").count() < CHAMADAS - 1) {
+                Thread.sleep(10);
+            }
+            liberarConsulta.countDown();
+
+            assertEquals("cooperado 1", primeira.get(5, TimeUnit.SECONDS));
+            for (Future<String> chamada : demais) {
+                assertEquals("cooperado 1", chamada.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, consultas.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve repassar a exceção da consulta e liberar a chave")
+    void deveRepassarExcecaoELiberarChave() {
+        IllegalStateException erro = new IllegalStateException("falha");
+
+        assertSame(erro, assertThrows(IllegalStateException.class,
+                () -> agrupador.executar(1L, () -> { throw erro; })));
+        assertEquals("cooperado 1", agrupador.executar(1L, () -> "cooperado 1"));
+        assertEquals(2.0, meterRegistry.counter("cooperados.consultas.executadas", "consulta", "id").count());
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
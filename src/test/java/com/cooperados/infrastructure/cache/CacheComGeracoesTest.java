@@ -0,0 +1,66 @@
+package com.cooperados.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cache que descarta gravações anteriores a uma remoção
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Cache com gerações")
+class CacheComGeracoesTest {
+
+    private final CacheComGeracoes cache = novoCache();
+
+    @Test
+    @DisplayName("Deve gravar quando a chave não foi removida desde o início da consulta")
+    void deveGravarSemRemocao() {
+        long geracao = cache.geracao(1L);
+
+        assertTrue(cache.putSeAtual(1L, "v1", geracao));
+        assertEquals("v1", cache.get(1L, String.class));
+    }
+
+    @Test
+    @DisplayName("Deve descartar a gravação quando a chave foi removida depois do início da consulta")
+    void deveDescartarGravacaoAposRemocao() {
+        long geracao = cache.geracao(1L);
+        cache.evict(1L);
+
+        assertFalse(cache.putSeAtual(1L, "v1", geracao));
+        cache.putIfAbsentSeAtual(1L, "v1", geracao);
+        assertNull(cache.get(1L));
+
+        assertTrue(cache.putSeAtual(1L, "v2", cache.geracao(1L)));
+    }
+
+    @Test
+    @DisplayName("Deve descartar gravações de qualquer chave após limpar o cache")
+    void deveDescartarGravacoesAposLimpeza() {
+        long geracao1 = cache.geracao(1L);
+        long geracao2 = cache.geracao("12345678909");
+        cache.clear();
+
+        assertFalse(cache.putSeAtual(1L, "v1", geracao1));
+        assertFalse(cache.putSeAtual("12345678909", "v1", geracao2));
+    }
+
+    @Test
+    @DisplayName("Deve obter o cache com gerações por trás do decorador transacional")
+    void deveObterCacheDoDecoradorTransacional() {
+        assertSame(cache, CacheComGeracoes.de(new TransactionAwareCacheDecorator(cache)));
+    }
+
+    private static CacheComGeracoes novoCache() {
+        CacheComGeracoes.Gerenciador gerenciador = new CacheComGeracoes.Gerenciador();
+        gerenciador.setCacheNames(List.of("teste"));
+        return CacheComGeracoes.de(gerenciador.getCache("teste"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.cooperados.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o filtro de Bloom de documentos
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Filtro de Bloom")
+class FiltroBloomTest {
+
+    private static final int QUANTIDADE = 100_000;
+
+    @Test
+    @DisplayName("Deve conter todas as chaves adicionadas")
+    void deveConterTodasAsChavesAdicionadas() {
+        FiltroBloom filtro = new FiltroBloom(QUANTIDADE, 0.01);
+        for (long cpf = 10_000_000_000L; cpf < 10_000_000_000L + QUANTIDADE; cpf++) {
+            filtro.adicionar(cpf);
+        }
+
+        for (long cpf = 10_000_000_000L; cpf < 10_000_000_000L + QUANTIDADE; cpf++) {
+            assertTrue(filtro.podeConter(cpf), "Falso negativo para " + cpf);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void deveManterTaxaDeFalsosPositivos() {
+        FiltroBloom filtro = new FiltroBloom(QUANTIDADE, 0.01);
+        for (long cpf = 0; cpf < QUANTIDADE; cpf++) {
+            filtro.adicionar(cpf);
+        }
+
+        int falsosPositivos = 0;
+        for (long cpf = QUANTIDADE; cpf < 2L * QUANTIDADE; cpf++) {
+            if (filtro.podeConter(cpf)) {
+                falsosPositivos++;
+            }
+        }
+
+        assertTrue(falsosPositivos < QUANTIDADE * 0.02, "Falsos positivos: " + falsosPositivos);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar capacidade e taxa inválidas")
+    void deveRejeitarParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(1000, 1.5));
+    }
+}
@@ -0,0 +1,116 @@
+package com.cooperados.infrastructure.cache;
+
+import com.cooperados.infrastructure.config.CacheConfig;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a invalidação de cache a partir das notificações do PostgreSQL
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Listener de invalidação de cache")
+class InvalidacaoCacheListenerTest {
+
+    private Cache cachePorId;
+    private Cache cachePorDocumento;
+    private Cache documentosInexistentes;
+    private ConcurrentMapCacheManager cacheManager;
+    private FiltroDocumentos filtroDocumentos;
+    private InvalidacaoCacheListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager =
+                new ConcurrentMapCacheManager(CacheConfig.COOPERADOS_POR_ID, CacheConfig.COOPERADOS_POR_DOCUMENTO,
+                        CacheConfig.RESPOSTAS_POR_ID, CacheConfig.IDS_INEXISTENTES, CacheConfig.DOCUMENTOS_INEXISTENTES);
+        cachePorId = cacheManager.getCache(CacheConfig.COOPERADOS_POR_ID);
+        cachePorDocumento = cacheManager.getCache(CacheConfig.COOPERADOS_POR_DOCUMENTO);
+        documentosInexistentes = cacheManager.getCache(CacheConfig.DOCUMENTOS_INEXISTENTES);
+        filtroDocumentos = new FiltroDocumentos(new JdbcTemplate(), null, false, Runnable::run, Optional.empty());
+        listener = new InvalidacaoCacheListener(new DataSourceProperties(), cacheManager, filtroDocumentos,
+                null, Duration.ZERO);
+
+        cachePorId.put(1L, "cooperado 1");
+        cachePorId.put(2L, "cooperado 2");
+        cachePorDocumento.put("12345678909", "cooperado 1");
+        cachePorDocumento.put("11222333000181", "cooperado 2");
+    }
+
+    @Test
+    @DisplayName("Deve remover dos caches somente o cooperado notificado")
+    void deveRemoverCooperadoNotificado() {
+        listener.invalidar("1,12345678909");
+
+        assertNull(cachePorId.get(1L));
+        assertNull(cachePorDocumento.get("12345678909"));
+        assertNotNull(cachePorId.get(2L));
+        assertNotNull(cachePorDocumento.get("11222333000181"));
+    }
+
+    @Test
+    @DisplayName("Deve remover a ausência registrada do documento notificado")
+    void deveRemoverDocumentoInexistenteNotificado() {
+        documentosInexistentes.put("52998224725", Boolean.TRUE);
+
+        listener.invalidar("3,52998224725");
+
+        assertNull(documentosInexistentes.get("52998224725"));
+    }
+
+    @Test
+    @DisplayName("Deve esvaziar os caches na notificação de carga em massa")
+    void deveEsvaziarCachesNaCargaEmMassa() {
+        listener.invalidar("*");
+
+        assertNull(cachePorId.get(1L));
+        assertNull(cachePorId.get(2L));
+        assertNull(cachePorDocumento.get("11222333000181"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar payload sem separador")
+    void deveIgnorarPayloadInvalido() {
+        listener.invalidar("12345678909");
+
+        assertNotNull(cachePorId.get(1L));
+        assertNotNull(cachePorDocumento.get("12345678909"));
+    }
+
+    @Test
+    @DisplayName("Deve repetir a invalidação após o atraso máximo das réplicas")
+    void deveRepetirInvalidacaoComReplicas() {
+        TaskScheduler agendador = mock(TaskScheduler.class);
+        listener = new InvalidacaoCacheListener(new DataSourceProperties(), cacheManager, filtroDocumentos,
+                agendador, Duration.ofSeconds(5));
+        Instant antes = Instant.now();
+
+        listener.invalidar("1,12345678909");
+        // Leitura numa réplica ainda atrasada devolve a versão anterior ao cache
+        cachePorId.put(1L, "cooperado 1 desatualizado");
+
+        ArgumentCaptor<Runnable> invalidacao = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> momento = ArgumentCaptor.forClass(Instant.class);
+        verify(agendador).schedule(invalidacao.capture(), momento.capture());
+        assertFalse(momento.getValue().isBefore(antes.plusSeconds(5)));
+
+        invalidacao.getValue().run();
+
+        assertNull(cachePorId.get(1L));
+        assertNotNull(cachePorId.get(2L));
+    }
+}
@@ -50,4 +50,13 @@ class CooperadoNaoEncontradoExceptionTest {
         assertNotNull(stackTrace);
         assertTrue(stackTrace.length > 0);
     }
+
+    @Test
+    @DisplayName("Deve criar exceção de busca por ID sem stack trace")
+    void deveCriarExcecaoPorIdSemStackTrace() {
+        CooperadoNaoEncontradoException exception = CooperadoNaoEncontradoException.porId(123L);
+
+        assertEquals("Cooperado não encontrado com ID: 123", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
 }
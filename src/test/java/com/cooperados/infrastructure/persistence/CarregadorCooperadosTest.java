@@ -0,0 +1,106 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.valueobject.Documento;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o carregamento em lote de cooperados por ID
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Carregador de cooperados em lote")
+class CarregadorCooperadosTest {
+
+    private final List<List<Long>> consultas = new CopyOnWriteArrayList<>();
+
+    /**
+     * Simula a tabela com os IDs 1 a 10
+     */
+    private final Function<Long[], List<Cooperado>> consulta = ids -> {
+        consultas.add(Arrays.asList(ids));
+        return Arrays.stream(ids)
+                .filter(id -> id <= 10)
+                .map(CarregadorCooperadosTest::cooperado)
+                .toList();
+    };
+
+    @Test
+    @DisplayName("Deve resolver buscas concorrentes por IDs diferentes com uma única consulta")
+    void deveAgruparBuscasConcorrentes() throws Exception {
+        CarregadorCooperados carregador = new CarregadorCooperados(
+                consulta, new SimpleMeterRegistry(), true, Duration.ofMillis(500), 100);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        try {
+            List<Future<Optional<Cooperado>>> buscas = new ArrayList<>();
+            for (long id = 1; id <= 5; id++) {
+                long idBuscado = id;
+                buscas.add(executor.submit(() -> carregador.carregar(idBuscado)));
+            }
+
+            for (int i = 0; i < buscas.size(); i++) {
+                assertEquals(i + 1L, buscas.get(i).get(5, TimeUnit.SECONDS).orElseThrow().getId());
+            }
+            assertEquals(1, consultas.size());
+            assertEquals(5, consultas.get(0).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve executar o lote assim que atingir o tamanho máximo")
+    void deveExecutarLoteCheio() throws Exception {
+        CarregadorCooperados carregador = new CarregadorCooperados(
+                consulta, new SimpleMeterRegistry(), true, Duration.ofMinutes(1), 2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Optional<Cooperado>> primeira = executor.submit(() -> carregador.carregar(1L));
+            Future<Optional<Cooperado>> segunda = executor.submit(() -> carregador.carregar(2L));
+
+            assertTrue(primeira.get(5, TimeUnit.SECONDS).isPresent());
+            assertTrue(segunda.get(5, TimeUnit.SECONDS).isPresent());
+            assertEquals(1, consultas.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para ID inexistente")
+    void deveRetornarVazioParaIdInexistente() {
+        CarregadorCooperados carregador = new CarregadorCooperados(
+                consulta, new SimpleMeterRegistry(), true, Duration.ofMillis(1), 100);
+
+        assertTrue(carregador.carregar(99L).isEmpty());
+    }
+
+    private static Cooperado cooperado(Long id) {
+        Cooperado cooperado = new Cooperado("Cooperado " + id, new Documento("52998224725"),
+                LocalDate.of(1990, 1, 1), BigDecimal.TEN, null, null);
+        ReflectionTestUtils.setField(cooperado, "id", id);
+        return cooperado;
+    }
+}
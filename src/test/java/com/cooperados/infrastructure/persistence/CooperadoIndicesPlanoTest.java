@@ -0,0 +1,257 @@
+package com.cooperados.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes dos planos de execução escolhidos pelo PostgreSQL para as consultas do repositório
+ *
+ * Aplica as migrações reais em um PostgreSQL descartável e verifica, via EXPLAIN, que as
+ * consultas de ativos usam os índices parciais e de cobertura e que as consultas filtradas por
+ * tipo de documento leem só a partição correspondente. Ignorado quando não há Docker.
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Planos de execução dos índices de cooperados")
+class CooperadoIndicesPlanoTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static Connection conexao;
+
+    @BeforeAll
+    static void prepararBanco() throws SQLException, InterruptedException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        conexao = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = conexao.createStatement()) {
+            // 20 mil cooperados: 1 a cada 5 pessoa jurídica, 1 a cada 10 inativo
+            statement.execute("""
+                    INSERT INTO cooperados (nome, tipo_documento, documento_cpf, documento_cnpj,
+                        data_nascimento_constituicao, renda_faturamento, telefone, ativo, versao)
+                    SELECT 'Cooperado ' || g,
+                        CASE WHEN g % 5 = 0 THEN 'CNPJ' ELSE 'CPF' END,
+                        CASE WHEN g % 5 = 0 THEN NULL ELSE lpad(g::text, 11, '0') END,
+                        CASE WHEN g % 5 = 0 THEN lpad(g::text, 14, '0') END,
+                        DATE '1950-01-01' + g,
+                        (g % 5000) + 1,
+                        '11987654321',
+                        g % 10 <> 0,
+                        0
+                    FROM generate_series(1, 20000) g
+                    """);
+            vacuumAteTodasPaginasVisiveis(statement);
+        }
+    }
+
+    /**
+     * Atualiza estatísticas e o visibility map, necessário para index-only scans.
+     *
+     * Logo após a carga, snapshots de processos em segundo plano podem impedir o VACUUM de
+     * marcar as páginas como visíveis; por isso repete até cobrir todas as partições.
+     */
+    private static void vacuumAteTodasPaginasVisiveis(Statement statement) throws SQLException, InterruptedException {
+        for (int tentativa = 0; tentativa < 50; tentativa++) {
+            statement.execute("VACUUM ANALYZE cooperados");
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT bool_and(relallvisible >= relpages) FROM pg_class " +
+                    "WHERE relname IN ('cooperados_pessoa_fisica', 'cooperados_pessoa_juridica')")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    return;
+                }
+            }
+            Thread.sleep(100);
+        }
+        fail("VACUUM não marcou todas as páginas de cooperados como visíveis");
+    }
+
+    @AfterAll
+    static void fecharConexao() throws SQLException {
+        if (conexao != null) {
+            conexao.close();
+        }
+    }
+
+    @Test
+    @DisplayName("existsByCpf deve ser resolvido somente pelo índice único com ativo incluído")
+    void existsByCpfDeveUsarIndexOnlyScan() throws SQLException {
+        String plano = plano("SELECT count(*) > 0 FROM cooperados WHERE documento_cpf = '00000000001' AND ativo = true " +
+                "AND tipo_documento = 'CPF'");
+
+        assertTrue(plano.contains("Index Only Scan using uk_cooperados_pessoa_fisica_cpf"), plano);
+        assertFalse(plano.contains("cooperados_pessoa_juridica"), plano);
+    }
+
+    @Test
+    @DisplayName("existsByCnpj deve ser resolvido somente pelo índice único com ativo incluído")
+    void existsByCnpjDeveUsarIndexOnlyScan() throws SQLException {
+        String plano = plano("SELECT count(*) > 0 FROM cooperados WHERE documento_cnpj = '00000000000005' AND ativo = true " +
+                "AND tipo_documento = 'CNPJ'");
+
+        assertTrue(plano.contains("Index Only Scan using uk_cooperados_pessoa_juridica_cnpj"), plano);
+        assertFalse(plano.contains("cooperados_pessoa_fisica"), plano);
+    }
+
+    @Test
+    @DisplayName("existsByDocumento deve usar index-only scan no índice parcial de documento_numero")
+    void existsByDocumentoDeveUsarIndexOnlyScan() throws SQLException {
+        String plano = plano("SELECT count(*) > 0 FROM cooperados WHERE documento_numero = '00000000001' AND ativo = true " +
+                "AND tipo_documento = CASE WHEN length('00000000001') = 11 THEN 'CPF' ELSE 'CNPJ' END");
+
+        assertTrue(plano.contains("Index Only Scan using uk_cooperados_pessoa_fisica_documento_numero_ativo"), plano);
+        assertFalse(plano.contains("cooperados_pessoa_juridica"), plano);
+    }
+
+    @Test
+    @DisplayName("countByTipoDocumento deve usar index-only scan no índice parcial de tipo, só na partição do tipo")
+    void countByTipoDocumentoDeveUsarIndexOnlyScan() throws SQLException {
+        String plano = plano("SELECT count(*) FROM cooperados WHERE tipo_documento = 'CNPJ' AND ativo = true");
+
+        assertTrue(plano.contains("Index Only Scan using idx_cooperados_pessoa_juridica_tipo_documento_ativo"), plano);
+        assertFalse(plano.contains("cooperados_pessoa_fisica"), plano);
+    }
+
+    @Test
+    @DisplayName("findByTipoDocumento com parâmetro deve descartar a outra partição também no plano genérico")
+    void findByTipoDocumentoDeveDescartarParticaoNoPlanoGenerico() throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            statement.execute("PREPARE por_tipo(varchar) AS " +
+                    "SELECT * FROM cooperados WHERE tipo_documento = $1 AND ativo = true");
+            try {
+                String plano = explicar("EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE por_tipo('CPF')");
+
+                assertTrue(plano.contains("Subplans Removed: 1"), plano);
+                assertTrue(plano.contains("cooperados_pessoa_fisica"), plano);
+                assertFalse(plano.contains("cooperados_pessoa_juridica"), plano);
+            } finally {
+                statement.execute("DEALLOCATE por_tipo");
+                statement.execute("RESET plan_cache_mode");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Buscas por vários documentos devem ler só a partição de cada documento no plano genérico")
+    void buscasPorVariosDocumentosDevemDescartarParticao() throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            statement.execute("PREPARE por_documentos(varchar[]) AS " +
+                    "SELECT c.* FROM cooperados c WHERE c.ativo = true " +
+                    "AND (c.documento_numero, c.tipo_documento) IN (" +
+                    "SELECT d, CASE WHEN length(d) = 11 THEN 'CPF' ELSE 'CNPJ' END FROM unnest($1) AS d)");
+            statement.execute("PREPARE cadastrados(varchar[]) AS " +
+                    "SELECT c.documento_numero FROM unnest($1) AS n " +
+                    "JOIN cooperados c ON c.tipo_documento = CASE WHEN length(n) = 11 THEN 'CPF' ELSE 'CNPJ' END " +
+                    "AND (c.documento_cpf = n OR c.documento_cnpj = n)");
+            try {
+                String planoAtivos = explicar("EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) " +
+                        "EXECUTE por_documentos(ARRAY['00000000001', '00000000002'])");
+                String planoCadastrados = explicar("EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) " +
+                        "EXECUTE cadastrados(ARRAY['00000000001', '00000000002'])");
+
+                assertTrue(planoAtivos.contains("uk_cooperados_pessoa_fisica_documento_numero_ativo"), planoAtivos);
+                assertTrue(planoAtivos.contains("on cooperados_pessoa_juridica c_1 (never executed)"), planoAtivos);
+                assertTrue(planoCadastrados.contains("uk_cooperados_pessoa_fisica_cpf"), planoCadastrados);
+                assertTrue(planoCadastrados.contains("on cooperados_pessoa_juridica c_1 (never executed)"), planoCadastrados);
+            } finally {
+                statement.execute("DEALLOCATE por_documentos");
+                statement.execute("DEALLOCATE cadastrados");
+                statement.execute("RESET plan_cache_mode");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Unicidade de CPF e de documento ativo deve continuar garantida na tabela particionada")
+    void unicidadeDeDocumentoDeveSerMantida() throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            SQLException erro = assertThrows(SQLException.class, () -> statement.execute("""
+                    INSERT INTO cooperados (nome, tipo_documento, documento_cpf,
+                        data_nascimento_constituicao, renda_faturamento, telefone)
+                    VALUES ('Duplicado', 'CPF', '00000000001', DATE '1990-01-01', 1, '11987654321')
+                    """));
+
+            assertEquals("23505", erro.getSQLState());
+            assertTrue(erro.getMessage().contains("uk_cooperados_pessoa_fisica_"), erro.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Busca por faixa de renda deve usar o índice parcial de renda")
+    void buscaPorFaixaRendaDeveUsarIndiceParcial() throws SQLException {
+        String plano = plano("SELECT * FROM cooperados WHERE renda_faturamento BETWEEN 100 AND 102 AND ativo = true");
+
+        assertTrue(plano.contains("idx_cooperados_pessoa_fisica_renda_faturamento_ativo"), plano);
+        assertTrue(plano.contains("idx_cooperados_pessoa_juridica_renda_faturamento_ativo"), plano);
+    }
+
+    @Test
+    @DisplayName("Busca por período deve usar o índice parcial de data")
+    void buscaPorPeriodoDeveUsarIndiceParcial() throws SQLException {
+        String plano = plano("SELECT * FROM cooperados WHERE data_nascimento_constituicao " +
+                "BETWEEN DATE '1960-01-01' AND DATE '1960-01-31' AND ativo = true");
+
+        assertTrue(plano.contains("idx_cooperados_pessoa_fisica_data_nascimento_ativo"), plano);
+    }
+
+    @Test
+    @DisplayName("Listagem de ativos ordenada por nome deve usar o índice parcial de nome sem ordenação em memória")
+    void listagemPorNomeDeveUsarIndiceParcial() throws SQLException {
+        String plano = plano("SELECT * FROM cooperados WHERE ativo = true ORDER BY nome, id LIMIT 20");
+
+        // As partições já vêm ordenadas pelos índices e são intercaladas (Merge Append)
+        assertTrue(plano.contains("Merge Append"), plano);
+        assertTrue(plano.contains("idx_cooperados_pessoa_fisica_nome_ativo"), plano);
+        assertTrue(plano.contains("idx_cooperados_pessoa_juridica_nome_ativo"), plano);
+        assertFalse(plano.contains("Sort  ("), plano);
+    }
+
+    @Test
+    @DisplayName("Índice de baixa seletividade sobre ativo não deve mais existir")
+    void indiceSobreAtivoDeveTerSidoRemovido() throws SQLException {
+        try (Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT count(*) FROM pg_indexes WHERE indexname = 'idx_cooperados_ativo'")) {
+            rs.next();
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    private String plano(String sql) throws SQLException {
+        return explicar("EXPLAIN " + sql);
+    }
+
+    private String explicar(String explain) throws SQLException {
+        StringBuilder plano = new StringBuilder();
+        try (Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery(explain)) {
+            while (rs.next()) {
+                plano.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plano.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.domain.entity.Cooperado;
+import com.cooperados.domain.valueobject.Documento;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.text.Collator;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a combinação das linhas de vários nós na fragmentação
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Repositório fragmentado")
+class CooperadoRepositoryFragmentadoTest {
+
+    /**
+     * Collation dos nós simulados: acentos e maiúsculas não vêm depois de "z", como em
+     * String.compareTo
+     */
+    private static final Collator COLLATION = Collator.getInstance(Locale.forLanguageTag("pt-BR"));
+
+    private final RoteadorFragmentos roteador = mock(RoteadorFragmentos.class);
+    private final JdbcTemplate no0 = mock(JdbcTemplate.class);
+    private final CooperadoRepositoryImpl nos = mock(CooperadoRepositoryImpl.class);
+    private final Map<String, Integer> noDoDocumento = new LinkedHashMap<>();
+    private int noAtual;
+    private CooperadoRepositoryFragmentado fragmentado;
+    private CooperadoRepositoryImpl repositorio;
+
+    // Nó 0: "Álvaro" e "bruno"; nó 1: "ana" e "Carlos"
+    private final Cooperado alvaro = cooperado(1L, "Álvaro", "07162021824", 0);
+    private final Cooperado bruno = cooperado(2L, "bruno", "32200238789", 0);
+    private final Cooperado ana = cooperado(3L, "ana", "86391106541", 1);
+    private final Cooperado carlos = cooperado(4L, "Carlos", "33565933313", 1);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(roteador.getTotalNos()).thenReturn(2);
+        when(roteador.noDoDocumento(anyString())).thenAnswer(invocacao -> noDoDocumento.get(invocacao.getArgument(0)));
+        when(roteador.executarEmNos(any(), anyBoolean(), any())).thenAnswer(invocacao -> {
+            Map<Integer, Object> resultados = new LinkedHashMap<>();
+            for (Integer no : (Iterable<Integer>) invocacao.getArgument(0)) {
+                noAtual = no;
+                resultados.put(no, ((IntFunction<Object>) invocacao.getArgument(2)).apply(no));
+            }
+            return resultados;
+        });
+        when(roteador.executarIsolado(anyInt(), anyBoolean(), any())).thenAnswer(invocacao -> {
+            noAtual = invocacao.getArgument(0);
+            return ((Supplier<Object>) invocacao.getArgument(2)).get();
+        });
+        when(no0.queryForList(anyString(), eq(String.class), any(Object[].class))).thenAnswer(invocacao -> {
+            String[] textos = ((String[]) invocacao.getArgument(2)).clone();
+            Arrays.sort(textos, COLLATION);
+            return List.of(textos);
+        });
+
+        ProxyFactory fabrica = new ProxyFactory();
+        fabrica.setTarget(nos);
+        fabrica.addInterface(CooperadoRepositoryImpl.class);
+        fragmentado = new CooperadoRepositoryFragmentado(roteador, null, no0);
+        fabrica.addAdvice(fragmentado);
+        repositorio = (CooperadoRepositoryImpl) fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve combinar o cursor por nome na collation do banco")
+    void deveCombinarCursorPorNomeNaCollationDoBanco() {
+        when(nos.findProximaPaginaPorNome("", 0L, 2)).thenAnswer(invocacao ->
+                noAtual == 0 ? List.of(alvaro, bruno) : List.of(ana, carlos));
+        when(nos.findProximaPaginaPorNomeDesc("zzz", Long.MAX_VALUE, 2)).thenAnswer(invocacao ->
+                noAtual == 0 ? List.of(bruno, alvaro) : List.of(carlos, ana));
+
+        // Em String.compareTo seriam "Carlos" e "ana", e o cursor seguinte pularia "Álvaro"
+        assertEquals(List.of(alvaro, ana), repositorio.findProximaPaginaPorNome("", 0L, 2));
+        assertEquals(List.of(carlos, bruno), repositorio.findProximaPaginaPorNomeDesc("zzz", Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar a página por nome na collation do banco")
+    void deveOrdenarPaginaPorNomeNaCollationDoBanco() {
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("nome"));
+        when(nos.findByAtivoTrue(PageRequest.of(0, 4, Sort.by("nome")))).thenAnswer(invocacao ->
+                noAtual == 0 ? new PageImpl<>(List.of(alvaro, bruno)) : new PageImpl<>(List.of(ana, carlos)));
+
+        Page<Cooperado> pagina = repositorio.findByAtivoTrue(pageable);
+
+        assertEquals(List.of(bruno, carlos), pagina.getContent());
+        assertEquals(4, pagina.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer os ativos de todos os nós em ordem de ID, lendo só ativos de cada nó")
+    void devePercorrerAtivosDeTodosOsNosEmOrdemDeId() {
+        when(nos.findProximaPaginaAtivosPorId(anyLong(), anyInt())).thenAnswer(invocacao -> {
+            long ultimo = invocacao.getArgument(0);
+            List<Cooperado> doNo = noAtual == 0 ? List.of(alvaro, bruno) : List.of(ana, carlos);
+            return doNo.stream().filter(cooperado -> cooperado.getId() > ultimo).toList();
+        });
+
+        try (Stream<Cooperado> ativos = repositorio.streamByAtivoTrue()) {
+            assertEquals(List.of(alvaro, bruno, ana, carlos), ativos.toList());
+        }
+        verify(nos, never()).findProximaPaginaPorId(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve recusar ao iniciar método do repositório sem regra de distribuição")
+    void deveRecusarMetodoSemRegraDeDistribuicao() {
+        assertDoesNotThrow(() -> fragmentado.verificarRoteamentos(CooperadoRepositoryImpl.class));
+
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> fragmentado.verificarRoteamentos(RepositorioComConsultaNova.class));
+        assertEquals("Métodos do repositório sem regra de fragmentação: [RepositorioComConsultaNova.findByEmail]",
+                erro.getMessage());
+    }
+
+    /**
+     * Repositório com uma consulta acrescentada sem regra de distribuição
+     */
+    private interface RepositorioComConsultaNova extends CooperadoRepositoryImpl {
+
+        List<Cooperado> findByEmail(String email);
+    }
+
+    private Cooperado cooperado(Long id, String nome, String cpf, int no) {
+        Cooperado cooperado = new Cooperado(nome, new Documento(cpf), LocalDate.of(1990, 1, 1), BigDecimal.TEN,
+                null, null);
+        ReflectionTestUtils.setField(cooperado, "id", id);
+        noDoDocumento.put(cpf, no);
+        return cooperado;
+    }
+}
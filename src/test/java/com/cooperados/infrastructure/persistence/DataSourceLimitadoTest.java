@@ -0,0 +1,57 @@
+package com.cooperados.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o limitador de conexões do modo de threads virtuais
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("DataSource limitado")
+class DataSourceLimitadoTest {
+
+    @Test
+    @DisplayName("Deve rejeitar a obtenção de conexão quando a fila de espera está cheia")
+    void deveRejeitarComFilaCheia() throws Exception {
+        DataSourceLimitado dataSource = new DataSourceLimitado(pool(), 1, 0, Duration.ofSeconds(5));
+
+        try (Connection conexao = dataSource.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+            assertEquals(1, dataSource.getRejeitadas());
+        }
+        assertEquals(0, dataSource.getAguardando());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar após a espera máxima e liberar a permissão uma única vez ao fechar")
+    void deveLiberarPermissaoAoFechar() throws Exception {
+        DataSourceLimitado dataSource = new DataSourceLimitado(pool(), 1, 10, Duration.ofMillis(20));
+
+        Connection conexao = dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        conexao.close();
+        conexao.close();
+
+        try (Connection primeira = dataSource.getConnection()) {
+            assertNotNull(primeira);
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+        assertEquals(2, dataSource.getRejeitadas());
+    }
+
+    private static DataSource pool() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocacao -> mock(Connection.class));
+        return pool;
+    }
+}
@@ -0,0 +1,141 @@
+package com.cooperados.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o roteamento entre primário e réplicas de leitura
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("DataSource roteado")
+class DataSourceRoteadoTest {
+
+    private final Connection conexaoPrimario = mock(Connection.class);
+    private final Connection conexaoReplica1 = mock(Connection.class);
+    private final Connection conexaoReplica2 = mock(Connection.class);
+    private DataSourceRoteado dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica(conexaoReplica1, 0.5));
+        replicas.put("replica-2", replica(conexaoReplica2, 0.5));
+        dataSource = new DataSourceRoteado(dataSource(conexaoPrimario), replicas,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve alternar as leituras entre as réplicas e enviar o resto ao primário")
+    void deveAlternarLeiturasEntreReplicas() throws Exception {
+        assertSame(conexaoPrimario, dataSource.getConnection(), "réplicas ainda não verificadas");
+        dataSource.verificarReplicas();
+
+        iniciarTransacao(true);
+        assertSame(conexaoReplica1, dataSource.getConnection());
+        assertSame(conexaoReplica2, dataSource.getConnection());
+        assertSame(conexaoReplica1, dataSource.getConnection());
+
+        iniciarTransacao(false);
+        assertSame(conexaoPrimario, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Deve deixar de ler da réplica com atraso acima do máximo")
+    void deveIgnorarReplicaAtrasada() throws Exception {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica(conexaoReplica1, 12.0));
+        replicas.put("replica-2", replica(conexaoReplica2, 0.0));
+        dataSource = new DataSourceRoteado(dataSource(conexaoPrimario), replicas,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), new SimpleMeterRegistry());
+        dataSource.verificarReplicas();
+
+        iniciarTransacao(true);
+        assertSame(conexaoReplica2, dataSource.getConnection());
+        assertSame(conexaoReplica2, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário após a própria escrita, na requisição e pelo cookie")
+    void deveLerDoPrimarioAposEscrita() throws Exception {
+        dataSource.verificarReplicas();
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), resposta));
+
+        iniciarTransacao(false);
+        dataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        iniciarTransacao(true);
+        assertSame(conexaoPrimario, dataSource.getConnection());
+        Cookie cookie = resposta.getCookie(DataSourceRoteado.COOKIE_ESCRITA);
+        assertNotNull(cookie);
+        assertEquals(5, cookie.getMaxAge());
+
+        MockHttpServletRequest proxima = new MockHttpServletRequest();
+        proxima.setCookies(new Cookie(DataSourceRoteado.COOKIE_ESCRITA, "1"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(proxima));
+        assertSame(conexaoPrimario, dataSource.getConnection());
+    }
+
+    private static void iniciarTransacao(boolean somenteLeitura) {
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(somenteLeitura);
+    }
+
+    private static DataSource dataSource(Connection conexao) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(conexao);
+        return dataSource;
+    }
+
+    /**
+     * Réplica cuja verificação responde com o atraso informado
+     */
+    private static DataSource replica(Connection conexao, double atrasoSegundos) throws SQLException {
+        Connection verificacao = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultado = mock(ResultSet.class);
+        when(verificacao.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultado);
+        when(resultado.next()).thenReturn(true);
+        when(resultado.getDouble(1)).thenReturn(atrasoSegundos);
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(verificacao, conexao);
+        return dataSource;
+    }
+}
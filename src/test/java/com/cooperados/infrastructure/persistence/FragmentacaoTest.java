@@ -0,0 +1,61 @@
+package com.cooperados.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para as regras de fragmentação
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Fragmentação")
+class FragmentacaoTest {
+
+    @Test
+    @DisplayName("Deve calcular o mesmo fragmento que a função SQL cooperados_fragmento_documento")
+    void deveCalcularMesmoFragmentoQueFuncaoSql() {
+        // Valores obtidos com SELECT cooperados_fragmento_documento(...) no PostgreSQL
+        assertEquals(599, Fragmentacao.fragmentoDoDocumento("12345678901"));
+        assertEquals(994, Fragmentacao.fragmentoDoDocumento("98765432100"));
+        assertEquals(1023, Fragmentacao.fragmentoDoDocumento("11222333000181"));
+        assertEquals(45, Fragmentacao.fragmentoDoDocumento("00000000191"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar a formatação do documento")
+    void deveIgnorarFormatacaoDoDocumento() {
+        assertEquals(Fragmentacao.fragmentoDoDocumento("12345678901"),
+                Fragmentacao.fragmentoDoDocumento("123.456.789-01"));
+        assertEquals(Fragmentacao.fragmentoDoDocumento("11222333000181"),
+                Fragmentacao.fragmentoDoDocumento("11.222.333/0001-81"));
+    }
+
+    @Test
+    @DisplayName("Deve codificar o fragmento no ID gerado a partir da faixa do nó")
+    void deveCodificarFragmentoNoId() {
+        long id = Fragmentacao.idFragmentado(Fragmentacao.inicioSequenciaNo(2) + 7, 599);
+
+        assertEquals(599, Fragmentacao.fragmentoDoId(id));
+        assertTrue(id >= Fragmentacao.PRIMEIRO_ID_FRAGMENTADO);
+        assertEquals(Fragmentacao.PRIMEIRO_ID_FRAGMENTADO,
+                Fragmentacao.idFragmentado(Fragmentacao.inicioSequenciaNo(0), 0));
+    }
+
+    @Test
+    @DisplayName("Deve manter os IDs do último nó abaixo de 2^53")
+    void deveManterIdsAbaixoDoLimiteJavaScript() {
+        long maiorSequencial = Fragmentacao.inicioSequenciaNo(Fragmentacao.MAXIMO_NOS) - 1;
+
+        assertTrue(Fragmentacao.idFragmentado(maiorSequencial, Fragmentacao.TOTAL_FRAGMENTOS - 1) < (1L << 53));
+    }
+
+    @Test
+    @DisplayName("Deve indicar fragmento desconhecido para IDs anteriores à fragmentação")
+    void deveIndicarFragmentoDesconhecidoParaIdsAntigos() {
+        assertEquals(-1, Fragmentacao.fragmentoDoId(1L));
+        assertEquals(-1, Fragmentacao.fragmentoDoId(Fragmentacao.PRIMEIRO_ID_FRAGMENTADO - 1));
+    }
+}
@@ -0,0 +1,74 @@
+package com.cooperados.infrastructure.persistence;
+
+import com.cooperados.infrastructure.persistence.RebalanceadorFragmentos.Movimento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o plano de rebalanceamento de fragmentos
+ *
+ * @author Cooperados Team
+ * @version 1.0.0
+ */
+@DisplayName("Rebalanceador de fragmentos")
+class RebalanceadorFragmentosTest {
+
+    @Test
+    @DisplayName("Deve distribuir os fragmentos do nó 0 igualmente entre os nós novos")
+    void deveDistribuirFragmentosEntreNosNovos() {
+        int[] nos = new int[Fragmentacao.TOTAL_FRAGMENTOS];
+
+        List<Movimento> plano = RebalanceadorFragmentos.planejar(nos, 3);
+
+        assertEquals(2, plano.size());
+        assertEquals(new Movimento(0, 1, plano.get(0).fragmentos()), plano.get(0));
+        assertEquals(new Movimento(0, 2, plano.get(1).fragmentos()), plano.get(1));
+        assertArrayEquals(new int[] {342, 341, 341}, MapaFragmentos.contarPorNo(aplicar(nos, plano), 3));
+    }
+
+    @Test
+    @DisplayName("Deve mover só os excedentes ao acrescentar um nó")
+    void deveMoverSoExcedentes() {
+        int[] nos = new int[Fragmentacao.TOTAL_FRAGMENTOS];
+        for (int fragmento = 0; fragmento < nos.length; fragmento++) {
+            nos[fragmento] = fragmento % 2;
+        }
+
+        List<Movimento> plano = RebalanceadorFragmentos.planejar(nos, 3);
+
+        int movidos = plano.stream().mapToInt(movimento -> movimento.fragmentos().size()).sum();
+        assertEquals(341, movidos);
+        assertTrue(plano.stream().allMatch(movimento -> movimento.destino() == 2));
+        int[] porNo = MapaFragmentos.contarPorNo(aplicar(nos, plano), 3);
+        assertEquals(Fragmentacao.TOTAL_FRAGMENTOS, Arrays.stream(porNo).sum());
+        assertTrue(Arrays.stream(porNo).allMatch(quantidade -> quantidade == 341 || quantidade == 342));
+    }
+
+    @Test
+    @DisplayName("Deve retornar plano vazio quando os nós já estão equilibrados")
+    void deveRetornarPlanoVazioQuandoEquilibrado() {
+        int[] nos = new int[Fragmentacao.TOTAL_FRAGMENTOS];
+        for (int fragmento = 0; fragmento < nos.length; fragmento++) {
+            nos[fragmento] = fragmento % 3;
+        }
+
+        assertTrue(RebalanceadorFragmentos.planejar(nos, 3).isEmpty());
+        assertTrue(RebalanceadorFragmentos.planejar(new int[Fragmentacao.TOTAL_FRAGMENTOS], 1).isEmpty());
+    }
+
+    private static int[] aplicar(int[] nos, List<Movimento> plano) {
+        int[] resultado = nos.clone();
+        for (Movimento movimento : plano) {
+            for (int fragmento : movimento.fragmentos()) {
+                assertEquals(movimento.origem(), resultado[fragmento]);
+                resultado[fragmento] = movimento.destino();
+            }
+        }
+        return resultado;
+    }
+}